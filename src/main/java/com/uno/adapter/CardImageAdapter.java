@@ -1,11 +1,13 @@
 package com.uno.adapter;
 
 import com.uno.model.Card;
-import javafx.scene.image.Image;
+import com.uno.util.CardAtlas;
 import javafx.scene.image.ImageView;
 
 /**
  * Adapta una {@link Card} a un {@link ImageView}.
+ * Todas las vistas comparten la textura del {@link CardAtlas} y solo
+ * cambian el rectángulo visible.
  */
 public final class CardImageAdapter {
 
@@ -18,10 +20,9 @@ public final class CardImageAdapter {
      * @return imagen de la carta lista para la GUI
      */
     public static ImageView adapt(Card card) {
-        String path = "/images/cards/" + card.getImageFileName();
-        Image img   = new Image(CardImageAdapter.class.getResourceAsStream(path));
-        ImageView v = new ImageView(img);
-        v.setFitWidth(80);
+        ImageView v = new ImageView();
+        CardAtlas.getInstance().show(v, card);
+        v.setFitWidth(CardAtlas.CARD_WIDTH);
         v.setPreserveRatio(true);
         return v;
     }
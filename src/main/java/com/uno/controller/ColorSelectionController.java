@@ -3,16 +3,20 @@ package com.uno.controller;
 
 
 import com.uno.model.enums.CardColor;
+import com.uno.util.logging.GameLogger;
 import javafx.fxml.FXML;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.shape.Rectangle;
-import javafx.stage.Stage;
+
+import java.util.function.Consumer;
 
 /**
  * Controlador para la vista de selección de color.
  */
 public class ColorSelectionController {
 
+    private static final GameLogger LOG = GameLogger.getLogger(ColorSelectionController.class);
+
     @FXML
     private Rectangle redColorRect;
 
@@ -25,16 +29,16 @@ public class ColorSelectionController {
     @FXML
     private Rectangle yellowColorRect;
 
-    private Stage dialogStage;
+    private Consumer<CardColor> onColorSelected;
     private CardColor selectedColor;
 
     /**
-     * Establece el escenario para este diálogo.
+     * Establece la acción que recibe cada color elegido.
      *
-     * @param dialogStage escenario del diálogo
+     * @param onColorSelected acción a ejecutar tras cada elección
      */
-    public void setDialogStage(Stage dialogStage) {
-        this.dialogStage = dialogStage;
+    public void setOnColorSelected(Consumer<CardColor> onColorSelected) {
+        this.onColorSelected = onColorSelected;
     }
 
     /**
@@ -50,24 +54,23 @@ public class ColorSelectionController {
         // Determinar qué color se seleccionó
         if (clickedRect == redColorRect) {
             selectedColor = CardColor.RED;
-            System.out.println("Color seleccionado: Rojo");
         } else if (clickedRect == blueColorRect) {
             selectedColor = CardColor.BLUE;
-            System.out.println("Color seleccionado: Azul");
         } else if (clickedRect == greenColorRect) {
             selectedColor = CardColor.GREEN;
-            System.out.println("Color seleccionado: Verde");
         } else if (clickedRect == yellowColorRect) {
             selectedColor = CardColor.YELLOW;
-            System.out.println("Color seleccionado: Amarillo");
         }
+        LOG.debug(() -> "Color seleccionado: " + selectedColor);
 
-        // Cerrar la ventana de diálogo
-        dialogStage.close();
+        // Avisar a quien muestra la vista
+        if (selectedColor != null && onColorSelected != null) {
+            onColorSelected.accept(selectedColor);
+        }
     }
 
     /**
-     * Obtiene el color seleccionado.
+     * Obtiene el último color seleccionado.
      *
      * @return el color seleccionado
      */
@@ -2,42 +2,75 @@ package com.uno.controller;
 
 import com.uno.exceptions.EmptyDeckException;
 import com.uno.exceptions.InvalidCardPlayException;
+import com.uno.exceptions.UnoDeclarationException;
 import com.uno.model.Card;
-import com.uno.adapter.CardImageAdapter;
-import com.uno.model.Deck;
-import com.uno.model.Player;
-import com.uno.model.HumanPlayer;
 import com.uno.model.ComputerPlayer;
+import com.uno.model.Game;
+import com.uno.model.GameCommand;
+import com.uno.model.GameListener;
+import com.uno.model.GameSnapshot;
+import com.uno.model.Player;
+import com.uno.model.ai.IsmctsStrategy;
 import com.uno.model.enums.CardColor;
 import com.uno.model.enums.CardType;
+import com.uno.model.enums.DrawReason;
 import com.uno.model.enums.GameState;
-import com.uno.util.CardImageLoader;
-
+import com.uno.persistence.FsyncPolicy;
+import com.uno.persistence.GameJournal;
+import com.uno.persistence.GameSaveFile;
+import com.uno.persistence.WriteAheadLog;
+import com.uno.threads.ComputerPlayerThread;
+import com.uno.threads.GameActor;
+import com.uno.threads.GameScheduler;
+import com.uno.threads.UnoTimerThread;
+import com.uno.util.CardAtlas;
+import com.uno.util.CardImageCache;
+import com.uno.util.GameRandom;
+import com.uno.util.logging.GameLogger;
+import com.uno.view.ColorOverlay;
+import com.uno.view.HandRenderer;
+
+import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
-import javafx.stage.Modality;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
- * Controlador MVC que gestiona la lógica de juego y enlaza el modelo con la GUI.
+ * Controlador MVC que enlaza el modelo con la GUI.
+ * Toda la lógica de turnos vive en {@link Game}, que solo modifica su
+ * {@link GameActor}: el controlador traduce los clics en comandos, dibuja las
+ * {@link GameSnapshot} que devuelve el actor y muestra los mensajes de sus
+ * eventos. Todo lo que llega del hilo de la partida pasa al hilo de JavaFX.
  */
 public class GameController {
 
+    private static final GameLogger LOG = GameLogger.getLogger(GameController.class);
+    private static final String UNO_TEXT = "¡UNO!";
+    private static final String CATCH_UNO_TEXT = "¡Atrapar UNO!";
+    private static final String SEED_PROPERTY = "uno.seed";
+    private static final String JOURNAL_PROPERTY = "uno.journal.dir";
+    private static final String SAVE_PROPERTY = "uno.save.file";
+    private static final long SAVE_TIMEOUT_MILLIS = 2_000;
+    private static final String WAL_PROPERTY = "uno.wal.dir";
+    private static final String WAL_FSYNC_PROPERTY = "uno.wal.fsync";
+    private static final int WAL_TABLE = 0;  // La aplicación tiene una sola mesa
+    private static final int AI_BUDGET_MILLIS = 500;  // Parte del tiempo de "pensar" que usa la búsqueda
+
     // Elementos de la interfaz vinculados con FXML
     @FXML
     private Label statusLabel;
@@ -63,44 +96,39 @@ public class GameController {
     @FXML
     private Label messageLabel;
 
-    // Variables del modelo
-    private Deck deck;
-    private Player humanPlayer;
-    private Player computerPlayer;
-    private Card topCard;
-    private CardColor currentColor;
-    private GameState gameState;
+    // Modelo del juego: solo el actor toca la partida; la vista lee la última foto
+    private GameActor actor;
+    private GameSnapshot snapshot;
     private Stage primaryStage;
 
     // Utilidades
-    private CardImageLoader imageLoader;
-    private List<ImageView> playerCardViews;
-    private List<ImageView> computerCardViews;
+    private final CardAtlas atlas = CardAtlas.getInstance();
+    private HandRenderer playerHand;
+    private HandRenderer computerHand;
+    private final GameScheduler scheduler = new GameScheduler(Platform::runLater);
+    private GameRandom timerRandom;  // Retardos de la IA y de la ventana de UNO
+    private IsmctsStrategy strategy;
+    private GameJournal journal;
+    private WriteAheadLog wal;
+    private WriteAheadLog.TableLog table;
+    private boolean walOpened;
+    private ColorOverlay colorOverlay;  // Selección de color sobre la escena principal
 
     /**
      * Inicializa el controlador.
      */
     public void initialize() {
-        imageLoader = new CardImageLoader();
-        playerCardViews = new ArrayList<>();
-        computerCardViews = new ArrayList<>();
+        playerHand = new HandRenderer(playerHandArea, CardAtlas.CARD_WIDTH, CardAtlas.CARD_HEIGHT,
+                "card-view", this::handlePlayerCardClick);
+        computerHand = new HandRenderer(computerHandArea, CardAtlas.CARD_WIDTH, CardAtlas.CARD_HEIGHT, null, null);
 
         // Configurar evento de clic en el botón UNO
         unoButton.setDisable(true);
         unoButton.setOnAction(new UnoButtonHandler());
-        deckImageView.setImage(new Image(getClass().getResourceAsStream("/images/cards/deck_of_cards.png")));
+        atlas.showNamed(deckImageView, CardImageCache.DECK_IMAGE);
 
     }
 
-    private void setSelectedColor(CardColor color) {
-        if (gameState == GameState.COLOR_SELECTION) {
-            currentColor = color;
-            topCard.setActiveColor(color); // Actualiza también el color activo de la carta
-            updateColorIndicator();
-            System.out.println("Color establecido a: " + color);
-        }
-    }
-
     /**
      * Configura la ventana principal.
      *
@@ -111,55 +139,139 @@ public class GameController {
     }
 
     /**
-     * Inicia un nuevo juego.
+     * Configura la capa de selección de color, cargada al arrancar.
+     *
+     * @param colorOverlay Capa que se muestra al jugar un comodín
      */
-    public void initGame() {
-        // Crear modelo del juego
-        deck = new Deck();
-        humanPlayer = new HumanPlayer("Jugador");
-        computerPlayer = new ComputerPlayer();
+    public void setColorOverlay(ColorOverlay colorOverlay) {
+        this.colorOverlay = colorOverlay;
+    }
 
-        try {
-            // Repartir cartas iniciales
-            List<Card> humanCards = deck.dealInitialHand(5);
-            List<Card> computerCards = deck.dealInitialHand(5);
-
-            humanPlayer.addCards(humanCards);
-            computerPlayer.addCards(computerCards);
-
-            // Colocar carta inicial - asegurándonos que no sea un comodín
-            do {
-                topCard = deck.drawCard();
-
-                // Si es un comodín, la devolvemos al fondo del mazo
-                if (topCard.getType() == CardType.WILD || topCard.getType() == CardType.WILD_DRAW_FOUR) {
-                    // Volvemos a insertar la carta en algún lugar aleatorio del mazo
-                    deck.reinsertCard(topCard);
-                    continue;
-                }
+    /**
+     * Inicia un nuevo juego o, si hay una partida guardada al cerrar la
+     * aplicación, la retoma donde quedó.
+     */
+    public void initGame() {
+        // Descartar los turnos y ventanas de UNO que queden de una partida anterior
+        scheduler.cancelAll();
+        if (strategy != null) {
+            strategy.shutdown();
+            strategy = null;
+        }
+        closeJournal();
+
+        // -Duno.seed=N repite una partida concreta
+        Long seed = Long.getLong(SEED_PROPERTY);
+        GameRandom random = seed != null ? new GameRandom(seed) : new GameRandom();
+        LOG.info("Semilla de la partida: " + random.getSeed());
+        Game recovered = openWal();
+        Game game = seed != null ? null : recovered != null ? recovered : loadSavedGame(random);
+        boolean resumed = game != null;
+        if (!resumed) {
+            game = new Game("Jugador", random);
+        }
+        timerRandom = random.split();
+        if (game.getComputerPlayer() instanceof ComputerPlayer computer) {
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            strategy = new IsmctsStrategy(AI_BUDGET_MILLIS, threads, random.split());
+            computer.setStrategy(strategy);
+        }
 
-                // Si llegamos aquí, tenemos una carta válida (no comodín)
-                break;
-            } while (true);
+        if (!resumed) {
+            // El diario necesita el reparto, así que solo registra partidas nuevas
+            openJournal(game, random.getSeed());
+        }
 
-            // Descartamos la carta inicial
-            deck.discard(topCard);
+        // Desde aquí la partida solo se modifica con comandos al actor. Una
+        // partida con semilla es una repetición: no ocupa la mesa del registro
+        // para no sobrescribir la partida que quedó abierta en él
+        if (wal != null && seed == null) {
+            if (table != null) {
+                table.close();
+            }
+            table = wal.attach(WAL_TABLE, game);
+            actor = new GameActor(game, table);
+        } else {
+            actor = new GameActor(game);
+        }
+        game.addListener(new GameEventHandler(game, actor));
+        snapshot = actor.snapshot();
+        if (resumed) {
+            render(snapshot);
+            resume(snapshot);
+        } else {
+            submit(new GameCommand.Start(), outcome -> { });
+        }
+    }
 
-            // Establecemos el color actual
-            currentColor = topCard.getColor();
-            topCard.setActiveColor(currentColor);
-            syncColorState();
+    /**
+     * Retoma lo que estaba pendiente al guardar: el color del comodín, el
+     * turno de la computadora o la ventana de UNO.
+     */
+    private void resume(GameSnapshot state) {
+        if (state.state() == GameState.COLOR_SELECTION) {
+            chooseColor(color -> submit(new GameCommand.ChooseColor(color),
+                    chosen -> afterHumanAction(chosen.snapshot())));
+        } else {
+            afterHumanAction(state);
+        }
+        if (state.unoButtonEnabled() || state.catchUnoAvailable()) {
+            startUnoTimer(state.unoWindow());
+        }
+    }
 
-            // Actualizar interfaz
-            updateGameView();
+    /**
+     * Envía un comando al actor y, ya en el hilo de JavaFX, dibuja el
+     * resultado y continúa con {@code onDone}. Los errores del motor se
+     * muestran como mensaje.
+     *
+     * @param command Comando a aplicar
+     * @param onDone Continuación si el comando se aplicó sin errores
+     */
+    private void submit(GameCommand command, Consumer<GameActor.Outcome> onDone) {
+        GameActor target = actor;
+        target.submit(command).whenComplete((outcome, error) -> onView(target, () -> {
+            if (error == null) {
+                render(outcome.snapshot());
+                onDone.accept(outcome);
+            } else if (error instanceof InvalidCardPlayException) {
+                messageLabel.setText(error.getMessage());
+            } else if (error instanceof UnoDeclarationException) {
+                messageLabel.setText("Solo puedes declarar UNO cuando te queda una carta");
+            } else if (error instanceof EmptyDeckException) {
+                messageLabel.setText("El mazo está vacío");
+                render(target.snapshot());
+                afterHumanAction(target.snapshot());
+            } else {
+                LOG.error("Error al aplicar " + command, error);
+            }
+        }));
+    }
 
-            // Determinar el primer turno
-            gameState = GameState.PLAYER_TURN;
-            updateStatusMessage();
+    /**
+     * Ejecuta una acción en el hilo de JavaFX, salvo que entretanto haya
+     * empezado otra partida.
+     */
+    private void onView(GameActor source, Runnable action) {
+        Platform.runLater(() -> {
+            if (source == actor) {
+                action.run();
+            }
+        });
+    }
 
-        } catch (EmptyDeckException e) {
-            System.out.println("Error al iniciar el juego: " + e.getMessage());
+    /**
+     * Dibuja una foto si es más reciente que la que está en pantalla.
+     *
+     * @param next Estado publicado por el actor
+     */
+    private void render(GameSnapshot next) {
+        if (next.version() < snapshot.version()) {
+            return;
         }
+        snapshot = next;
+        updateGameView();
+        updateStatusMessage();
     }
 
     /**
@@ -167,7 +279,7 @@ public class GameController {
      */
     private void updateGameView() {
         // Actualizar la carta superior
-        topCardImageView.setImage(imageLoader.getCardImage(topCard));
+        atlas.show(topCardImageView, snapshot.topCard());
 
         // Actualizar indicador de color
         updateColorIndicator();
@@ -178,16 +290,23 @@ public class GameController {
         // Actualizar mano del computador
         updateComputerHand();
 
-        // Habilitar/deshabilitar botón UNO
-        unoButton.setDisable(humanPlayer.getHand().size() != 1);
+        // Habilitar/deshabilitar botón UNO según la ventana de UNO abierta
+        if (snapshot.catchUnoAvailable()) {
+            unoButton.setText(CATCH_UNO_TEXT);
+            unoButton.setDisable(false);
+        } else {
+            unoButton.setText(UNO_TEXT);
+            unoButton.setDisable(!snapshot.unoButtonEnabled());
+        }
     }
 
     /**
      * Actualiza el indicador de color actual.
      */
     private void updateColorIndicator() {
+        CardColor currentColor = snapshot.activeColor();
         Color fillColor;
-        System.out.println("DEBUG - Actualizando indicador de color a: " + currentColor);
+        LOG.debug(() -> "Actualizando indicador de color a: " + currentColor);
 
         switch (currentColor) {
             case RED:
@@ -210,70 +329,25 @@ public class GameController {
         currentColorIndicator.setFill(fillColor);
     }
 
-    /**
-     * Verifica si una carta es jugable en el estado actual del juego.
-     *
-     * @param card La carta a verificar
-     * @return true si la carta es jugable, false en caso contrario
-     */
-    private boolean isCardPlayable(Card card) {
-        boolean playable = card.canPlayOn(topCard);
-        System.out.println("DEBUG - Verificando si " + card + " es jugable. Resultado: " + playable);
-        System.out.println("DEBUG - Color actual: " + currentColor + ", Color activo de topCard: " + topCard.getActiveColor());
-        return playable;
-    }
-
     /**
      * Actualiza la visualización de la mano del jugador humano.
      */
     private void updatePlayerHand() {
-        playerHandArea.getChildren().clear();
-        playerCardViews.clear();
-
-        List<Card> playerCards = humanPlayer.getHand();
-
-        for (int i = 0; i < playerCards.size(); i++) {
-            Card card = playerCards.get(i);
-            ImageView cardView = CardImageAdapter.adapt(card);
-
-            cardView.setFitWidth(80);
-            cardView.setFitHeight(120);
-            cardView.getStyleClass().add("card-view");
-
-            // Guardar índice para usarlo en el evento de clic
-            final int cardIndex = i;
-            cardView.setOnMouseClicked(event -> handlePlayerCardClick(cardIndex));
-
-            playerCardViews.add(cardView);
-            playerHandArea.getChildren().add(cardView);
-        }
+        playerHand.render(snapshot.humanHand());
     }
 
     /**
      * Actualiza la visualización de la mano del computador.
      */
     private void updateComputerHand() {
-        computerHandArea.getChildren().clear();
-        computerCardViews.clear();
-
-        int numCards = computerPlayer.getHand().size();
-
-        for (int i = 0; i < numCards; i++) {
-            ImageView cardView = new ImageView(imageLoader.getCardBackImage());
-
-            cardView.setFitWidth(80);
-            cardView.setFitHeight(120);
-
-            computerCardViews.add(cardView);
-            computerHandArea.getChildren().add(cardView);
-        }
+        computerHand.renderBacks(snapshot.handSize(1));
     }
 
     /**
      * Actualiza el mensaje de estado del juego.
      */
     private void updateStatusMessage() {
-        switch (gameState) {
+        switch (snapshot.state()) {
             case PLAYER_TURN:
                 statusLabel.setText("Tu turno");
                 break;
@@ -284,7 +358,7 @@ public class GameController {
                 statusLabel.setText("Selecciona un color");
                 break;
             case GAME_OVER:
-                if (humanPlayer.getHand().isEmpty()) {
+                if (snapshot.humanWon()) {
                     statusLabel.setText("¡Has ganado!");
                 } else {
                     statusLabel.setText("Has perdido");
@@ -302,631 +376,342 @@ public class GameController {
      * @param cardIndex Índice de la carta en la mano
      */
     private void handlePlayerCardClick(int cardIndex) {
-        if (gameState != GameState.PLAYER_TURN) {
+        if (snapshot.state() != GameState.PLAYER_TURN) {
             messageLabel.setText("No es tu turno");
             return;
         }
 
-        try {
-            Card selectedCard = humanPlayer.getHand().get(cardIndex);
-
-            // Verificar si la carta se puede jugar
-            if (!selectedCard.canPlayOn(topCard)) {
-                messageLabel.setText("No puedes jugar esta carta");
-                return;
-            }
-
-            // Jugar la carta
-            humanPlayer.playCard(cardIndex, topCard);
-
-            // Actualizar carta superior
-            topCard = selectedCard;
-
-            // Actualizar color actual si no es un comodín
-            if (selectedCard.getColor() != CardColor.WILD) {
-                currentColor = selectedCard.getColor();
-                topCard.setActiveColor(currentColor);
-            }
-            syncColorState();
-
-            // Verificar si el jugador ha ganado
-            if (humanPlayer.getHand().isEmpty()) {
-                gameState = GameState.GAME_OVER;
-                messageLabel.setText("¡Has ganado!");
-                updateGameView();
-                updateStatusMessage();
-                return; // Importante: salir del método si el juego ha terminado
+        submit(new GameCommand.PlayCard(cardIndex), outcome -> {
+            // Si se jugó un comodín, el humano elige el color y la jugada sigue al elegirlo
+            if (outcome.snapshot().state() == GameState.COLOR_SELECTION) {
+                chooseColor(color -> submit(new GameCommand.ChooseColor(color),
+                        chosen -> afterHumanAction(chosen.snapshot())));
+            } else {
+                afterHumanAction(outcome.snapshot());
             }
+        });
+    }
 
-            // Verificar si el jugador tiene solo una carta (situación UNO)
-            if (humanPlayer.getHand().size() == 1) {
-                // Habilitar botón UNO
-                unoButton.setDisable(false);
-                messageLabel.setText("¡Tienes una carta! Presiona UNO o serás penalizado");
-
-                // Crear un hilo que actúe como temporizador UNO
-                Thread unoTimerThread = new Thread(() -> {
-                    try {
-                        // Esperar un tiempo aleatorio entre 2 y 4 segundos
-                        Thread.sleep(2000 + new Random().nextInt(2000));
-
-                        // Verificar si el jugador no declaró UNO
-                        javafx.application.Platform.runLater(() -> {
-                            if (humanPlayer.getHand().size() == 1 && !humanPlayer.hasCalledUno()) {
-                                try {
-                                    // Penalizar al jugador
-                                    humanPlayer.addCard(deck.drawCard());
-                                    messageLabel.setText("¡No declaraste UNO! Has tomado una carta de penalización");
-                                    updateGameView();
-                                } catch (EmptyDeckException e) {
-                                    messageLabel.setText("El mazo está vacío");
-                                }
-                            }
-                            unoButton.setDisable(true);
-                        });
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                });
-
-                // Iniciar el hilo
-                unoTimerThread.setDaemon(true);
-                unoTimerThread.start();
-            }
+    /**
+     * Maneja el clic en el mazo de cartas.
+     *
+     * @param event Evento de clic del ratón
+     */
+    @FXML
+    private void handleDeckClick(MouseEvent event) {
+        if (snapshot.state() != GameState.PLAYER_TURN) {
+            messageLabel.setText("No es tu turno");
+            return;
+        }
 
-            // Aplicar efecto según el tipo de carta
-            boolean computerTurn = true; // Por defecto, pasamos al turno de la computadora
-
-            switch (selectedCard.getType()) {
-                case SKIP:
-                    // Si es carta de bloqueo, el humano juega de nuevo
-                    messageLabel.setText("La computadora pierde su turno");
-                    computerTurn = false;
-                    gameState = GameState.PLAYER_TURN;
-                    break;
-
-                case DRAW_TWO:
-                    // La computadora roba 2 cartas y el humano juega de nuevo
-                    try {
-                        computerPlayer.addCard(deck.drawCard());
-                        computerPlayer.addCard(deck.drawCard());
-                        messageLabel.setText("La computadora toma 2 cartas y pierde su turno");
-                        computerTurn = false;
-                        gameState = GameState.PLAYER_TURN;
-                    } catch (EmptyDeckException e) {
-                        messageLabel.setText("El mazo está vacío");
-                    }
-                    break;
-
-                case WILD:
-                    // Mostrar diálogo de selección de color
-                    gameState = GameState.COLOR_SELECTION;
-                    CardColor wildColor = showColorSelectionDialog();
-
-                    if (wildColor != null) {
-                        currentColor = wildColor;
-                        topCard.setActiveColor(wildColor);
-                        messageLabel.setText("Has cambiado el color a " + wildColor);
-                    } else {
-                        // Por defecto si el usuario cierra el diálogo
-                        currentColor = CardColor.RED;
-                        topCard.setActiveColor(CardColor.RED);
-                        messageLabel.setText("Color cambiado a Rojo (por defecto)");
-                    }
-
-                    // Después de un comodín normal, es turno de la computadora
-                    gameState = GameState.COMPUTER_TURN;
-                    break;
-
-                case WILD_DRAW_FOUR:
-                    // Mostrar diálogo de selección de color y la computadora roba 4 cartas
-                    gameState = GameState.COLOR_SELECTION;
-                    CardColor draw4Color = showColorSelectionDialog();
-
-                    if (draw4Color != null) {
-                        currentColor = draw4Color;
-                        topCard.setActiveColor(draw4Color);
-                        messageLabel.setText("Has cambiado el color a " + draw4Color);
-                    } else {
-                        // Por defecto si el usuario cierra el diálogo
-                        currentColor = CardColor.RED;
-                        topCard.setActiveColor(CardColor.RED);
-                        messageLabel.setText("Color cambiado a Rojo (por defecto)");
-                    }
-
-                    // La computadora roba 4 cartas y el humano juega de nuevo
-                    try {
-                        computerPlayer.addCard(deck.drawCard());
-                        computerPlayer.addCard(deck.drawCard());
-                        computerPlayer.addCard(deck.drawCard());
-                        computerPlayer.addCard(deck.drawCard());
-                        messageLabel.setText(messageLabel.getText() + " y la computadora toma 4 cartas y pierde su turno");
-                        computerTurn = false;
-                        gameState = GameState.PLAYER_TURN;
-                    } catch (EmptyDeckException e) {
-                        messageLabel.setText("El mazo está vacío");
-                    }
-                    break;
-
-                default:
-                    // Carta normal, pasa el turno a la computadora
-                    gameState = GameState.COMPUTER_TURN;
-                    break;
-            }
+        submit(new GameCommand.DrawCard(), outcome -> afterHumanAction(outcome.snapshot()));
+    }
 
-            // Actualizar interfaz
-            updateGameView();
-            updateStatusMessage();
-            updateColorIndicator();
-
-            // Solo iniciar el turno de la computadora si corresponde
-            if (computerTurn && gameState == GameState.COMPUTER_TURN) {
-                // Dar tiempo para mostrar los cambios antes del turno del computador
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(1000);
-                        javafx.application.Platform.runLater(() -> computerTurn());
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                }).start();
-            }
+    /**
+     * Maneja el clic en el botón UNO.
+     */
+    @FXML
+    private void handleUnoButtonAction() {
+        // Si el botón dice "¡Atrapar UNO!" es para atrapar a la computadora
+        if (unoButton.getText().equals(CATCH_UNO_TEXT)) {
+            submit(new GameCommand.CatchUno(), outcome -> {
+                if (!outcome.applied()) {
+                    messageLabel.setText("No puedes atrapar a la computadora ahora");
+                }
+            });
+        } else {
+            // Comportamiento normal: declarar UNO para el jugador humano
+            submit(new GameCommand.CallUno(), outcome -> { });
+        }
+    }
 
-        } catch (InvalidCardPlayException e) {
-            messageLabel.setText(e.getMessage());
+    /**
+     * Tras una acción del humano, si corresponde, programa el turno de la computadora.
+     *
+     * @param state Estado después de la acción
+     */
+    private void afterHumanAction(GameSnapshot state) {
+        if (state.state() == GameState.COMPUTER_TURN) {
+            // Dar tiempo para mostrar los cambios antes del turno del computador
+            scheduler.schedule(1000, this::computerTurn);
         }
     }
 
     /**
-     * Ejecuta el turno del computador.
+     * Ejecuta el turno del computador tras un retraso que simula que está pensando.
      */
     private void computerTurn() {
-        if (gameState != GameState.COMPUTER_TURN) {
+        if (snapshot.state() != GameState.COMPUTER_TURN) {
             return;
         }
 
-        // retraso inicial para simular que la computadora está pensando
-        new Thread(() -> {
-            try {
-                // La computadora "piensa" entre 2 y 3 segundos antes de jugar
-                Thread.sleep(2000 + new Random().nextInt(1000));
-
-                // lógica del turno en el hilo de JavaFX
-                javafx.application.Platform.runLater(() -> {
-                    try {
-                        procesarTurnoComputadora();
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                });
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        // Tras un bloqueo, un +2, un +4 o una carta robada jugable, la computadora repite
+        GameActor target = actor;
+        ComputerPlayerThread turn = new ComputerPlayerThread(target, state -> onView(target, () -> {
+            render(state);
+            computerTurn();
+        }), timerRandom, AI_BUDGET_MILLIS);
+        scheduler.schedule(turn.delayMillis(), turn);
     }
 
+    /**
+     * Inicia el temporizador de la ventana de UNO (entre 2 y 4 segundos).
+     * Al vencer, el motor decide si corresponde una penalización.
+     *
+     * @param window Número de la ventana de UNO que abrió el temporizador
+     */
+    private void startUnoTimer(int window) {
+        GameActor target = actor;
+        UnoTimerThread timer = new UnoTimerThread(target, state -> onView(target, () -> render(state)),
+                timerRandom, window);
+        scheduler.schedule(timer.delayMillis(), timer);
+    }
 
-    private void procesarTurnoComputadora() {
-        try {
-            boolean playedCard = false;
-
-            // Buscar una carta que pueda jugar
-            for (int i = 0; i < computerPlayer.getHand().size(); i++) {
-                Card card = computerPlayer.getHand().get(i);
-
-                // Verificar si la carta se puede jugar
-                if (card.canPlayOn(topCard)) {
-                    try {
-                        // Intentar jugar la carta
-                        computerPlayer.playCard(i, topCard);
-
-                        // Si llegamos aquí, la carta se jugó correctamente
-                        System.out.println("Computadora jugó: " + card);
-
-                        // Actualizar carta superior
-                        topCard = card;
-
-                        // Si no es comodín, actualizar el color
-                        if (card.getColor() != CardColor.WILD) {
-                            currentColor = card.getColor();
-                            topCard.setActiveColor(currentColor);
-                        }
-
-                        // Añade esta línea para sincronizar el estado de color
-                        syncColorState();
-
-                        // Verificar si la computadora tiene solo una carta (situación UNO)
-                        if (computerPlayer.getHand().size() == 1) {
-                            // Determinar aleatoriamente si la computadora declara UNO
-                            boolean computerCallsUno = new Random().nextInt(100) < 70; // 70% de probabilidad
-
-                            if (computerCallsUno) {
-                                // La computadora declara UNO
-                                computerPlayer.setHasCalledUno(true);
-                                messageLabel.setText("¡La computadora declara UNO!");
-                            } else {
-                                // La computadora no declara UNO - oportunidad para el jugador
-                                messageLabel.setText("La computadora tiene solo una carta...");
-
-                                // Habilitar botón "¡Atrapar UNO!" para el jugador
-                                unoButton.setText("¡Atrapar UNO!");
-                                unoButton.setDisable(false);
-
-                                // Crear un hilo que actúe como temporizador para atrapar UNO
-                                Thread unoTimerThread = new Thread(() -> {
-                                    try {
-                                        // Esperar un tiempo aleatorio entre 2 y 4 segundos
-                                        Thread.sleep(2000 + new Random().nextInt(2000));
-
-                                        javafx.application.Platform.runLater(() -> {
-                                            if (computerPlayer.getHand().size() == 1 && !computerPlayer.hasCalledUno()) {
-                                                // El jugador no atrapó a la computadora a tiempo
-                                                messageLabel.setText("¡La computadora se olvidó de declarar UNO pero no la atrapaste!");
-                                            }
-                                            unoButton.setText("¡UNO!");
-                                            unoButton.setDisable(true);
-                                        });
-                                    } catch (InterruptedException e) {
-                                        Thread.currentThread().interrupt();
-                                    }
-                                });
-
-                                // Iniciar el hilo
-                                new Thread(unoTimerThread).start();
-                            }
-                        }
-
-                        // Verificar si el computador ha ganado
-                        if (computerPlayer.getHand().isEmpty()) {
-                            gameState = GameState.GAME_OVER;
-                            messageLabel.setText("Has perdido");
-                            updateGameView();
-                            updateStatusMessage();
-                            return;
-                        }
-
-                        // Manejar los efectos según el tipo de carta
-                        boolean humanTurn = true; // Por defecto, pasamos al turno del humano
-
-                        switch (card.getType()) {
-                            case SKIP:
-                                // Si es carta de bloqueo, la computadora juega de nuevo
-                                messageLabel.setText("Pierdes tu turno");
-                                humanTurn = false;
-                                gameState = GameState.COMPUTER_TURN;
-
-                                // Dar más tiempo antes del siguiente turno
-                                new Thread(() -> {
-                                    try {
-                                        // Entre 2.5 y 3.5 segundos
-                                        Thread.sleep(2500 + new Random().nextInt(1000));
-                                        javafx.application.Platform.runLater(() -> computerTurn());
-                                    } catch (InterruptedException e) {
-                                        e.printStackTrace();
-                                    }
-                                }).start();
-                                break;
-
-                            case DRAW_TWO:
-                                // El humano roba 2 cartas y la computadora juega de nuevo
-                                try {
-                                    humanPlayer.addCard(deck.drawCard());
-                                    humanPlayer.addCard(deck.drawCard());
-                                    messageLabel.setText("Tomas 2 cartas y pierdes tu turno");
-                                    updateGameView(); // Actualizar para mostrar las nuevas cartas
-
-                                    humanTurn = false;
-                                    gameState = GameState.COMPUTER_TURN;
-
-                                    // Dar más tiempo antes del siguiente turno
-                                    new Thread(() -> {
-                                        try {
-                                            // Entre 2.5 y 3.5 segundos
-                                            Thread.sleep(2500 + new Random().nextInt(1000));
-                                            javafx.application.Platform.runLater(() -> computerTurn());
-                                        } catch (InterruptedException e) {
-                                            e.printStackTrace();
-                                        }
-                                    }).start();
-                                } catch (EmptyDeckException e) {
-                                    messageLabel.setText("El mazo está vacío");
-                                }
-                                break;
-
-                            case WILD:
-                                // Para cartas comodín, elegir un color inteligentemente
-                                currentColor = computerPlayer.selectBestColor();
-                                card.setActiveColor(currentColor);
-                                messageLabel.setText("La computadora eligió el color " + currentColor.toString().toLowerCase());
-                                System.out.println("Computadora eligió color: " + currentColor);
-
-                                // Después de un comodín normal, es turno del humano
-                                gameState = GameState.PLAYER_TURN;
-                                break;
-
-                            case WILD_DRAW_FOUR:
-                                // Para cartas +4, el humano roba 4 cartas y la computadora elige color
-                                currentColor = computerPlayer.selectBestColor();
-                                card.setActiveColor(currentColor);
-
-                                try {
-                                    // Mostrar mensaje antes de añadir cartas
-                                    messageLabel.setText("La computadora eligió el color " + currentColor.toString().toLowerCase() + " y te ha dado un +4");
-
-                                    // Dar tiempo para que el jugador vea el mensaje antes de recibir las cartas
-                                    new Thread(() -> {
-                                        try {
-                                            Thread.sleep(1500);
-                                            javafx.application.Platform.runLater(() -> {
-                                                try {
-                                                    // Ahora añadimos las cartas
-                                                    humanPlayer.addCard(deck.drawCard());
-                                                    humanPlayer.addCard(deck.drawCard());
-                                                    humanPlayer.addCard(deck.drawCard());
-                                                    humanPlayer.addCard(deck.drawCard());
-
-                                                    messageLabel.setText("Has tomado 4 cartas y pierdes tu turno");
-                                                    updateGameView();
-
-                                                    gameState = GameState.COMPUTER_TURN;
-
-                                                    // Dar más tiempo antes del siguiente turno
-                                                    new Thread(() -> {
-                                                        try {
-                                                            // Entre 3 y 4 segundos después de tomar las cartas
-                                                            Thread.sleep(3000 + new Random().nextInt(1000));
-                                                            javafx.application.Platform.runLater(() -> computerTurn());
-                                                        } catch (InterruptedException e) {
-                                                            e.printStackTrace();
-                                                        }
-                                                    }).start();
-                                                } catch (EmptyDeckException e) {
-                                                    messageLabel.setText("El mazo está vacío");
-                                                }
-                                            });
-                                        } catch (InterruptedException e) {
-                                            e.printStackTrace();
-                                        }
-                                    }).start();
-
-                                    humanTurn = false;
-
-                                } catch (Exception e) {
-                                    messageLabel.setText("Error al procesar +4: " + e.getMessage());
-                                }
-                                break;
-
-                            default:
-                                // Carta normal, pasa el turno al humano
-                                gameState = GameState.PLAYER_TURN;
-                                break;
-                        }
-
-                        playedCard = true;
-                        updateGameView();
-                        updateStatusMessage();
-                        updateColorIndicator();
-                        break; // Salir del bucle una vez que se ha jugado una carta
-
-                    } catch (InvalidCardPlayException e) {
-                        // Si hay error al jugar esta carta, probar con la siguiente
-                        System.out.println("Error al jugar carta: " + e.getMessage());
-                        continue;
-                    }
-                }
-            }
-
-            // Si no pudo jugar ninguna carta, tomar una del mazo
-            if (!playedCard) {
-                Card drawnCard = deck.drawCard();
-                computerPlayer.addCard(drawnCard);
-                messageLabel.setText("La computadora está tomando una carta...");
-                System.out.println("Computadora tomó una carta");
-
-                updateGameView();
-
-                // Dar tiempo para mostrar que la computadora está tomando una carta
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(1500);
-                        javafx.application.Platform.runLater(() -> {
-                            // Verificar si la carta tomada se puede jugar
-                            if (drawnCard.canPlayOn(topCard)) {
-                                messageLabel.setText("La computadora puede jugar la carta que tomó");
-
-                                // Dar tiempo antes de jugar la carta tomada
-                                new Thread(() -> {
-                                    try {
-                                        Thread.sleep(2000);
-                                        javafx.application.Platform.runLater(() -> computerTurn());
-                                    } catch (InterruptedException e) {
-                                        e.printStackTrace();
-                                    }
-                                }).start();
-                            } else {
-                                messageLabel.setText("La computadora tomó una carta y no puede jugarla");
-                                gameState = GameState.PLAYER_TURN;
-                                updateStatusMessage();
-                            }
-                        });
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                }).start();
-            }
-
-        } catch (EmptyDeckException e) {
-            messageLabel.setText("El mazo está vacío");
+    /**
+     * Cancela las tareas pendientes y libera los hilos de la sesión.
+     * Se llama al cerrar la aplicación.
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+        saveGame();
+        if (strategy != null) {
+            strategy.shutdown();
         }
+        closeJournal();
+        closeWal();
     }
 
     /**
-     * Maneja el clic en el mazo de cartas.
-     *
-     * @param event Evento de clic del ratón
+     * @return Archivo de la partida guardada; -Duno.save.file lo cambia
      */
-    @FXML
-    private void handleDeckClick(MouseEvent event) {
-        if (gameState != GameState.PLAYER_TURN) {
-            messageLabel.setText("No es tu turno");
+    private static Path savePath() {
+        String file = System.getProperty(SAVE_PROPERTY);
+        return file != null ? Path.of(file) : Path.of(System.getProperty("user.home"), ".uno", "partida.unos");
+    }
+
+    /**
+     * Guarda la partida en curso para retomarla al volver a abrir el juego.
+     * Una partida terminada o sin empezar borra la guardada.
+     */
+    private void saveGame() {
+        GameActor target = actor;
+        if (target == null) {
             return;
         }
-
+        Path path = savePath();
         try {
-            // Verificar si el jugador tiene alguna carta jugable
-            boolean hasPlayableCard = false;
-
-            for (Card card : humanPlayer.getHand()) {
-                if (card.canPlayOn(topCard) || card.getColor() == currentColor) {
-                    hasPlayableCard = true;
-                    break;
-                }
+            ByteBuffer encoded = target.read(game -> game.getGameState() == GameState.NOT_STARTED
+                    || game.getGameState() == GameState.GAME_OVER ? null : GameSaveFile.encode(game))
+                    .get(SAVE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            if (encoded == null) {
+                Files.deleteIfExists(path);
+                return;
             }
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            GameSaveFile.write(encoded, path);
+            LOG.info("Partida guardada en " + path);
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            LOG.error("No se pudo guardar la partida en " + path, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            if (!hasPlayableCard) {
-                // Tomar una carta del mazo
-                Card drawnCard = deck.drawCard();
-                humanPlayer.addCard(drawnCard);
-                messageLabel.setText("Has tomado una carta");
-
-                // Actualizar interfaz
-                updateGameView();
-
-                // Verificar si la carta tomada se puede jugar
-                if (drawnCard.canPlayOn(topCard) || drawnCard.getColor() == currentColor) {
-                    // El jugador puede jugar la carta que tomó
-                    return;
-                }
-
-                // Pasar al turno del computador
-                gameState = GameState.COMPUTER_TURN;
-                updateStatusMessage();
-
-                // Dar tiempo para mostrar los cambios antes del turno del computador
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(1000);
-                        javafx.application.Platform.runLater(() -> computerTurn());
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                }).start();
-            } else {
-                messageLabel.setText("Tienes cartas jugables");
+    /**
+     * @return La partida guardada o null si no hay ninguna o no se pudo leer
+     */
+    private Game loadSavedGame(GameRandom random) {
+        Path path = savePath();
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            Game game = GameSaveFile.load(path, random);
+            LOG.info("Partida retomada desde " + path);
+            return game;
+        } catch (IOException e) {
+            LOG.error("No se pudo cargar la partida guardada " + path + "; se empieza una nueva", e);
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+                // Se volverá a intentar al guardar
             }
-        } catch (EmptyDeckException e) {
-            messageLabel.setText("El mazo está vacío");
+            return null;
         }
     }
 
     /**
-     * Maneja el clic en el botón UNO.
+     * Con -Duno.wal.dir=DIR, confirma cada jugada en un registro de escritura
+     * anticipada; -Duno.wal.fsync elige la política ({@code move},
+     * {@code batch:N} o {@code time:MS}). Solo abre el registro la primera vez.
+     *
+     * @return La partida que quedó abierta en el registro, o null
      */
-    @FXML
-    private void handleUnoButtonAction() {
-        // Si el botón dice "¡Atrapar UNO!" es para atrapar a la computadora
-        if (unoButton.getText().equals("¡Atrapar UNO!")) {
-            // El jugador atrapa a la computadora sin declarar UNO
-            if (computerPlayer.getHand().size() == 1 && !computerPlayer.hasCalledUno()) {
-                try {
-                    // Penalizar a la computadora
-                    computerPlayer.addCard(deck.drawCard());
-                    messageLabel.setText("¡Atrapaste a la computadora! Toma una carta de penalización");
-                    updateGameView();
-                } catch (EmptyDeckException e) {
-                    messageLabel.setText("El mazo está vacío");
-                }
-            } else {
-                messageLabel.setText("No puedes atrapar a la computadora ahora");
+    private Game openWal() {
+        String dir = System.getProperty(WAL_PROPERTY);
+        if (dir == null || walOpened) {
+            return null;
+        }
+        walOpened = true;
+        try {
+            FsyncPolicy policy = FsyncPolicy.parse(System.getProperty(WAL_FSYNC_PROPERTY, "batch:64"));
+            wal = WriteAheadLog.open(Path.of(dir), policy);
+            Game recovered = wal.recoveredGames().get(WAL_TABLE);
+            if (recovered != null) {
+                LOG.info("Partida retomada desde el registro " + dir);
             }
+            return recovered;
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.error("No se pudo abrir el registro " + dir, e);
+            return null;
+        }
+    }
 
-            // Restablecer el botón UNO
-            unoButton.setText("¡UNO!");
-            unoButton.setDisable(true);
-        } else {
-            // Comportamiento normal: declarar UNO para el jugador humano
-            if (humanPlayer.getHand().size() == 1) {
-                humanPlayer.setHasCalledUno(true);
-                messageLabel.setText("¡UNO!");
-                unoButton.setDisable(true);
-            } else {
-                messageLabel.setText("Solo puedes declarar UNO cuando te queda una carta");
-            }
+    private void closeWal() {
+        if (wal == null) {
+            return;
         }
+        try {
+            wal.close();
+        } catch (IOException e) {
+            LOG.error("No se pudo cerrar el registro de la partida", e);
+        }
+        wal = null;
     }
 
     /**
-     * Sincroniza completamente el estado del color actual.
-     * Asegura que tanto la variable currentColor como el color activo de topCard estén alineados.
+     * Con -Duno.journal.dir=DIR, registra la partida en un diario binario
+     * para poder reconstruirla si hay una disputa.
      */
-    private void syncColorState() {
-        // Asegúrate de que el color actual coincida con el color activo de la carta superior
-        currentColor = topCard.getActiveColor();
-        System.out.println("DEBUG - Estado de color sincronizado. Color actual: " + currentColor);
-        updateColorIndicator();
+    private void openJournal(Game game, long seed) {
+        String dir = System.getProperty(JOURNAL_PROPERTY);
+        if (dir == null) {
+            return;
+        }
+        Path path = Path.of(dir, "partida-" + System.currentTimeMillis() + "-" + seed + ".unoj");
+        try {
+            journal = GameJournal.open(path);
+            journal.attach(game);
+            LOG.info("Diario de la partida: " + path);
+        } catch (IOException e) {
+            LOG.error("No se pudo abrir el diario " + path, e);
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            LOG.error("No se pudo cerrar el diario de la partida", e);
+        }
+        journal = null;
     }
 
     /**
-     * Muestra el diálogo de selección de color.
+     * Muestra la capa de selección de color sin bloquear el hilo de JavaFX.
      *
-     * @return El color seleccionado
+     * @param onSelected Recibe el color elegido (rojo si no hay capa configurada)
      */
+    private void chooseColor(Consumer<CardColor> onSelected) {
+        if (colorOverlay == null) {
+            LOG.error("No hay capa de selección de color configurada");
+            onSelected.accept(CardColor.RED);
+            return;
+        }
+        colorOverlay.show(onSelected);
+    }
+
     /**
-     * Muestra el diálogo de selección de color.
-     *
-     * @return El color seleccionado
+     * Observador de los eventos del motor: actualiza los mensajes de la vista.
+     * Corre en el hilo de la partida, así que arma el texto ahí y solo pasa
+     * el texto al hilo de JavaFX.
      */
-    private CardColor showColorSelectionDialog() {
-        try {
-            // Cargar el archivo FXML
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/uno/view/ColorSelectionView.fxml"));
-            Parent dialogRoot = loader.load();
-
-            // Crear un nuevo escenario
-            Stage dialogStage = new Stage();
-            dialogStage.setTitle("Selecciona un color");
-            dialogStage.initModality(Modality.WINDOW_MODAL);
-            dialogStage.initOwner(primaryStage);
-            dialogStage.setResizable(false);
-
-            // Aplicar estilos
-            Scene scene = new Scene(dialogRoot);
-            scene.getStylesheets().add(getClass().getResource("/com/uno/view/css/styles.css").toExternalForm());
-            dialogStage.setScene(scene);
-
-            // Configurar el controlador
-            ColorSelectionController controller = loader.getController();
-            controller.setDialogStage(dialogStage);
-
-            // Mostrar el diálogo y esperar
-            dialogStage.showAndWait();
-
-            // Obtener el color seleccionado
-            CardColor selectedColor = controller.getSelectedColor();
-            System.out.println("Color seleccionado: " + selectedColor);
-
-            // IMPORTANTE: Asegúrate de actualizar correctamente el color activo de la carta
-            if (selectedColor != null) {
-                topCard.setActiveColor(selectedColor);
-                currentColor = selectedColor;
-                updateColorIndicator();
+    private class GameEventHandler implements GameListener {
+        private final Game game;
+        private final GameActor source;
+
+        GameEventHandler(Game game, GameActor source) {
+            this.game = game;
+            this.source = source;
+        }
+
+        private void show(String message) {
+            onView(source, () -> messageLabel.setText(message));
+        }
+
+        @Override
+        public void onCardPlayed(Player player, Card card) {
+            boolean human = player == game.getHumanPlayer();
+            if (!human) {
+                LOG.debug(() -> "Computadora jugó: " + card);
+            }
+
+            if (card.getType() == CardType.SKIP) {
+                show(human ? "La computadora pierde su turno" : "Pierdes tu turno");
+            } else if (card.getType() == CardType.DRAW_TWO) {
+                show(human ? "La computadora toma 2 cartas y pierde su turno"
+                        : "Tomas 2 cartas y pierdes tu turno");
+            }
+        }
+
+        @Override
+        public void onCardDrawn(Player player, Card card, DrawReason reason) {
+            boolean human = player == game.getHumanPlayer();
+
+            if (reason == DrawReason.NO_PLAYABLE_CARD) {
+                show(human ? "Has tomado una carta" : "La computadora tomó una carta");
+            } else if (reason == DrawReason.UNO_PENALTY) {
+                show(human ? "¡No declaraste UNO! Has tomado una carta de penalización"
+                        : "¡Atrapaste a la computadora! Toma una carta de penalización");
+            }
+        }
+
+        @Override
+        public void onColorChosen(Player player, CardColor color) {
+            boolean drawFour = game.getTopCard().getType() == CardType.WILD_DRAW_FOUR;
+
+            if (player == game.getHumanPlayer()) {
+                show("Has cambiado el color a " + color
+                        + (drawFour ? " y la computadora toma 4 cartas y pierde su turno" : ""));
+            } else {
+                LOG.debug(() -> "Computadora eligió color: " + color);
+                show("La computadora eligió el color " + color.toString().toLowerCase()
+                        + (drawFour ? " y te ha dado un +4" : ""));
+            }
+        }
+
+        @Override
+        public void onUnoCalled(Player player) {
+            show(player == game.getHumanPlayer() ? "¡UNO!" : "¡La computadora declara UNO!");
+        }
+
+        @Override
+        public void onUnoWindowOpened(Player player) {
+            if (player == game.getHumanPlayer()) {
+                show("¡Tienes una carta! Presiona UNO o serás penalizado");
             } else {
-                // Valor por defecto si no se seleccionó un color
-                CardColor defaultColor = CardColor.RED;
-                topCard.setActiveColor(defaultColor);
-                currentColor = defaultColor;
-                updateColorIndicator();
+                // Oportunidad para que el jugador atrape a la computadora
+                show("La computadora tiene solo una carta...");
             }
+            // Se lee aquí, en el hilo de la partida, la ventana que acaba de abrirse
+            int window = game.getUnoWindow();
+            onView(source, () -> startUnoTimer(window));
+        }
 
-            return selectedColor;
+        @Override
+        public void onUnoWindowClosed(Player player) {
+            if (player != game.getHumanPlayer()) {
+                // El jugador no atrapó a la computadora a tiempo
+                show("¡La computadora se olvidó de declarar UNO pero no la atrapaste!");
+            }
+        }
 
-        } catch (IOException e) {
-            e.printStackTrace();
-            CardColor defaultColor = CardColor.RED;
-            topCard.setActiveColor(defaultColor);
-            currentColor = defaultColor;
-            updateColorIndicator();
-            return defaultColor;
+        @Override
+        public void onGameOver(Player winner) {
+            show(winner == game.getHumanPlayer() ? "¡Has ganado!" : "Has perdido");
         }
     }
 
@@ -3,14 +3,61 @@ package com.uno.model;
 import com.uno.model.enums.CardColor;
 import com.uno.model.enums.CardType;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Clase que representa una carta del juego UNO.
+ * Las cartas son inmutables y canónicas: existe una sola instancia por
+ * color, tipo y número, compartida entre mazos, partidas e hilos.
+ * El color activo de un comodín es parte del estado del juego, no de la carta.
  */
-public class Card {
+public final class Card {
+    private static final CardColor[] PLAYABLE_COLORS =
+            {CardColor.RED, CardColor.GREEN, CardColor.BLUE, CardColor.YELLOW};
+    private static final int WILD_COPIES = 4;
+
+    // Instancias canónicas indexadas por su código (ver CardCodes)
+    private static final Card[] BY_CODE = new Card[CardCodes.CODE_COUNT];
+    private static final List<Card> STANDARD_DECK;
+    private static final List<Card> REVERSE_DECK;
+    private static final List<Card> DOUBLE_DECK;
+
+    static {
+        List<Card> deck = new ArrayList<>();
+        for (CardColor color : PLAYABLE_COLORS) {
+            // 12 por color: 0-9, +2 y Skip
+            for (int n = 0; n <= 9; n++) {
+                deck.add(intern(new Card(color, n)));
+            }
+            deck.add(intern(new Card(color, CardType.DRAW_TWO)));
+            deck.add(intern(new Card(color, CardType.SKIP)));
+        }
+        // 4 comodines y 4 +4
+        Card wild = intern(new Card(CardColor.WILD, CardType.WILD));
+        Card wildDrawFour = intern(new Card(CardColor.WILD, CardType.WILD_DRAW_FOUR));
+        for (int i = 0; i < WILD_COPIES; i++) deck.add(wild);
+        for (int i = 0; i < WILD_COPIES; i++) deck.add(wildDrawFour);
+        STANDARD_DECK = Collections.unmodifiableList(new ArrayList<>(deck));
+
+        // Con más de dos jugadores se agrega una Reversa por color
+        for (CardColor color : PLAYABLE_COLORS) {
+            deck.add(intern(new Card(color, CardType.REVERSE)));
+        }
+        REVERSE_DECK = Collections.unmodifiableList(new ArrayList<>(deck));
+
+        // Las mesas grandes juegan con dos mazos: cada carta de color aparece dos veces
+        deck.addAll(REVERSE_DECK);
+        DOUBLE_DECK = Collections.unmodifiableList(deck);
+    }
+
     private final CardColor color;
     private final CardType type;
     private final int number;  // Solo relevante para cartas numéricas
-    private CardColor activeColor;  // Color activo para cartas comodín
+    private final int code;
+    private final String displayName;
+    private final String imageFileName;
 
     /**
      * Constructor para cartas numéricas.
@@ -18,11 +65,8 @@ public class Card {
      * @param color Color de la carta
      * @param number Número de la carta (0-9)
      */
-    public Card(CardColor color, int number) {
-        this.color = color;
-        this.type = CardType.NUMBER;
-        this.number = number;
-        this.activeColor = color;
+    private Card(CardColor color, int number) {
+        this(color, CardType.NUMBER, number);
     }
 
     /**
@@ -31,63 +75,108 @@ public class Card {
      * @param color Color de la carta
      * @param type Tipo de la carta
      */
-    public Card(CardColor color, CardType type) {
+    private Card(CardColor color, CardType type) {
+        this(color, type, -1);  // El número no aplica para cartas especiales
+    }
+
+    private Card(CardColor color, CardType type, int number) {
         this.color = color;
         this.type = type;
-        this.number = -1;  // No aplica para cartas especiales
-        this.activeColor = color;
+        this.number = number;
+        this.code = CardCodes.encode(color, type, number);
+        this.displayName = type == CardType.NUMBER ? color + " " + number : color + " " + type;
+        this.imageFileName = buildImageFileName();
     }
 
     /**
-     * Verifica si esta carta se puede jugar sobre la carta superior.
+     * Obtiene la carta numérica canónica.
      *
-     * @param topCard Carta superior en la mesa
-     * @return true si la carta es jugable, false en caso contrario
+     * @param color Color de la carta
+     * @param number Número de la carta (0-9)
+     * @return La instancia compartida de la carta
      */
-    public boolean canPlayOn(Card topCard) {
-        // Para depuración
-        System.out.println("Verificando si " + this + " puede jugarse sobre " + topCard);
-        System.out.println("Color activo de la carta superior: " + topCard.getActiveColor());
-
-        // Las cartas comodín se pueden jugar sobre cualquier carta
-        if (type.isWild()) {
-            System.out.println("Carta comodín: se puede jugar");
-            return true;
+    public static Card of(CardColor color, int number) {
+        if (color == CardColor.WILD || number < 0 || number > 9) {
+            throw new IllegalArgumentException("Carta numérica inválida: " + color + " " + number);
         }
+        return BY_CODE[CardCodes.encode(color, CardType.NUMBER, number)];
+    }
 
-        // Coincidencia de color
-        if (color == topCard.getActiveColor()) {
-            System.out.println("Coincidencia de color: se puede jugar");
-            return true;
+    /**
+     * Obtiene la carta especial canónica.
+     *
+     * @param color Color de la carta ({@link CardColor#WILD} para comodines)
+     * @param type Tipo de la carta
+     * @return La instancia compartida de la carta
+     */
+    public static Card of(CardColor color, CardType type) {
+        if (type == CardType.NUMBER || type.isWild() != (color == CardColor.WILD)) {
+            throw new IllegalArgumentException("Carta especial inválida: " + color + " " + type);
         }
+        return BY_CODE[CardCodes.encode(color, type, -1)];
+    }
 
-        // Coincidencia de número
-        if (type == CardType.NUMBER && topCard.getType() == CardType.NUMBER) {
-            boolean canPlay = number == topCard.getNumber();
-            if (canPlay) {
-                System.out.println("Coincidencia de número: se puede jugar");
-            }
-            return canPlay;
-        }
+    /**
+     * Obtiene la carta canónica a partir de su código compacto.
+     *
+     * @param code Código de la carta (ver {@link CardCodes})
+     * @return La instancia compartida de la carta
+     */
+    public static Card fromCode(int code) {
+        return BY_CODE[code];
+    }
+
+    private static Card intern(Card card) {
+        BY_CODE[card.code] = card;
+        return card;
+    }
+
+    /**
+     * Obtiene las 56 cartas de un mazo completo, sin barajar.
+     *
+     * @return Lista inmutable con las instancias canónicas
+     */
+    public static List<Card> standardDeck() {
+        return STANDARD_DECK;
+    }
 
-        // Coincidencia de tipo (SOLO para cartas especiales, no para números)
-        if (type != CardType.NUMBER && type == topCard.getType()) {
-            System.out.println("Coincidencia de tipo: se puede jugar");
-            return true;
+    /**
+     * Obtiene el mazo adecuado para una mesa: el estándar de 56 cartas para
+     * dos jugadores o, con más jugadores, 60 cartas que incluyen las Reversas.
+     * Si el reparto se llevaría la mitad de esas 60 cartas o más (desde seis
+     * jugadores), se juega con dos mazos, 120 cartas: con uno solo, la pila de
+     * robo se agota a menudo y la partida termina sin ganador.
+     *
+     * @param seats Número de jugadores en la mesa
+     * @return Lista inmutable con las instancias canónicas, sin barajar
+     */
+    public static List<Card> deckFor(int seats) {
+        if (seats <= 2) {
+            return STANDARD_DECK;
         }
+        return seats * Game.INITIAL_HAND_SIZE >= REVERSE_DECK.size() / 2 ? DOUBLE_DECK : REVERSE_DECK;
+    }
 
-        // Si no cumple ninguna condición
-        return false;
+    /**
+     * Verifica si esta carta se puede jugar sobre la carta superior,
+     * tomando el color de esa carta como color activo.
+     *
+     * @param topCard Carta superior en la mesa
+     * @return true si la carta es jugable, false en caso contrario
+     */
+    public boolean canPlayOn(Card topCard) {
+        return canPlayOn(topCard, topCard.getColor());
     }
 
     /**
-     * Establece el color activo para cartas comodín.
+     * Verifica si esta carta se puede jugar sobre la carta superior.
      *
-     * @param color Nuevo color activo
+     * @param topCard Carta superior en la mesa
+     * @param activeColor Color activo del juego (el elegido si la carta superior es un comodín)
+     * @return true si la carta es jugable, false en caso contrario
      */
-    public void setActiveColor(CardColor color) {
-        this.activeColor = color;
-        System.out.println("Color activo establecido a: " + color);
+    public boolean canPlayOn(Card topCard, CardColor activeColor) {
+        return Playability.isLegal(code, topCard.code, activeColor);
     }
 
     // Getters
@@ -104,8 +193,11 @@ public class Card {
         return number;
     }
 
-    public CardColor getActiveColor() {
-        return activeColor;
+    /**
+     * @return Código compacto de la carta (ver {@link CardCodes})
+     */
+    public int getCode() {
+        return code;
     }
 
     /**
@@ -115,11 +207,7 @@ public class Card {
      */
     @Override
     public String toString() {
-        if (type == CardType.NUMBER) {
-            return color + " " + number;
-        } else {
-            return color + " " + type;
-        }
+        return displayName;
     }
 
     /**
@@ -128,6 +216,10 @@ public class Card {
      * @return Nombre del archivo de la imagen
      */
     public String getImageFileName() {
+        return imageFileName;
+    }
+
+    private String buildImageFileName() {
         // Convertir el color a minúsculas para los nombres de archivo
         String colorName = color.name().toLowerCase();
 
@@ -140,6 +232,9 @@ public class Card {
         } else if (type == CardType.DRAW_TWO) {
             // Formato corregido: 2_wild_draw_blue.png, 2_wild_draw_red.png, etc.
             return "2_wild_draw_" + colorName + ".png";
+        } else if (type == CardType.REVERSE) {
+            // Formato: reserve_blue.png, reserve_red.png, etc.
+            return "reserve_" + colorName + ".png";
         } else if (type == CardType.WILD) {
             // Formato: wild.png
             return "wild.png";
@@ -148,4 +243,4 @@ public class Card {
             return "4_wild_draw.png";
         }
     }
-}
\ No newline at end of file
+}
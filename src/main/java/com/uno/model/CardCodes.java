@@ -0,0 +1,113 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.CardType;
+
+/**
+ * Codificación compacta de las cartas en un entero pequeño.
+ * Las cartas de color ocupan los códigos 0-51 ({@code color * 13 + ranura},
+ * con ranuras 0-9 para los números, 10 para Skip, 11 para +2 y 12 para
+ * Reversa) y los comodines los códigos 52 y 53. Así, un conjunto de cartas distintas cabe
+ * en un {@code long} y las consultas sobre una mano son operaciones de máscara.
+ */
+public final class CardCodes {
+    public static final int SLOTS_PER_COLOR = 13;
+    public static final int SKIP_SLOT = 10;
+    public static final int DRAW_TWO_SLOT = 11;
+    public static final int REVERSE_SLOT = 12;
+    public static final int COLORED_COUNT = 52;
+    public static final int WILD = 52;
+    public static final int WILD_DRAW_FOUR = 53;
+    public static final int CODE_COUNT = 54;
+
+    /** Bits de los dos comodines, que se pueden jugar sobre cualquier carta. */
+    public static final long WILD_BITS = (1L << WILD) | (1L << WILD_DRAW_FOUR);
+
+    private static final long[] COLOR_MASKS = new long[CardColor.values().length];
+    private static final long[] SLOT_MASKS = new long[SLOTS_PER_COLOR];
+    private static final long NUMBER_MASK;
+
+    static {
+        long numbers = 0;
+        for (int code = 0; code < COLORED_COUNT; code++) {
+            COLOR_MASKS[code / SLOTS_PER_COLOR] |= 1L << code;
+            SLOT_MASKS[code % SLOTS_PER_COLOR] |= 1L << code;
+            if (code % SLOTS_PER_COLOR <= 9) {
+                numbers |= 1L << code;
+            }
+        }
+        NUMBER_MASK = numbers;
+    }
+
+    private CardCodes() { }
+
+    /**
+     * Calcula el código de una carta.
+     *
+     * @param color Color de la carta
+     * @param type Tipo de la carta
+     * @param number Número de la carta (solo para cartas numéricas)
+     * @return Código entre 0 y {@link #CODE_COUNT} - 1
+     */
+    public static int encode(CardColor color, CardType type, int number) {
+        switch (type) {
+            case WILD:
+                return WILD;
+            case WILD_DRAW_FOUR:
+                return WILD_DRAW_FOUR;
+            case SKIP:
+                return color.ordinal() * SLOTS_PER_COLOR + SKIP_SLOT;
+            case DRAW_TWO:
+                return color.ordinal() * SLOTS_PER_COLOR + DRAW_TWO_SLOT;
+            case REVERSE:
+                return color.ordinal() * SLOTS_PER_COLOR + REVERSE_SLOT;
+            default:
+                return color.ordinal() * SLOTS_PER_COLOR + number;
+        }
+    }
+
+    /**
+     * @param code Código de una carta de color
+     * @return Color de la carta ({@link CardColor#WILD} para comodines)
+     */
+    public static CardColor colorOf(int code) {
+        return code < COLORED_COUNT ? CardColor.values()[code / SLOTS_PER_COLOR] : CardColor.WILD;
+    }
+
+    /**
+     * @param color Color a consultar
+     * @return Máscara con todas las cartas de ese color (vacía para WILD)
+     */
+    public static long colorMask(CardColor color) {
+        return COLOR_MASKS[color.ordinal()];
+    }
+
+    /**
+     * @param slot Ranura dentro del color (0-9 números, 10 Skip, 11 +2, 12 Reversa)
+     * @return Máscara con la carta de esa ranura en los cuatro colores
+     */
+    public static long slotMask(int slot) {
+        return SLOT_MASKS[slot];
+    }
+
+    /**
+     * @param type Tipo a consultar
+     * @return Máscara con todas las cartas de ese tipo
+     */
+    public static long typeMask(CardType type) {
+        switch (type) {
+            case WILD:
+                return 1L << WILD;
+            case WILD_DRAW_FOUR:
+                return 1L << WILD_DRAW_FOUR;
+            case SKIP:
+                return SLOT_MASKS[SKIP_SLOT];
+            case DRAW_TWO:
+                return SLOT_MASKS[DRAW_TWO_SLOT];
+            case REVERSE:
+                return SLOT_MASKS[REVERSE_SLOT];
+            default:
+                return NUMBER_MASK;
+        }
+    }
+}
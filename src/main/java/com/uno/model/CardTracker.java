@@ -0,0 +1,311 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.DrawReason;
+import com.uno.model.enums.GameState;
+
+/**
+ * Lo que un jugador sabe de las cartas que no ve, actualizado con cada
+ * evento de la partida. Lleva las cartas no vistas (manos rivales y pila de
+ * robo) como una máscara de bits, otra para las cartas de color repetidas
+ * de las mesas con dos mazos y los contadores de comodines, y por cada
+ * rival las cartas que se sabe que no tenía: quien roba por no poder jugar
+ * no tenía ninguna carta jugable en ese momento.
+ * <p>
+ * Cada evento cuesta O(1) y no crea objetos; un rebarajado devuelve el
+ * descarte a las cartas no vistas con unas pocas operaciones de máscara.
+ * Las consultas también son O(1): tratan la mano de un rival como cartas
+ * tomadas al azar de las no vistas, excluyendo lo que se sabe que no tenía
+ * salvo en las cartas que robó después.
+ */
+public final class CardTracker implements GameListener {
+    private final Game game;
+    private final int owner;
+
+    // Cartas no vistas por el dueño: en manos rivales o en la pila de robo
+    private long unseenColored;
+    private long unseenTwice;   // Segunda copia, solo con dos mazos
+    private int unseenWilds;
+    private int unseenWildDrawFours;
+
+    // Pila de descarte, que vuelve a ser no vista al rebarajar
+    private long discardColored;
+    private long discardTwice;
+    private int discardWilds;
+    private int discardWildDrawFours;
+
+    private final long[] lacking = new long[Game.MAX_SEATS];          // Códigos que el rival no tenía
+    private final int[] drawnSinceLacking = new int[Game.MAX_SEATS];  // Cartas robadas desde entonces
+    private final CardColor[] chosenColor = new CardColor[Game.MAX_SEATS];
+    private int reshuffles;
+    private boolean ready;
+
+    /**
+     * @param game Partida que se observa; el rastreador debe registrarse como observador
+     * @param owner Asiento del jugador que observa
+     */
+    public CardTracker(Game game, int owner) {
+        this.game = game;
+        this.owner = owner;
+    }
+
+    @Override
+    public void onGameStarted(Card firstCard) {
+        reset();
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card, DrawReason reason) {
+        if (!inSync()) {
+            return;
+        }
+        int seat = player.seat();
+        if (seat == owner) {
+            see(card.getCode());
+            return;
+        }
+        if (reason == DrawReason.NO_PLAYABLE_CARD) {
+            lacking[seat] = Playability.legalMask(game.getTopCard().getCode(), game.getActiveColor());
+            drawnSinceLacking[seat] = 0;
+        }
+        drawnSinceLacking[seat]++;
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        if (!inSync()) {
+            return;
+        }
+        int code = card.getCode();
+        int seat = player.seat();
+        if (seat != owner) {
+            see(code);
+            // Una carta que no tenía solo pudo salir de lo que robó después
+            if ((lacking[seat] >>> code & 1L) != 0 && drawnSinceLacking[seat] > 0) {
+                drawnSinceLacking[seat]--;
+            }
+        }
+        if (code == CardCodes.WILD) {
+            discardWilds++;
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            discardWildDrawFours++;
+        } else {
+            discardTwice |= discardColored & 1L << code;
+            discardColored |= 1L << code;
+        }
+    }
+
+    @Override
+    public void onColorChosen(Player player, CardColor color) {
+        if (inSync() && player.seat() != owner) {
+            chosenColor[player.seat()] = color;
+        }
+    }
+
+    /**
+     * Cartas no vistas con alguno de los códigos de la máscara.
+     *
+     * @param codes Máscara de códigos de carta
+     * @return Copias no vistas, en manos rivales o en la pila de robo
+     */
+    public int unseenCount(long codes) {
+        inSync();
+        int count = Long.bitCount(unseenColored & codes) + Long.bitCount(unseenTwice & codes);
+        if ((codes >>> CardCodes.WILD & 1L) != 0) {
+            count += unseenWilds;
+        }
+        if ((codes >>> CardCodes.WILD_DRAW_FOUR & 1L) != 0) {
+            count += unseenWildDrawFours;
+        }
+        return count;
+    }
+
+    /**
+     * Copias esperadas de una carta en la mano de un rival.
+     *
+     * @param seat Asiento del rival
+     * @param code Código de la carta
+     * @return Número esperado de copias; 0 si el dueño las ve todas
+     */
+    public double expectedCopies(int seat, int code) {
+        int copies = unseenCount(1L << code);
+        if (copies == 0 || seat == owner) {
+            return 0;
+        }
+        int pool = unseenCount(-1L);
+        int hand = game.getPlayer(seat).getHandSize();
+        int fresh = Math.min(drawnSinceLacking[seat], hand);
+        int restricted = pool - unseenCount(lacking[seat]);
+        double perCopy = (double) fresh / pool;
+        if ((lacking[seat] >>> code & 1L) == 0 && restricted > 0) {
+            perCopy += (double) (hand - fresh) / restricted;
+        }
+        return copies * Math.min(perCopy, 1.0);
+    }
+
+    /**
+     * Probabilidad de que un rival tenga al menos una carta con alguno de
+     * los códigos de la máscara.
+     *
+     * @param seat Asiento del rival
+     * @param codes Máscara de códigos de carta
+     * @return Probabilidad entre 0 y 1
+     */
+    public double probabilityHolds(int seat, long codes) {
+        if (seat == owner) {
+            return (game.getPlayer(owner).handBits.mask() & codes) != 0 ? 1 : 0;
+        }
+        int pool = unseenCount(-1L);
+        int hand = game.getPlayer(seat).getHandSize();
+        int fresh = Math.min(drawnSinceLacking[seat], hand);
+        double none = missAll(pool - unseenCount(lacking[seat]), unseenCount(codes & ~lacking[seat]), hand - fresh)
+                * missAll(pool, unseenCount(codes), fresh);
+        return 1 - none;
+    }
+
+    /**
+     * @param seat Asiento del rival
+     * @param color Color
+     * @return Probabilidad de que el rival tenga alguna carta de ese color
+     */
+    public double probabilityHoldsColor(int seat, CardColor color) {
+        return probabilityHolds(seat, CardCodes.colorMask(color));
+    }
+
+    /**
+     * @param seat Asiento del rival
+     * @return Probabilidad de que el rival pueda jugar sobre la mesa actual, comodines incluidos
+     */
+    public double probabilityCanPlay(int seat) {
+        return probabilityHolds(seat, Playability.legalMask(game.getTopCard().getCode(), game.getActiveColor()));
+    }
+
+    /**
+     * @param seat Asiento del rival
+     * @return Último color que eligió tras un comodín, o null
+     */
+    public CardColor lastChosenColor(int seat) {
+        return chosenColor[seat];
+    }
+
+    /**
+     * Recalcula todo desde la partida, sin historia: para la primera carta
+     * o al empezar a observar una partida ya empezada.
+     */
+    private void reset() {
+        unseenColored = 0;
+        unseenTwice = 0;
+        unseenWilds = 0;
+        unseenWildDrawFours = 0;
+        for (Card card : game.getDeck().getContents()) {
+            add(card.getCode(), 1);
+        }
+
+        // Se descuentan la mano propia y el descarte, carta por carta
+        HandBits own = game.getPlayer(owner).handBits;
+        int[] discards = new int[CardCodes.CODE_COUNT];
+        game.getDeck().countDiscards(discards);
+        discardColored = 0;
+        discardTwice = 0;
+        discardWilds = discards[CardCodes.WILD];
+        discardWildDrawFours = discards[CardCodes.WILD_DRAW_FOUR];
+        for (int code = 0; code < CardCodes.CODE_COUNT; code++) {
+            for (int i = own.count(code) + discards[code]; i > 0; i--) {
+                see(code);
+            }
+            if (code < CardCodes.COLORED_COUNT && discards[code] > 0) {
+                discardColored |= 1L << code;
+                if (discards[code] > 1) {
+                    discardTwice |= 1L << code;
+                }
+            }
+        }
+
+        for (int seat = 0; seat < Game.MAX_SEATS; seat++) {
+            lacking[seat] = 0;
+            drawnSinceLacking[seat] = 0;
+            chosenColor[seat] = null;
+        }
+        reshuffles = game.getDeck().getReshuffleCount();
+        ready = true;
+    }
+
+    /**
+     * Pone al día el rastreador antes de un evento o una consulta.
+     *
+     * @return true si el evento se debe aplicar; false si la partida no
+     *         empezó o si el rastreador acaba de recalcularse y ya lo incluye
+     */
+    private boolean inSync() {
+        if (!ready) {
+            if (game.getGameState() == GameState.NOT_STARTED) {
+                return false;
+            }
+            reset();
+            return false;
+        }
+        if (game.getDeck().getReshuffleCount() != reshuffles) {
+            reshuffles = game.getDeck().getReshuffleCount();
+            returnDiscards();
+        }
+        return true;
+    }
+
+    /**
+     * Un rebarajado devolvió a la pila de robo todo el descarte salvo la carta superior.
+     */
+    private void returnDiscards() {
+        int top = game.getTopCard().getCode();
+        boolean wildTop = top == CardCodes.WILD;
+        boolean wildDrawFourTop = top == CardCodes.WILD_DRAW_FOUR;
+        long topBit = top < CardCodes.COLORED_COUNT ? 1L << top : 0;
+        // La carta superior se queda: se quita una copia antes de sumar el descarte
+        if ((discardTwice & topBit) != 0) {
+            discardTwice &= ~topBit;
+        } else {
+            discardColored &= ~topBit;
+        }
+        unseenTwice |= discardTwice | unseenColored & discardColored;
+        unseenColored |= discardColored;
+        unseenWilds += discardWilds - (wildTop ? 1 : 0);
+        unseenWildDrawFours += discardWildDrawFours - (wildDrawFourTop ? 1 : 0);
+        discardColored = topBit;
+        discardTwice = 0;
+        discardWilds = wildTop ? 1 : 0;
+        discardWildDrawFours = wildDrawFourTop ? 1 : 0;
+    }
+
+    private void see(int code) {
+        add(code, -1);
+    }
+
+    private void add(int code, int copies) {
+        if (code == CardCodes.WILD) {
+            unseenWilds = Math.max(unseenWilds + copies, 0);
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            unseenWildDrawFours = Math.max(unseenWildDrawFours + copies, 0);
+        } else if (copies > 0) {
+            unseenTwice |= unseenColored & 1L << code;
+            unseenColored |= 1L << code;
+        } else if ((unseenTwice >>> code & 1L) != 0) {
+            unseenTwice &= ~(1L << code);
+        } else {
+            unseenColored &= ~(1L << code);
+        }
+    }
+
+    /**
+     * Probabilidad de que {@code draws} cartas tomadas de {@code pool} no
+     * incluyan ninguna de las {@code good}. Aproxima la hipergeométrica por
+     * una binomial para responder en O(1).
+     */
+    private static double missAll(int pool, int good, int draws) {
+        if (draws <= 0 || pool <= 0 || good <= 0) {
+            return 1;
+        }
+        if (good >= pool) {
+            return 0;
+        }
+        return Math.pow(1 - (double) good / pool, draws);
+    }
+}
@@ -4,52 +4,166 @@ import com.uno.exceptions.InvalidCardPlayException;
 import com.uno.model.enums.CardColor;
 import com.uno.model.enums.CardType;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
+import com.uno.util.GameRandom;
 
 /**
  * Clase que representa al jugador computadora en el juego UNO.
  */
 public class ComputerPlayer extends Player {
-    private final Random random;
+    private static final int UNO_CALL_PROBABILITY = 70;  // Porcentaje de veces que declara UNO
+    private static final CardType[] PRIORITY = {CardType.WILD_DRAW_FOUR, CardType.DRAW_TWO,
+            CardType.SKIP, CardType.REVERSE, CardType.WILD, CardType.NUMBER};
+    private static final CardColor[] COLORS = {CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW};
+
+    private final GameRandom random;
+    private PlayStrategy strategy;  // null: lista fija de prioridades
+    private CardTracker tracker;    // Lo que vio en su partida actual
 
     /**
      * Constructor para el jugador computadora.
      */
     public ComputerPlayer() {
-        super("Computadora");
-        this.random = new Random();
+        this("Computadora", new GameRandom());
     }
 
     /**
-     * Determina la mejor carta para jugar basándose en una estrategia simple.
-     * Prioriza cartas especiales y luego cartas del mismo color.
+     * Constructor con nombre y generador explícitos, usado en simulaciones
+     * para que las decisiones sean reproducibles.
+     *
+     * @param name Nombre del jugador
+     * @param random Generador de números aleatorios del jugador
+     */
+    public ComputerPlayer(String name, GameRandom random) {
+        super(name);
+        this.random = random;
+    }
+
+    /**
+     * Asigna la estrategia con la que decide la computadora.
+     *
+     * @param strategy Estrategia a usar o null para la lista fija de prioridades
+     */
+    public void setStrategy(PlayStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public PlayStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Crea el rastreador de cartas de la computadora para una partida.
+     *
+     * @param game Partida en la que juega; el rastreador se registra como su observador
+     * @return El rastreador
+     */
+    CardTracker track(Game game) {
+        tracker = new CardTracker(game, seat());
+        return tracker;
+    }
+
+    /**
+     * @return Lo que la computadora sabe de las cartas que no ve, o null fuera de una partida
+     */
+    public CardTracker getTracker() {
+        return tracker;
+    }
+
+    /**
+     * Elige la carta del turno actual con la estrategia asignada.
+     *
+     * @param game Partida en curso
+     * @return Índice de la carta a jugar o -1 para robar
+     */
+    public int chooseCardIndex(Game game) {
+        if (strategy == null) {
+            return selectBestCardIndex(game.getTopCard(), game.getActiveColor());
+        }
+        int code = strategy.chooseCard(game, this);
+        return code < 0 ? -1 : indexOfFirst(1L << code);
+    }
+
+    /**
+     * Elige el color tras un comodín con la estrategia asignada.
+     *
+     * @param game Partida en curso
+     * @return El color elegido
+     */
+    public CardColor chooseColor(Game game) {
+        if (strategy != null) {
+            return strategy.chooseColor(game, this);
+        }
+        return tracker == null ? selectBestColor() : selectColorAgainst(nextRival(game));
+    }
+
+    /**
+     * Elige el color con más cartas propias; entre colores igual de buenos,
+     * el que es menos probable que tenga el rival que juega después.
+     *
+     * @param rival Asiento del rival
+     * @return El color seleccionado
+     */
+    private CardColor selectColorAgainst(int rival) {
+        CardColor best = COLORS[0];
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (CardColor color : COLORS) {
+            double score = handBits.countColor(color) - tracker.probabilityHoldsColor(rival, color);
+            if (score > bestScore) {
+                bestScore = score;
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return Asiento del rival que jugará después del comodín: tras un +4
+     *         con más de dos jugadores, el siguiente pierde el turno
+     */
+    private int nextRival(Game game) {
+        int steps = game.getTopCard().getType() == CardType.WILD_DRAW_FOUR && game.getSeatCount() > 2 ? 2 : 1;
+        return Math.floorMod(seat() + game.getDirection() * steps, game.getSeatCount());
+    }
+
+    /**
+     * Determina la mejor carta para jugar basándose en una estrategia simple
+     * y la juega.
      *
      * @param topCard Carta superior en la mesa
+     * @param activeColor Color activo del juego
      * @return La carta seleccionada o null si no hay cartas jugables
      * @throws InvalidCardPlayException si la carta no se puede jugar
      */
-    public Card selectBestCard(Card topCard) throws InvalidCardPlayException {
-        if (!hasPlayableCard(topCard)) {
+    public Card selectBestCard(Card topCard, CardColor activeColor) throws InvalidCardPlayException {
+        int index = selectBestCardIndex(topCard, activeColor);
+        if (index < 0) {
             return null;
         }
+        return playCard(index, topCard, activeColor);
+    }
+
+    /**
+     * Determina el índice de la mejor carta para jugar sin sacarla de la mano.
+     * Prioriza cartas especiales y luego cartas del mismo color.
+     *
+     * @param topCard Carta superior en la mesa
+     * @param activeColor Color activo del juego
+     * @return Índice de la carta seleccionada o -1 si no hay cartas jugables
+     */
+    public int selectBestCardIndex(Card topCard, CardColor activeColor) {
+        long playable = handBits.playableMask(topCard.getCode(), activeColor);
+        if (playable == 0) {
+            return -1;
+        }
 
-        // Prioridad: +4, +2, Skip, Wild, Número
-        for (CardType priority : new CardType[]{CardType.WILD_DRAW_FOUR, CardType.DRAW_TWO,
-                CardType.SKIP, CardType.WILD, CardType.NUMBER}) {
-            for (int i = 0; i < hand.size(); i++) {
-                Card card = hand.get(i);
-                if (card.getType() == priority && card.canPlayOn(topCard)) {
-                    return playCard(i, topCard);
-                }
+        // Prioridad: +4, +2, Skip, Reversa, Wild, Número
+        for (CardType priority : PRIORITY) {
+            long candidates = playable & CardCodes.typeMask(priority);
+            if (candidates != 0) {
+                return indexOfFirst(candidates);
             }
         }
-
-        // Si llegamos aquí, solo quedan cartas numéricas jugables
-        // Jugamos la primera que encontremos
-        int index = getPlayableCardIndex(topCard);
-        return playCard(index, topCard);
+        return indexOfFirst(playable);
     }
 
     /**
@@ -58,44 +172,25 @@ public class ComputerPlayer extends Player {
      *
      * @return El color seleccionado
      */
+    @Override
     public CardColor selectBestColor() {
-        Map<CardColor, Integer> colorCount = new HashMap<>();
-
-        // Contamos cuántas cartas hay de cada color
-        for (Card card : hand) {
-            if (card.getColor() != CardColor.WILD) {
-                CardColor color = card.getColor();
-                colorCount.put(color, colorCount.getOrDefault(color, 0) + 1);
-            }
-        }
+        CardColor bestColor = handBits.dominantColor();
 
         // Si no hay cartas de color, elegimos uno al azar
-        if (colorCount.isEmpty()) {
-            CardColor[] colors = {CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW};
-            return colors[random.nextInt(colors.length)];
-        }
-
-        // Encontramos el color más frecuente
-        CardColor bestColor = CardColor.RED; // Valor por defecto
-        int maxCount = 0;
-
-        for (Map.Entry<CardColor, Integer> entry : colorCount.entrySet()) {
-            if (entry.getValue() > maxCount) {
-                maxCount = entry.getValue();
-                bestColor = entry.getKey();
-            }
+        if (bestColor == null) {
+            return COLORS[random.nextInt(COLORS.length)];
         }
-
         return bestColor;
     }
 
     /**
      * Simula la declaración de UNO por parte de la computadora.
-     * La computadora siempre declara UNO cuando debe hacerlo.
+     * La computadora a veces olvida declarar UNO, lo que da al rival
+     * la oportunidad de atraparla.
      *
-     * @return true siempre, ya que la computadora siempre declara UNO
+     * @return true si la computadora declara UNO
      */
     public boolean decideToCallUno() {
-        return true;
+        return random.chance(UNO_CALL_PROBABILITY);
     }
 }
\ No newline at end of file
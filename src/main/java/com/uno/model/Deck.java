@@ -1,81 +1,174 @@
 package com.uno.model;
 
 import com.uno.exceptions.EmptyDeckException;
-import com.uno.model.enums.CardColor;
-import com.uno.model.enums.CardType;
+import com.uno.util.GameRandom;
 
 import java.util.*;
 
 /**
- * Mazo de 56 cartas UNO.
+ * Mazo de cartas UNO (56 cartas para dos jugadores, ver {@link Card#deckFor(int)}).
  * Incluye operaciones para robar, descartar
  * y barajar.
+ * Las pilas son arreglos con un índice de tope sin sincronización: el mazo
+ * pertenece a una sola partida y solo lo modifica el hilo que la juega.
  */
 
 
 public class Deck {
-    private final Stack<Card> cards;
-    private final Stack<Card> discardPile;
+    private Card[] cards;          // Pila de robo; el tope es cards[size - 1]
+    private int size;
+    private Card[] discardPile;    // Pila de descarte; el tope es discardPile[discardSize - 1]
+    private int discardSize;
+    private final GameRandom random;
+    private final List<Card> contents;  // Composición completa del mazo, sin barajar
+    private int reshuffleCount;
+    private int generation;        // Cambia cuando las pilas dejan de solo crecer o menguar por el tope
 
     public Deck() {
-        cards = new Stack<>();
-        discardPile = new Stack<>();
-        initializeDeck();
+        this(new GameRandom());
+    }
+
+    /**
+     * Crea un mazo que baraja con el generador indicado, de modo que
+     * una misma semilla produce siempre la misma partida.
+     *
+     * @param random Generador de números aleatorios del mazo
+     */
+    public Deck(GameRandom random) {
+        this(random, Card.standardDeck());
+    }
+
+    /**
+     * Crea un mazo barajado con las cartas indicadas.
+     *
+     * @param random Generador de números aleatorios del mazo
+     * @param contents Cartas del mazo, por ejemplo {@link Card#deckFor(int)}
+     */
+    public Deck(GameRandom random, List<Card> contents) {
+        this.random = random;
+        this.contents = contents;
+        cards = new Card[contents.size()];
+        discardPile = new Card[contents.size()];
+        initializeDeck(contents);
         shuffle();
     }
 
-    /** Crea 56 cartas: 12 por color (0-9, +2, Skip) + 8 comodines. */
-    private void initializeDeck() {
-        cards.clear();
+    /**
+     * Restaura un mazo guardado sin barajarlo.
+     *
+     * @param random Generador para los próximos rebarajados
+     * @param contents Cartas con las que se creó el mazo
+     * @param drawPile Pila de robo, de abajo hacia arriba
+     * @param discardPile Pila de descarte, de abajo hacia arriba
+     */
+    public Deck(GameRandom random, List<Card> contents, Card[] drawPile, Card[] discardPile) {
+        this.random = random;
+        this.contents = contents;
+        int capacity = Math.max(contents.size(), drawPile.length + discardPile.length);
+        cards = Arrays.copyOf(drawPile, capacity);
+        size = drawPile.length;
+        this.discardPile = Arrays.copyOf(discardPile, capacity);
+        discardSize = discardPile.length;
+    }
 
-        for (CardColor color : new CardColor[]{CardColor.RED, CardColor.GREEN, CardColor.BLUE, CardColor.YELLOW}) {
-            // 0
-            cards.add(new Card(color, 0));
-            // 1-9 (una de cada)
-            for (int n = 1; n <= 9; n++) cards.add(new Card(color, n));
-            // +2
-            cards.add(new Card(color, CardType.DRAW_TWO));
-            // Skip
-            cards.add(new Card(color, CardType.SKIP));
-        }
-        // 4 comodines y 4 +4
-        for (int i = 0; i < 4; i++) cards.add(new Card(CardColor.WILD, CardType.WILD));
-        for (int i = 0; i < 4; i++) cards.add(new Card(CardColor.WILD, CardType.WILD_DRAW_FOUR));
+    /** Carga las cartas canónicas: 12 por color (0-9, +2, Skip) + 8 comodines, más las Reversas si las hay. */
+    private void initializeDeck(List<Card> contents) {
+        size = 0;
+        for (Card card : contents) cards[size++] = card;
+    }
+
+    /** Baraja la pila de robo (Fisher-Yates). */
+    public void shuffle() {
+        for (int i = size - 1; i > 0; i--) swap(cards, i, random.nextInt(i + 1));
+        generation++;
     }
 
-    public void shuffle()                   { Collections.shuffle(cards); }
     public Card drawCard() throws EmptyDeckException {
-        if (cards.isEmpty()) reshuffleDiscardPile();
-        if (cards.isEmpty()) throw new EmptyDeckException("No quedan cartas en el mazo");
-        return cards.pop();
+        if (size == 0) reshuffleDiscardPile();
+        if (size == 0) throw new EmptyDeckException("No quedan cartas en el mazo");
+        Card card = cards[--size];
+        cards[size] = null;
+        return card;
+    }
+
+    /**
+     * Roba varias cartas de una vez (efectos +2 y +4). La pila de descarte
+     * se rebaraja como máximo una vez por lote.
+     *
+     * @param n Cantidad de cartas a robar
+     * @return Las cartas robadas
+     * @throws EmptyDeckException si no quedan suficientes cartas ni rebarajando
+     */
+    public List<Card> drawCards(int n) throws EmptyDeckException {
+        if (size < n) reshuffleDiscardPile();
+        if (size < n) throw new EmptyDeckException("No quedan cartas en el mazo");
+        Card[] drawn = new Card[n];
+        for (int i = 0; i < n; i++) {
+            drawn[i] = cards[--size];
+            cards[size] = null;
+        }
+        return Arrays.asList(drawn);
+    }
+
+    /**
+     * Roba hasta {@code n} cartas para un castigo (+2 y +4): si ni rebarajando
+     * alcanzan, entrega las que haya en lugar de fallar, porque la carta que
+     * castiga ya se jugó. La pila de descarte se rebaraja como máximo una vez.
+     *
+     * @param n Cantidad de cartas a robar
+     * @return Las cartas robadas; menos de {@code n}, o ninguna, si no quedan
+     */
+    public List<Card> drawUpTo(int n) {
+        if (size < n) reshuffleDiscardPile();
+        Card[] drawn = new Card[Math.min(n, size)];
+        for (int i = 0; i < drawn.length; i++) {
+            drawn[i] = cards[--size];
+            cards[size] = null;
+        }
+        return Arrays.asList(drawn);
+    }
+
+    public void discard(Card card) {
+        if (discardSize == discardPile.length) discardPile = Arrays.copyOf(discardPile, discardSize * 2);
+        discardPile[discardSize++] = card;
     }
-    public void discard(Card card)          { discardPile.push(card); }
 
     private void reshuffleDiscardPile() {
-        if (discardPile.size() <= 1) return;
-        Card top = discardPile.pop();
-        while (!discardPile.isEmpty()) cards.push(discardPile.pop());
-        discardPile.push(top);
+        if (discardSize <= 1) return;
+        ensureCapacity(size + discardSize - 1);
+        // Todas menos la carta superior vuelven a la pila de robo
+        for (int i = 0; i < discardSize - 1; i++) {
+            cards[size++] = discardPile[i];
+            discardPile[i] = null;
+        }
+        discardPile[0] = discardPile[discardSize - 1];
+        discardPile[discardSize - 1] = null;
+        discardSize = 1;
         shuffle();
+        reshuffleCount++;
     }
 
+    /**
+     * Devuelve una carta a una posición aleatoria de la pila de robo en O(1):
+     * se coloca en el tope y se intercambia con una posición al azar.
+     *
+     * @param card Carta a devolver
+     */
     public void reinsertCard(Card card) {
-        List<Card> tmp = new ArrayList<>(cards);
-        int pos = new Random().nextInt(tmp.size() + 1);
-        tmp.add(pos, card);
-        cards.clear();
-        for (int i = tmp.size() - 1; i >= 0; i--) cards.push(tmp.get(i));
+        ensureCapacity(size + 1);
+        cards[size] = card;
+        swap(cards, size, random.nextInt(size + 1));
+        size++;
+        generation++;
     }
 
     public Card getTopCard() throws EmptyDeckException {
-        if (discardPile.isEmpty()) throw new EmptyDeckException("Pila de descarte vacía");
-        return discardPile.peek();
+        if (discardSize == 0) throw new EmptyDeckException("Pila de descarte vacía");
+        return discardPile[discardSize - 1];
     }
 
     public List<Card> dealInitialHand(int n) throws EmptyDeckException {
-        List<Card> hand = new ArrayList<>();
-        for (int i = 0; i < n; i++) hand.add(drawCard());
-        return hand;
+        return new ArrayList<>(drawCards(n));
     }
 
     public Card placeInitialCard() throws EmptyDeckException {
@@ -84,6 +177,61 @@ public class Deck {
         return c;
     }
 
-    public boolean isEmpty() { return cards.isEmpty(); }
+    /**
+     * Suma al arreglo cuántas copias de cada código hay en la pila de
+     * descarte, que es información pública para la IA.
+     *
+     * @param countsByCode Conteos indexados por código de carta (ver {@link CardCodes})
+     */
+    public void countDiscards(int[] countsByCode) {
+        for (int i = 0; i < discardSize; i++) countsByCode[discardPile[i].getCode()]++;
+    }
+
+    /**
+     * Copia la pila de robo en su orden actual.
+     *
+     * @return Las cartas de abajo hacia arriba; la última es la próxima en salir
+     */
+    public Card[] getDrawPile() { return Arrays.copyOf(cards, size); }
+
+    /**
+     * Copia la pila de descarte.
+     *
+     * @return Las cartas de abajo hacia arriba; la última es la carta superior
+     */
+    public Card[] getDiscardPile() { return Arrays.copyOf(discardPile, discardSize); }
+
+    /**
+     * @param index Posición en la pila de descarte, desde abajo
+     * @return La carta en esa posición
+     */
+    public Card getDiscard(int index) { return discardPile[index]; }
+
+    /**
+     * Número que cambia al barajar, rebarajar o devolver una carta. Mientras
+     * no cambie, la pila de robo solo pierde cartas del tope y la de descarte
+     * solo las gana, así que una copia anterior sigue siendo válida por debajo.
+     */
+    public int getGeneration() { return generation; }
+
+    /** Cartas con las que se creó el mazo, sin barajar. */
+    public List<Card> getContents() { return contents; }
+    public boolean isEmpty() { return size == 0; }
+    /** Cartas que quedan en la pila de robo. */
+    public int size() { return size; }
+    /** Cartas en la pila de descarte, incluida la superior. */
+    public int getDiscardPileSize() { return discardSize; }
+    /** Veces que la pila de descarte se rebarajó dentro del mazo. */
+    public int getReshuffleCount() { return reshuffleCount; }
     public void reshuffleDeck() throws EmptyDeckException { reshuffleDiscardPile(); }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > cards.length) cards = Arrays.copyOf(cards, Math.max(capacity, cards.length * 2));
+    }
+
+    private static void swap(Card[] array, int i, int j) {
+        Card tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
 }
@@ -5,40 +5,210 @@ import com.uno.exceptions.InvalidCardPlayException;
 import com.uno.exceptions.UnoDeclarationException;
 import com.uno.model.enums.CardColor;
 import com.uno.model.enums.CardType;
+import com.uno.model.enums.DrawReason;
 import com.uno.model.enums.GameState;
+import com.uno.util.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Clase principal que maneja la lógica del juego UNO.
+ * Motor del juego UNO.
+ * Es el único dueño de las transiciones de estado y no depende de JavaFX:
+ * la GUI o una simulación actúan a través de sus métodos y observan los
+ * cambios mediante {@link GameListener}.
+ * Los jugadores ocupan asientos en un anillo (de 2 a 10) que se recorre en
+ * el sentido actual; saltos, robos y Reversas se resuelven con aritmética
+ * de índices sobre ese anillo.
  */
 public class Game {
-    private static final int INITIAL_HAND_SIZE = 5;
-
-    private Deck deck;
-    private HumanPlayer humanPlayer;
-    private ComputerPlayer computerPlayer;
+    public static final int MIN_SEATS = 2;
+    public static final int MAX_SEATS = 10;
+    static final int INITIAL_HAND_SIZE = 5;
+    public static final int HUMAN_SEAT = 0;  // El asiento 0 ocupa el turno PLAYER_TURN
+
+    private final Deck deck;
+    private final TurnRing ring;
+    private final List<GameListener> listeners;
     private Card topCard;
-    private boolean isHumanTurn;
+    private CardColor activeColor;  // Color a seguir; el elegido si la carta superior es un comodín
     private GameState gameState;
     private Player winner;
-    private boolean unoButtonEnabled;
-    private boolean waitingForUnoDeclaration;
+    private Player unoPendingPlayer;  // Jugador con una carta que aún no declaró UNO
+    private int unoWindow;            // Número de la última ventana de UNO abierta
+
+    /**
+     * Constructor que inicializa el juego contra la computadora.
+     *
+     * @param playerName Nombre del jugador humano
+     */
+    public Game(String playerName) {
+        this(playerName, new GameRandom());
+    }
 
     /**
-     * Constructor que inicializa el juego.
+     * Constructor reproducible: el mazo y la computadora usan generadores
+     * derivados del indicado, así que la misma semilla repite la partida.
      *
      * @param playerName Nombre del jugador humano
-     * @throws EmptyDeckException si hay problemas al inicializar el mazo
+     * @param random Generador raíz de la partida
+     */
+    public Game(String playerName, GameRandom random) {
+        this(new HumanPlayer(playerName), new ComputerPlayer("Computadora", random.split()),
+                new Deck(random.split()));
+    }
+
+    /**
+     * Constructor con jugadores y mazo explícitos.
+     * Si ambos jugadores son {@link ComputerPlayer}, el juego puede jugarse
+     * completo sin interfaz mediante {@link #playAutomaticTurn()}.
+     *
+     * @param humanPlayer Jugador que ocupa el turno {@link GameState#PLAYER_TURN}
+     * @param computerPlayer Jugador que ocupa el turno {@link GameState#COMPUTER_TURN}
+     * @param deck Mazo a utilizar
+     */
+    public Game(Player humanPlayer, Player computerPlayer, Deck deck) {
+        this(List.of(humanPlayer, computerPlayer), deck);
+    }
+
+    /**
+     * Constructor para mesas de varios jugadores. El asiento 0 juega primero
+     * y ocupa el turno {@link GameState#PLAYER_TURN}; el resto, el turno
+     * {@link GameState#COMPUTER_TURN}.
+     *
+     * @param players Jugadores en orden de asiento
+     * @param deck Mazo a utilizar, normalmente con {@link Card#deckFor(int)}
      */
-    public Game(String playerName) throws EmptyDeckException {
-        deck = new Deck();
-        humanPlayer = new HumanPlayer(playerName);
-        computerPlayer = new ComputerPlayer();
-        gameState = GameState.NOT_STARTED;
-        winner = null;
-        unoButtonEnabled = false;
-        waitingForUnoDeclaration = false;
+    public Game(List<Player> players, Deck deck) {
+        if (players.size() < MIN_SEATS || players.size() > MAX_SEATS) {
+            throw new IllegalArgumentException("Se necesitan entre " + MIN_SEATS + " y "
+                    + MAX_SEATS + " jugadores: " + players.size());
+        }
+        this.deck = deck;
+        this.ring = new TurnRing(players);
+        this.listeners = new ArrayList<>();
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.get(seat).assignSeat(seat);
+            // La computadora lleva la cuenta de lo que ve desde el primer evento
+            if (players.get(seat) instanceof ComputerPlayer computer) {
+                listeners.add(computer.track(this));
+            }
+        }
+        this.gameState = GameState.NOT_STARTED;
+        this.winner = null;
+        this.unoPendingPlayer = null;
     }
 
+    /**
+     * Reconstruye una partida guardada a mitad de juego. Los jugadores ya
+     * deben tener sus manos y el mazo sus pilas; aquí se restaura el resto.
+     *
+     * @param players Jugadores en orden de asiento
+     * @param deck Mazo con las pilas de robo y descarte guardadas
+     * @param state Estado del juego
+     * @param currentSeat Asiento en turno
+     * @param direction 1 o -1
+     * @param activeColor Color activo
+     * @param winnerSeat Asiento del ganador o -1
+     * @param unoPendingSeat Asiento con la ventana de UNO abierta o -1
+     * @return La partida, lista para seguir
+     * @throws EmptyDeckException si la pila de descarte está vacía en una partida empezada
+     */
+    public static Game restore(List<Player> players, Deck deck, GameState state, int currentSeat, int direction,
+                               CardColor activeColor, int winnerSeat, int unoPendingSeat) throws EmptyDeckException {
+        Game game = new Game(players, deck);
+        game.gameState = state;
+        game.ring.moveTo(currentSeat);
+        if (direction < 0) {
+            game.ring.reverse();
+        }
+        if (state != GameState.NOT_STARTED) {
+            game.topCard = deck.getTopCard();
+        }
+        game.activeColor = activeColor;
+        game.winner = winnerSeat >= 0 ? game.ring.get(winnerSeat) : null;
+        game.unoPendingPlayer = unoPendingSeat >= 0 ? game.ring.get(unoPendingSeat) : null;
+        return game;
+    }
+
+    /**
+     * Hash de Zobrist del estado completo: manos, carta superior, color
+     * activo, turno, sentido, cartas en la pila de robo y estado del juego.
+     * Las manos se mantienen al día en cada robo y jugada; el resto son
+     * unos pocos campos, así que el cálculo es O(asientos).
+     *
+     * @return Hash del estado
+     */
+    public long getZobristHash() {
+        long hash = tableHash() ^ Zobrist.state(gameState);
+        for (int seat = 0; seat < ring.size(); seat++) {
+            hash ^= ring.get(seat).getZobristHash();
+        }
+        return hash;
+    }
+
+    /**
+     * Hash de Zobrist de lo que ve un jugador: su mano, la mesa y cuántas
+     * cartas tiene cada uno. Dos posiciones con el mismo hash son, para ese
+     * jugador, la misma decisión; la búsqueda calcula el mismo hash.
+     *
+     * @param seat Asiento del jugador
+     * @return Hash del conjunto de información del jugador
+     */
+    public long getInformationHash(int seat) {
+        long hash = tableHash() ^ ring.get(seat).getZobristHash();
+        for (int other = 0; other < ring.size(); other++) {
+            hash ^= Zobrist.handSize(other, ring.get(other).getHandSize());
+        }
+        return hash;
+    }
+
+    private long tableHash() {
+        return (topCard == null ? 0 : Zobrist.top(topCard.getCode())) ^ Zobrist.color(activeColor)
+                ^ Zobrist.turn(ring.current()) ^ Zobrist.direction(ring.direction()) ^ Zobrist.pileSize(deck.size());
+    }
+
+    /**
+     * Registra un observador de los eventos del juego.
+     *
+     * @param listener Observador a registrar
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Reparte las manos iniciales y coloca la primera carta de la mesa.
+     * La carta inicial nunca es un comodín.
+     *
+     * @throws EmptyDeckException si hay problemas con el mazo
+     */
+    public void startGame() throws EmptyDeckException {
+        if (gameState != GameState.NOT_STARTED) {
+            return;
+        }
+
+        for (int i = 0; i < INITIAL_HAND_SIZE; i++) {
+            for (int seat = 0; seat < ring.size(); seat++) {
+                drawTo(ring.get(seat), DrawReason.DEAL);
+            }
+        }
+
+        // Colocar carta inicial: si es un comodín, la devolvemos a una posición aleatoria del mazo
+        Card initialCard = deck.drawCard();
+        while (initialCard.getType().isWild()) {
+            deck.reinsertCard(initialCard);
+            initialCard = deck.drawCard();
+        }
+        deck.discard(initialCard);
+        topCard = initialCard;
+        activeColor = initialCard.getColor();
+        for (GameListener listener : listeners) {
+            listener.onGameStarted(initialCard);
+        }
+
+        setTurn(HUMAN_SEAT);
+    }
 
     /**
      * Intenta que el jugador humano juegue una carta.
@@ -51,246 +221,386 @@ public class Game {
         if (gameState != GameState.PLAYER_TURN) {
             throw new InvalidCardPlayException("No es el turno del jugador humano");
         }
+        playCard(HUMAN_SEAT, cardIndex);
+    }
+
+    /**
+     * Permite al jugador humano robar una carta cuando no puede jugar.
+     * Si la carta robada se puede jugar, el jugador conserva el turno.
+     *
+     * @return La carta robada
+     * @throws InvalidCardPlayException si no es su turno o si tiene cartas jugables
+     * @throws EmptyDeckException si hay problemas con el mazo
+     */
+    public Card humanDrawCard() throws InvalidCardPlayException, EmptyDeckException {
+        if (gameState != GameState.PLAYER_TURN) {
+            throw new InvalidCardPlayException("No es el turno del jugador humano");
+        }
+        if (ring.get(HUMAN_SEAT).hasPlayableCard(topCard, activeColor)) {
+            throw new InvalidCardPlayException("Tienes cartas jugables");
+        }
+        return drawForTurn(HUMAN_SEAT);
+    }
+
+    /**
+     * Realiza el turno de la computadora.
+     *
+     * @throws EmptyDeckException si hay problemas con el mazo
+     */
+    public void computerTurn() throws EmptyDeckException {
+        if (gameState != GameState.COMPUTER_TURN) {
+            return;
+        }
+        playAutomaticTurn();
+    }
+
+    /**
+     * Juega el turno actual si le corresponde a un {@link ComputerPlayer}:
+     * juega su mejor carta o, si no tiene cartas jugables, roba una.
+     *
+     * @throws EmptyDeckException si hay problemas con el mazo
+     */
+    public void playAutomaticTurn() throws EmptyDeckException {
+        if (gameState != GameState.PLAYER_TURN && gameState != GameState.COMPUTER_TURN) {
+            return;
+        }
+        if (!(getCurrentPlayer() instanceof ComputerPlayer computer)) {
+            return;
+        }
+
+        int index = computer.chooseCardIndex(this);
+        if (index >= 0) {
+            playCard(ring.current(), index);
+        } else {
+            drawForTurn(ring.current());
+        }
+    }
+
+    /**
+     * Establece el color seleccionado para las cartas comodín.
+     *
+     * @param color Color seleccionado
+     */
+    public void setSelectedColor(CardColor color) {
+        if (gameState == GameState.COLOR_SELECTION) {
+            finishColorSelection(ring.current(), color);
+        }
+    }
+
+    /**
+     * Maneja la declaración de UNO por parte del jugador humano.
+     *
+     * @throws UnoDeclarationException si la declaración de UNO no es válida
+     */
+    public void humanCallUno() throws UnoDeclarationException {
+        Player human = ring.get(HUMAN_SEAT);
+        if (unoPendingPlayer != human) {
+            throw new UnoDeclarationException("No es momento de declarar UNO");
+        }
+
+        human.callUno();
+        unoPendingPlayer = null;
+        for (GameListener listener : listeners) {
+            listener.onUnoCalled(human);
+        }
+    }
+
+    /**
+     * El jugador humano atrapa a un rival sin declarar UNO.
+     *
+     * @return true si el rival fue atrapado y penalizado
+     * @throws EmptyDeckException si hay problemas con el mazo al penalizar
+     */
+    public boolean humanCatchUno() throws EmptyDeckException {
+        return unoPendingPlayer != ring.get(HUMAN_SEAT) && catchUno(unoPendingPlayer);
+    }
+
+    /**
+     * Ejecuta la acción de la computadora de declarar "UNO" cuando el humano se olvidó.
+     *
+     * @return true si la computadora atrapó al humano sin declarar UNO
+     * @throws EmptyDeckException si hay problemas con el mazo al penalizar
+     */
+    public boolean computerCallCatchUno() throws EmptyDeckException {
+        return catchUno(ring.get(HUMAN_SEAT));
+    }
+
+    /**
+     * Cierra la ventana de UNO cuando se agota el tiempo.
+     * La computadora nunca deja pasar a un rival que olvidó declarar UNO;
+     * el humano, en cambio, solo penaliza si atrapa a la computadora a tiempo.
+     *
+     * @throws EmptyDeckException si hay problemas con el mazo al penalizar
+     */
+    public void checkUnoPenalty() throws EmptyDeckException {
+        Player pending = unoPendingPlayer;
+        if (pending == null) {
+            return;
+        }
+        if (hasComputerRival(pending)) {
+            catchUno(pending);
+        } else {
+            unoPendingPlayer = null;
+            for (GameListener listener : listeners) {
+                listener.onUnoWindowClosed(pending);
+            }
+        }
+    }
 
-        Card playedCard = humanPlayer.playCard(cardIndex, topCard);
+    /**
+     * Juega una carta de la mano del jugador y aplica sus efectos.
+     */
+    private void playCard(int seat, int cardIndex) throws EmptyDeckException {
+        Player player = ring.get(seat);
+        Card playedCard = player.playCard(cardIndex, topCard, activeColor);
         deck.discard(playedCard);
         topCard = playedCard;
+        // Un comodín deja el color en WILD hasta que se elija uno
+        activeColor = playedCard.getColor();
+        if (unoPendingPlayer == player) {
+            unoPendingPlayer = null;
+        }
+        for (GameListener listener : listeners) {
+            listener.onCardPlayed(player, playedCard);
+        }
 
         // Comprobar si el jugador tiene que declarar UNO
-        if (humanPlayer.getHandSize() == 1) {
-            waitingForUnoDeclaration = true;
-            unoButtonEnabled = true;
+        if (player.getHandSize() == 1) {
+            openUnoWindow(player);
         }
 
         // Comprobar si el jugador ha ganado
-        if (humanPlayer.hasWon()) {
-            winner = humanPlayer;
+        if (player.hasWon()) {
+            winner = player;
             gameState = GameState.GAME_OVER;
+            for (GameListener listener : listeners) {
+                listener.onGameOver(player);
+            }
             return;
         }
 
-        // Manejar efectos de la carta jugada
-        handlePlayedCardEffects(playedCard, true);
+        handlePlayedCardEffects(seat, playedCard);
     }
 
     /**
-     * Maneja los efectos de las cartas especiales.
+     * Maneja los efectos de las cartas especiales. Con dos jugadores,
+     * saltar al siguiente equivale a que repita quien jugó la carta.
      *
+     * @param seat Asiento del jugador que jugó la carta
      * @param playedCard Carta jugada
-     * @param isHumanPlaying true si el jugador humano jugó la carta, false si fue la computadora
-     * @throws EmptyDeckException si hay problemas con el mazo al robar cartas
      */
-    private void handlePlayedCardEffects(Card playedCard, boolean isHumanPlaying) throws EmptyDeckException {
-        CardType type = playedCard.getType();
-
-        switch (type) {
+    private void handlePlayedCardEffects(int seat, Card playedCard) {
+        switch (playedCard.getType()) {
             case SKIP:
-                // Quien jugó la carta repite turno
-                // No cambiamos isHumanTurn
-                if (isHumanPlaying) {
-                    isHumanTurn = true;
-                    gameState = GameState.PLAYER_TURN;
-                } else {
-                    isHumanTurn = true;
-                    gameState = GameState.COMPUTER_TURN;
-                }
+                // El siguiente pierde su turno
+                setTurn(ring.seatAfter(seat, 2));
                 break;
 
             case DRAW_TWO:
-                // El oponente roba 2 cartas y pierde el turno
-                if (isHumanPlaying) {
-                    computerPlayer.addCard(deck.drawCard());
-                    computerPlayer.addCard(deck.drawCard());
-                    gameState = GameState.PLAYER_TURN;
-                } else {
-                    humanPlayer.addCard(deck.drawCard());
-                    humanPlayer.addCard(deck.drawCard());
-                    gameState = GameState.COMPUTER_TURN;
-                }
+                // El siguiente roba 2 cartas y pierde el turno
+                drawTo(ring.get(ring.seatAfter(seat, 1)), 2, DrawReason.DRAW_TWO);
+                setTurn(ring.seatAfter(seat, 2));
+                break;
+
+            case REVERSE:
+                // Cambia el sentido; con dos jugadores actúa como Skip
+                ring.reverse();
+                setTurn(ring.size() == 2 ? seat : ring.seatAfter(seat, 1));
                 break;
 
             case WILD:
                 // El jugador debe elegir un color
-                if (isHumanPlaying) {
-                    gameState = GameState.COLOR_SELECTION;
-                } else {
-                    // La computadora elige el color automáticamente
-                    CardColor bestColor = computerPlayer.selectBestColor();
-                    playedCard.setActiveColor(bestColor);
-                    isHumanTurn = true;
-                    gameState = GameState.PLAYER_TURN;
-                }
+                startColorSelection(seat);
                 break;
 
             case WILD_DRAW_FOUR:
-                // El oponente roba 4 cartas y el jugador actual elige color
-                if (isHumanPlaying) {
-                    computerPlayer.addCard(deck.drawCard());
-                    computerPlayer.addCard(deck.drawCard());
-                    computerPlayer.addCard(deck.drawCard());
-                    computerPlayer.addCard(deck.drawCard());
-                    gameState = GameState.COLOR_SELECTION;
-                } else {
-                    humanPlayer.addCard(deck.drawCard());
-                    humanPlayer.addCard(deck.drawCard());
-                    humanPlayer.addCard(deck.drawCard());
-                    humanPlayer.addCard(deck.drawCard());
-                    // La computadora elige el color automáticamente
-                    CardColor bestColor = computerPlayer.selectBestColor();
-                    playedCard.setActiveColor(bestColor);
-                    isHumanTurn = true;
-                    gameState = GameState.PLAYER_TURN;
-                }
+                // El siguiente roba 4 cartas y el jugador actual elige color
+                drawTo(ring.get(ring.seatAfter(seat, 1)), 4, DrawReason.WILD_DRAW_FOUR);
+                startColorSelection(seat);
                 break;
 
             default:
                 // Carta normal, cambio de turno
-                isHumanTurn = !isHumanTurn;
-                gameState = isHumanTurn ? GameState.PLAYER_TURN : GameState.COMPUTER_TURN;
+                setTurn(ring.seatAfter(seat, 1));
                 break;
         }
     }
 
     /**
-     * Establece el color seleccionado para las cartas comodín.
-     *
-     * @param color Color seleccionado
+     * Inicia la selección de color. La computadora elige automáticamente;
+     * el humano la completa con {@link #setSelectedColor(CardColor)}.
      */
-    public void setSelectedColor(CardColor color) {
-        if (gameState == GameState.COLOR_SELECTION) {
-            topCard.setActiveColor(color);
-            isHumanTurn = !isHumanTurn;
-            gameState = isHumanTurn ? GameState.PLAYER_TURN : GameState.COMPUTER_TURN;
+    private void startColorSelection(int seat) {
+        if (ring.get(seat) instanceof ComputerPlayer computer) {
+            finishColorSelection(seat, computer.chooseColor(this));
+        } else {
+            changeState(GameState.COLOR_SELECTION);
         }
     }
 
     /**
-     * Realiza el turno de la computadora.
-     *
-     * @throws EmptyDeckException si hay problemas con el mazo
+     * Aplica el color elegido y pasa el turno según el comodín jugado:
+     * tras un +4 el siguiente ya perdió su turno, así que se lo salta.
      */
-    public void computerTurn() throws EmptyDeckException {
-        if (gameState != GameState.COMPUTER_TURN) {
-            return;
+    private void finishColorSelection(int seat, CardColor color) {
+        activeColor = color;
+        for (GameListener listener : listeners) {
+            listener.onColorChosen(ring.get(seat), color);
         }
 
-        try {
-            // La computadora intenta jugar una carta
-            Card playedCard = computerPlayer.selectBestCard(topCard);
-
-            if (playedCard != null) {
-                // La computadora jugó una carta
-                deck.discard(playedCard);
-                topCard = playedCard;
-
-                // Comprobar si la computadora tiene que declarar UNO
-                if (computerPlayer.getHandSize() == 1) {
-                    if (computerPlayer.decideToCallUno()) {
-                        computerPlayer.callUno();
-                    }
-                }
-
-                // Comprobar si la computadora ha ganado
-                if (computerPlayer.hasWon()) {
-                    winner = computerPlayer;
-                    gameState = GameState.GAME_OVER;
-                    return;
-                }
-
-                // Manejar efectos de la carta jugada
-                handlePlayedCardEffects(playedCard, false);
-            } else {
-                // La computadora no tiene cartas jugables, roba una
-                computerPlayer.addCard(deck.drawCard());
-                isHumanTurn = true;
-                gameState = GameState.PLAYER_TURN;
-            }
-        } catch (InvalidCardPlayException e) {
-            // Esto no debería suceder si la lógica de selección de cartas es correcta
-            System.err.println("Error en el turno de la computadora: " + e.getMessage());
-            isHumanTurn = true;
-            gameState = GameState.PLAYER_TURN;
+        if (topCard.getType() == CardType.WILD_DRAW_FOUR) {
+            setTurn(ring.seatAfter(seat, 2));
+        } else {
+            setTurn(ring.seatAfter(seat, 1));
         }
     }
 
     /**
-     * Permite al jugador humano robar una carta cuando no puede jugar.
-     *
-     * @throws EmptyDeckException si hay problemas con el mazo
+     * Roba una carta porque el jugador no puede jugar. Si la carta robada
+     * se puede jugar, el jugador conserva el turno.
      */
-    public void humanDrawCard() throws EmptyDeckException {
-        if (gameState != GameState.PLAYER_TURN) {
-            return;
+    private Card drawForTurn(int seat) throws EmptyDeckException {
+        Card drawnCard = drawTo(ring.get(seat), DrawReason.NO_PLAYABLE_CARD);
+        if (!drawnCard.canPlayOn(topCard, activeColor)) {
+            setTurn(ring.seatAfter(seat, 1));
         }
-
-        humanPlayer.addCard(deck.drawCard());
-        isHumanTurn = false;
-        gameState = GameState.COMPUTER_TURN;
+        return drawnCard;
     }
 
     /**
-     * Maneja la declaración de UNO por parte del jugador humano.
-     *
-     * @throws UnoDeclarationException si la declaración de UNO no es válida
-     * @throws EmptyDeckException si hay problemas con el mazo al penalizar
+     * Abre la ventana de UNO. La computadora decide si declara en el acto.
      */
-    public void humanCallUno() throws UnoDeclarationException, EmptyDeckException {
-        if (!unoButtonEnabled) {
-            throw new UnoDeclarationException("No es momento de declarar UNO");
+    private void openUnoWindow(Player player) {
+        if (player instanceof ComputerPlayer computer && computer.decideToCallUno()) {
+            computer.callUno();
+            for (GameListener listener : listeners) {
+                listener.onUnoCalled(computer);
+            }
+            return;
         }
 
-        humanPlayer.callUno();
-        waitingForUnoDeclaration = false;
-        unoButtonEnabled = false;
+        unoPendingPlayer = player;
+        unoWindow++;
+        for (GameListener listener : listeners) {
+            listener.onUnoWindowOpened(player);
+        }
     }
 
     /**
-     * Comprueba si el jugador olvidó declarar UNO y aplica penalización.
-     *
-     * @throws EmptyDeckException si hay problemas con el mazo al penalizar
+     * Penaliza con una carta al jugador que no declaró UNO.
      */
-    public void checkUnoPenalty() throws EmptyDeckException {
-        if (waitingForUnoDeclaration && !humanPlayer.hasCalledUno()) {
-            // El jugador olvidó declarar UNO, aplica penalización
-            humanPlayer.addCard(deck.drawCard());
-            waitingForUnoDeclaration = false;
+    private boolean catchUno(Player target) throws EmptyDeckException {
+        if (target == null || unoPendingPlayer != target || target.hasCalledUno()) {
+            return false;
         }
-        unoButtonEnabled = false;
+        unoPendingPlayer = null;
+        drawTo(target, DrawReason.UNO_PENALTY);
+        return true;
     }
 
     /**
-     * Ejecuta la acción de la computadora de declarar "UNO" cuando el humano se olvidó.
-     *
-     * @return true si la computadora atrapó al humano sin declarar UNO
-     * @throws EmptyDeckException si hay problemas con el mazo al penalizar
+     * Reparte un castigo de +2 o +4. Si el mazo no alcanza se reparte lo que
+     * haya y el turno sigue igual: la carta ya se jugó y no se puede deshacer.
      */
-    public boolean computerCallCatchUno() throws EmptyDeckException {
-        if (waitingForUnoDeclaration && !humanPlayer.hasCalledUno()) {
-            // La computadora atrapa al humano
-            humanPlayer.addCard(deck.drawCard());
-            waitingForUnoDeclaration = false;
-            unoButtonEnabled = false;
-            return true;
+    private void drawTo(Player player, int count, DrawReason reason) {
+        for (Card card : deck.drawUpTo(count)) {
+            giveCard(player, card, reason);
+        }
+    }
+
+    private Card drawTo(Player player, DrawReason reason) throws EmptyDeckException {
+        Card card = deck.drawCard();
+        giveCard(player, card, reason);
+        return card;
+    }
+
+    private void giveCard(Player player, Card card, DrawReason reason) {
+        player.addCard(card);
+        if (unoPendingPlayer == player) {
+            unoPendingPlayer = null;
+        }
+        for (GameListener listener : listeners) {
+            listener.onCardDrawn(player, card, reason);
+        }
+    }
+
+    private void setTurn(int seat) {
+        ring.moveTo(seat);
+        changeState(seat == HUMAN_SEAT ? GameState.PLAYER_TURN : GameState.COMPUTER_TURN);
+    }
+
+    private void changeState(GameState state) {
+        gameState = state;
+        Player current = getCurrentPlayer();
+        for (GameListener listener : listeners) {
+            listener.onTurnChanged(current, state);
+        }
+    }
+
+    private boolean hasComputerRival(Player player) {
+        for (int seat = 0; seat < ring.size(); seat++) {
+            Player other = ring.get(seat);
+            if (other != player && other instanceof ComputerPlayer) {
+                return true;
+            }
         }
         return false;
     }
 
     // Getters
 
-    public HumanPlayer getHumanPlayer() {
-        return humanPlayer;
+    public Player getHumanPlayer() {
+        return ring.get(HUMAN_SEAT);
     }
 
-    public ComputerPlayer getComputerPlayer() {
-        return computerPlayer;
+    /**
+     * @return El primer rival del jugador humano (asiento 1)
+     */
+    public Player getComputerPlayer() {
+        return ring.get(1);
+    }
+
+    /**
+     * @param seat Asiento del jugador
+     * @return El jugador sentado en ese asiento
+     */
+    public Player getPlayer(int seat) {
+        return ring.get(seat);
+    }
+
+    public int getSeatCount() {
+        return ring.size();
+    }
+
+    public Player getCurrentPlayer() {
+        return ring.currentPlayer();
+    }
+
+    public int getCurrentSeat() {
+        return ring.current();
+    }
+
+    /**
+     * @return 1 si el turno avanza en el orden de los asientos, -1 si va al revés
+     */
+    public int getDirection() {
+        return ring.direction();
     }
 
     public Card getTopCard() {
         return topCard;
     }
 
+    public CardColor getActiveColor() {
+        return activeColor;
+    }
+
+    public Deck getDeck() {
+        return deck;
+    }
+
     public boolean isHumanTurn() {
-        return isHumanTurn;
+        return ring.current() == HUMAN_SEAT;
     }
 
     public GameState getGameState() {
@@ -301,11 +611,40 @@ public class Game {
         return winner;
     }
 
+    /**
+     * @return Asiento del jugador que aún no declaró UNO o -1
+     */
+    public int getUnoPendingSeat() {
+        return unoPendingPlayer == null ? -1 : ring.seatOf(unoPendingPlayer);
+    }
+
+    /**
+     * @return Número de la última ventana de UNO abierta; identifica a qué
+     *         ventana corresponde un temporizador
+     */
+    public int getUnoWindow() {
+        return unoWindow;
+    }
+
+    /**
+     * @param window Número de una ventana de UNO
+     * @return true si esa ventana sigue abierta
+     */
+    public boolean isUnoWindowOpen(int window) {
+        return unoPendingPlayer != null && unoWindow == window;
+    }
+
+    /**
+     * @return true si el jugador humano debe declarar UNO
+     */
     public boolean isUnoButtonEnabled() {
-        return unoButtonEnabled;
+        return unoPendingPlayer == ring.get(HUMAN_SEAT);
     }
 
-    public void setUnoButtonEnabled(boolean enabled) {
-        this.unoButtonEnabled = enabled;
+    /**
+     * @return true si un rival quedó con una carta sin declarar UNO
+     */
+    public boolean isCatchUnoAvailable() {
+        return unoPendingPlayer != null && unoPendingPlayer != ring.get(HUMAN_SEAT);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package com.uno.model;
+
+import com.uno.exceptions.EmptyDeckException;
+import com.uno.exceptions.UnoDeclarationException;
+import com.uno.model.enums.CardColor;
+
+/**
+ * Comando que modifica una partida. Todas las mutaciones (jugadas, robos,
+ * declaraciones de UNO y vencimiento de temporizadores) llegan como
+ * comandos al único hilo que escribe en el {@link Game}; nadie más lo toca.
+ */
+public sealed interface GameCommand {
+
+    /**
+     * Aplica el comando.
+     *
+     * @param game Partida a modificar
+     * @return false si el motor lo ignoró (por ejemplo, un intento de atrapar UNO fuera de tiempo)
+     * @throws EmptyDeckException si hay problemas con el mazo
+     * @throws UnoDeclarationException si se declara UNO sin corresponder
+     */
+    boolean applyTo(Game game) throws EmptyDeckException, UnoDeclarationException;
+
+    /** Reparte y empieza la partida. */
+    record Start() implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) throws EmptyDeckException {
+            game.startGame();
+            return true;
+        }
+    }
+
+    /**
+     * El humano juega una carta de su mano.
+     *
+     * @param cardIndex Índice de la carta en la mano
+     */
+    record PlayCard(int cardIndex) implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) throws EmptyDeckException {
+            game.humanPlayCard(cardIndex);
+            return true;
+        }
+    }
+
+    /** El humano roba una carta. */
+    record DrawCard() implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) throws EmptyDeckException {
+            game.humanDrawCard();
+            return true;
+        }
+    }
+
+    /**
+     * El humano elige el color de su comodín.
+     *
+     * @param color Color elegido
+     */
+    record ChooseColor(CardColor color) implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) {
+            game.setSelectedColor(color);
+            return true;
+        }
+    }
+
+    /** El humano declara UNO. */
+    record CallUno() implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) throws UnoDeclarationException {
+            game.humanCallUno();
+            return true;
+        }
+    }
+
+    /** El humano intenta atrapar a un rival que no declaró UNO. */
+    record CatchUno() implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) throws EmptyDeckException {
+            return game.humanCatchUno();
+        }
+    }
+
+    /** Vence el tiempo de "pensar": juega la computadora en turno. */
+    record ComputerTurn() implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) throws EmptyDeckException {
+            game.computerTurn();
+            return true;
+        }
+    }
+
+    /** Juega el turno actual si es de una computadora, sea cual sea su asiento (mesas sin humanos). */
+    record AutomaticTurn() implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) throws EmptyDeckException {
+            game.playAutomaticTurn();
+            return true;
+        }
+    }
+
+    /**
+     * Vence la ventana de UNO: la computadora atrapa al humano o se cierra la ventana.
+     * Un vencimiento de una ventana que ya se cerró se ignora.
+     *
+     * @param window Número de la ventana, según {@link Game#getUnoWindow()}
+     */
+    record UnoTimeout(int window) implements GameCommand {
+        @Override
+        public boolean applyTo(Game game) throws EmptyDeckException {
+            if (!game.isUnoWindowOpen(window)) {
+                return false;
+            }
+            if (!game.computerCallCatchUno()) {
+                game.checkUnoPenalty();
+            }
+            return true;
+        }
+    }
+}
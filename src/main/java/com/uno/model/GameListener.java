@@ -0,0 +1,82 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.DrawReason;
+import com.uno.model.enums.GameState;
+
+/**
+ * Observador de los eventos del motor de juego.
+ * Todos los métodos tienen una implementación vacía para que cada
+ * observador (GUI, simulaciones, registros) implemente solo lo que necesita.
+ */
+public interface GameListener {
+
+    /**
+     * Se repartieron las manos y se colocó la primera carta de la mesa.
+     *
+     * @param firstCard Carta inicial de la pila de descarte
+     */
+    default void onGameStarted(Card firstCard) { }
+
+    /**
+     * Un jugador jugó una carta.
+     *
+     * @param player Jugador que jugó la carta
+     * @param card Carta jugada
+     */
+    default void onCardPlayed(Player player, Card card) { }
+
+    /**
+     * Un jugador robó una carta.
+     *
+     * @param player Jugador que robó
+     * @param card Carta robada
+     * @param reason Motivo del robo
+     */
+    default void onCardDrawn(Player player, Card card, DrawReason reason) { }
+
+    /**
+     * Un jugador eligió el color activo después de jugar un comodín.
+     *
+     * @param player Jugador que eligió el color
+     * @param color Color elegido
+     */
+    default void onColorChosen(Player player, CardColor color) { }
+
+    /**
+     * Un jugador declaró UNO.
+     *
+     * @param player Jugador que declaró UNO
+     */
+    default void onUnoCalled(Player player) { }
+
+    /**
+     * Un jugador quedó con una carta sin declarar UNO; se abre la ventana
+     * para declararlo (o para que el rival lo atrape).
+     *
+     * @param player Jugador que quedó con una sola carta
+     */
+    default void onUnoWindowOpened(Player player) { }
+
+    /**
+     * Se cerró la ventana de UNO sin que nadie atrapara al jugador.
+     *
+     * @param player Jugador que no declaró UNO y se salvó
+     */
+    default void onUnoWindowClosed(Player player) { }
+
+    /**
+     * Cambió el turno o el estado del juego.
+     *
+     * @param current Jugador al que le corresponde actuar
+     * @param state Nuevo estado del juego
+     */
+    default void onTurnChanged(Player current, GameState state) { }
+
+    /**
+     * El juego terminó.
+     *
+     * @param winner Jugador ganador
+     */
+    default void onGameOver(Player winner) { }
+}
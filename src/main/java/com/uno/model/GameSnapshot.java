@@ -0,0 +1,400 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.GameState;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Foto inmutable del estado de una partida, tomada por el hilo que la
+ * modifica después de cada comando. Las vistas leen solo fotos, nunca el
+ * {@link Game}, así que pueden hacerlo desde cualquier hilo sin bloqueos.
+ * <p>
+ * La foto también sirve para mirar hacia adelante: {@link #legalMoves()} y
+ * {@link #apply(int)} generan fotos nuevas sin tocar la original. Las manos
+ * son {@link PersistentHand} y solo se copia la que cambia; la pila de robo es
+ * un arreglo compartido del que cada foto recuerda cuántas cartas quedan, y la
+ * de descarte una lista enlazada que crece por la cabeza. Así, una jugada
+ * cuesta unas pocas asignaciones en lugar de clonar toda la partida, y
+ * deshacer es quedarse con la foto anterior.
+ * <p>
+ * {@code apply} sigue las reglas del motor salvo la ventana de UNO, que se
+ * ignora: el comodín lleva su color en la jugada y se resuelve de una vez.
+ */
+public final class GameSnapshot {
+    private final long version;
+    private final GameState state;
+    private final int currentSeat;
+    private final int direction;
+    private final CardColor activeColor;
+    private final PersistentHand[] hands;
+    private final Card[] drawPile;     // Compartido entre fotos; nunca se modifica
+    private final int drawSize;        // Cartas que quedan; el tope es drawPile[drawSize - 1]
+    private final Discard discard;     // Tope de la pila de descarte o null
+    private final long shuffleSeed;    // Semilla del próximo rebarajado
+    private final int deckGeneration;  // Generación del mazo copiado (ver Deck#getGeneration), o -1
+    private final int winnerSeat;
+    private final boolean unoButtonEnabled;
+    private final boolean catchUnoAvailable;
+    private final int unoWindow;
+
+    /**
+     * Nodo de la pila de descarte. Las fotos comparten los nodos de abajo.
+     */
+    private record Discard(Card card, Discard below, int size) { }
+
+    private GameSnapshot(long version, GameState state, int currentSeat, int direction, CardColor activeColor,
+                         PersistentHand[] hands, Card[] drawPile, int drawSize, Discard discard, long shuffleSeed,
+                         int deckGeneration, int winnerSeat, boolean unoButtonEnabled, boolean catchUnoAvailable,
+                         int unoWindow) {
+        this.version = version;
+        this.state = state;
+        this.currentSeat = currentSeat;
+        this.direction = direction;
+        this.activeColor = activeColor;
+        this.hands = hands;
+        this.drawPile = drawPile;
+        this.drawSize = drawSize;
+        this.discard = discard;
+        this.shuffleSeed = shuffleSeed;
+        this.deckGeneration = deckGeneration;
+        this.winnerSeat = winnerSeat;
+        this.unoButtonEnabled = unoButtonEnabled;
+        this.catchUnoAvailable = catchUnoAvailable;
+        this.unoWindow = unoWindow;
+    }
+
+    /**
+     * Copia el estado de una partida. Debe llamarse desde el hilo que la
+     * modifica.
+     *
+     * @param game Partida
+     * @param version Número de comandos aplicados
+     * @return La foto
+     */
+    public static GameSnapshot of(Game game, long version) {
+        return of(game, version, null);
+    }
+
+    /**
+     * Copia el estado de una partida reutilizando lo que no cambió desde la
+     * foto anterior: las manos iguales, la pila de robo si solo se robó del
+     * tope y la pila de descarte si solo se descartó encima. Un comando
+     * típico copia así una mano y agrega un nodo al descarte. Debe llamarse
+     * desde el hilo que modifica la partida.
+     *
+     * @param game Partida
+     * @param version Número de comandos aplicados
+     * @param previous Foto anterior de la misma partida, o null
+     * @return La foto
+     */
+    public static GameSnapshot of(Game game, long version, GameSnapshot previous) {
+        PersistentHand[] hands = new PersistentHand[game.getSeatCount()];
+        boolean sameTable = previous != null && previous.hands.length == hands.length;
+        int winnerSeat = -1;
+        for (int seat = 0; seat < hands.length; seat++) {
+            Player player = game.getPlayer(seat);
+            // Se compara la lista interna, sin la copia de getHand()
+            hands[seat] = sameTable && previous.hands[seat].holds(player.hand)
+                    ? previous.hands[seat] : PersistentHand.of(player.hand);
+            if (player == game.getWinner()) {
+                winnerSeat = seat;
+            }
+        }
+
+        Deck deck = game.getDeck();
+        boolean sameDeck = sameTable && previous.deckGeneration == deck.getGeneration()
+                && previous.drawSize >= deck.size() && previous.discardSize() <= deck.getDiscardPileSize();
+        Card[] drawPile = sameDeck ? previous.drawPile : deck.getDrawPile();
+        Discard discard = sameDeck ? previous.discard : null;
+        for (int i = discard == null ? 0 : discard.size; i < deck.getDiscardPileSize(); i++) {
+            discard = new Discard(deck.getDiscard(i), discard, i + 1);
+        }
+        return new GameSnapshot(version, game.getGameState(), game.getCurrentSeat(), game.getDirection(),
+                game.getActiveColor(), hands, drawPile, deck.size(), discard, version, deck.getGeneration(),
+                winnerSeat, game.isUnoButtonEnabled(), game.isCatchUnoAvailable(), game.getUnoWindow());
+    }
+
+    /**
+     * @return Máscara de jugadas legales del jugador en turno, codificadas
+     *         según {@link Moves}; 0 si no es el turno de nadie
+     */
+    public long legalMoves() {
+        if (state != GameState.PLAYER_TURN && state != GameState.COMPUTER_TURN) {
+            return 0;
+        }
+        return Moves.toMoves(Playability.legalMoves(hands[currentSeat].mask(), discard.card.getCode(), activeColor));
+    }
+
+    /**
+     * Aplica una jugada del jugador en turno sin modificar esta foto.
+     *
+     * @param move Jugada codificada según {@link Moves}
+     * @return La foto siguiente; GAME_OVER con ganador -1 si nadie puede robar
+     * @throws IllegalArgumentException si la jugada no es legal
+     */
+    public GameSnapshot apply(int move) {
+        if (move < 0 || move >= Moves.MOVE_COUNT || (legalMoves() >>> move & 1L) == 0) {
+            throw new IllegalArgumentException("Jugada ilegal en este estado: " + move);
+        }
+        return new Transition(this).play(move);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public GameState state() {
+        return state;
+    }
+
+    /**
+     * @return Asiento del jugador en turno
+     */
+    public int currentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * @return 1 o -1, sentido de la ronda
+     */
+    public int direction() {
+        return direction;
+    }
+
+    /**
+     * @return Carta superior de la pila de descarte o null si aún no hay
+     */
+    public Card topCard() {
+        return discard == null ? null : discard.card;
+    }
+
+    public CardColor activeColor() {
+        return activeColor;
+    }
+
+    /**
+     * @return Cartas que quedan en el mazo
+     */
+    public int deckSize() {
+        return drawSize;
+    }
+
+    /**
+     * @return Cartas en la pila de descarte, incluida la superior
+     */
+    public int discardSize() {
+        return discard == null ? 0 : discard.size;
+    }
+
+    /**
+     * @return Asiento del ganador o -1
+     */
+    public int winnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * @return true si el humano debe declarar UNO
+     */
+    public boolean unoButtonEnabled() {
+        return unoButtonEnabled;
+    }
+
+    /**
+     * @return true si el humano puede atrapar a un rival
+     */
+    public boolean catchUnoAvailable() {
+        return catchUnoAvailable;
+    }
+
+    /**
+     * @return Número de la última ventana de UNO abierta
+     */
+    public int unoWindow() {
+        return unoWindow;
+    }
+
+    public int seatCount() {
+        return hands.length;
+    }
+
+    /**
+     * @param seat Asiento
+     * @return Mano de ese asiento
+     */
+    public PersistentHand hand(int seat) {
+        return hands[seat];
+    }
+
+    /**
+     * @return Mano del jugador humano
+     */
+    public List<Card> humanHand() {
+        return hands[Game.HUMAN_SEAT].asList();
+    }
+
+    /**
+     * @param seat Asiento
+     * @return Número de cartas de ese asiento
+     */
+    public int handSize(int seat) {
+        return hands[seat].size();
+    }
+
+    /**
+     * @return true si ganó el jugador humano
+     */
+    public boolean humanWon() {
+        return winnerSeat == Game.HUMAN_SEAT;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot[version=" + version + ", state=" + state + ", currentSeat=" + currentSeat
+                + ", topCard=" + topCard() + ", activeColor=" + activeColor + ", deckSize=" + drawSize + "]";
+    }
+
+    /**
+     * Borrador de la foto siguiente. Empieza compartiendo todo con la foto
+     * de origen y solo reemplaza lo que la jugada cambia.
+     */
+    private static final class Transition {
+        private final long version;
+        private final int unoWindow;
+        private final PersistentHand[] hands;
+        private Card[] drawPile;
+        private int drawSize;
+        private Discard discard;
+        private long shuffleSeed;
+        private int current;
+        private int direction;
+        private CardColor activeColor;
+        private int winner = -1;
+        private boolean exhausted;
+
+        Transition(GameSnapshot from) {
+            this.version = from.version + 1;
+            this.unoWindow = from.unoWindow;
+            this.hands = from.hands.clone();
+            this.drawPile = from.drawPile;
+            this.drawSize = from.drawSize;
+            this.discard = from.discard;
+            this.shuffleSeed = from.shuffleSeed;
+            this.current = from.currentSeat;
+            this.direction = from.direction;
+            this.activeColor = from.activeColor;
+        }
+
+        GameSnapshot play(int move) {
+            int seat = current;
+            if (move == Moves.DRAW) {
+                Card card = drawOne();
+                if (card == null) {
+                    exhausted = true;
+                    return build();
+                }
+                hands[seat] = hands[seat].plus(card);
+                // Si la carta robada se puede jugar, conserva el turno
+                if (!Playability.isLegal(card.getCode(), discard.card.getCode(), activeColor)) {
+                    current = seatAfter(seat, 1);
+                }
+                return build();
+            }
+
+            int code = Moves.cardOf(move);
+            Card card = Card.fromCode(code);
+            hands[seat] = hands[seat].minus(code);
+            discard = new Discard(card, discard, discard.size + 1);
+            activeColor = code < CardCodes.COLORED_COUNT ? CardCodes.colorOf(code) : Moves.colorOf(move);
+            if (hands[seat].size() == 0) {
+                winner = seat;
+                return build();
+            }
+
+            if (code == CardCodes.WILD) {
+                current = seatAfter(seat, 1);
+            } else if (code == CardCodes.WILD_DRAW_FOUR) {
+                drawTo(seatAfter(seat, 1), 4);
+                current = seatAfter(seat, 2);
+            } else {
+                switch (code % CardCodes.SLOTS_PER_COLOR) {
+                    case CardCodes.SKIP_SLOT:
+                        current = seatAfter(seat, 2);
+                        break;
+                    case CardCodes.DRAW_TWO_SLOT:
+                        drawTo(seatAfter(seat, 1), 2);
+                        current = seatAfter(seat, 2);
+                        break;
+                    case CardCodes.REVERSE_SLOT:
+                        direction = -direction;
+                        current = hands.length == 2 ? seat : seatAfter(seat, 1);
+                        break;
+                    default:
+                        current = seatAfter(seat, 1);
+                        break;
+                }
+            }
+            return build();
+        }
+
+        private GameSnapshot build() {
+            GameState state;
+            if (winner >= 0 || exhausted) {
+                state = GameState.GAME_OVER;
+            } else {
+                state = current == Game.HUMAN_SEAT ? GameState.PLAYER_TURN : GameState.COMPUTER_TURN;
+            }
+            // Una foto derivada ya no corresponde a la pila del mazo
+            return new GameSnapshot(version, state, current, direction, activeColor, hands, drawPile, drawSize,
+                    discard, shuffleSeed, -1, winner, false, false, unoWindow);
+        }
+
+        /**
+         * Reparte un castigo; como el motor, si no quedan cartas reparte las que haya.
+         */
+        private void drawTo(int seat, int count) {
+            for (int i = 0; i < count; i++) {
+                Card card = drawOne();
+                if (card == null) {
+                    return;
+                }
+                hands[seat] = hands[seat].plus(card);
+            }
+        }
+
+        /**
+         * Roba de la pila; si está vacía, rebaraja el descarte salvo la carta
+         * superior en un arreglo nuevo, con una semilla propia de la foto para
+         * que la misma jugada dé siempre el mismo resultado.
+         *
+         * @return Carta robada o null si no quedan cartas
+         */
+        private Card drawOne() {
+            if (drawSize == 0 && discard.size > 1) {
+                Card[] pile = new Card[discard.size - 1];
+                int i = 0;
+                for (Discard node = discard.below; node != null; node = node.below) {
+                    pile[i++] = node.card;
+                }
+                SplittableRandom random = new SplittableRandom(shuffleSeed);
+                for (int j = pile.length - 1; j > 0; j--) {
+                    int k = random.nextInt(j + 1);
+                    Card tmp = pile[j];
+                    pile[j] = pile[k];
+                    pile[k] = tmp;
+                }
+                shuffleSeed = random.nextLong();
+                drawPile = pile;
+                drawSize = pile.length;
+                discard = new Discard(discard.card, null, 1);
+            }
+            return drawSize == 0 ? null : drawPile[--drawSize];
+        }
+
+        private int seatAfter(int seat, int steps) {
+            return Math.floorMod(seat + direction * steps, hands.length);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+
+/**
+ * Representación compacta de una mano: un bit por cada carta de color más
+ * contadores para los comodines. Un mazo tiene una sola copia de cada carta
+ * de color; las mesas grandes juegan con dos mazos, así que una segunda
+ * máscara marca las cartas de color que están dos veces.
+ */
+public final class HandBits {
+    private long colored;
+    private long coloredTwice;  // Segunda copia, solo con dos mazos
+    private int wilds;
+    private int wildDrawFours;
+
+    public HandBits() {
+    }
+
+    /**
+     * Constructor de copia.
+     *
+     * @param other Mano a copiar
+     */
+    public HandBits(HandBits other) {
+        this.colored = other.colored;
+        this.coloredTwice = other.coloredTwice;
+        this.wilds = other.wilds;
+        this.wildDrawFours = other.wildDrawFours;
+    }
+
+    /**
+     * Agrega una carta a la mano.
+     *
+     * @param code Código de la carta
+     */
+    public void add(int code) {
+        if (code == CardCodes.WILD) {
+            wilds++;
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            wildDrawFours++;
+        } else {
+            long bit = 1L << code;
+            coloredTwice |= colored & bit;
+            colored |= bit;
+        }
+    }
+
+    /**
+     * Quita una carta de la mano.
+     *
+     * @param code Código de la carta
+     */
+    public void remove(int code) {
+        if (code == CardCodes.WILD) {
+            wilds--;
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            wildDrawFours--;
+        } else if ((coloredTwice >>> code & 1L) != 0) {
+            coloredTwice &= ~(1L << code);
+        } else {
+            colored &= ~(1L << code);
+        }
+    }
+
+    public void clear() {
+        colored = 0;
+        coloredTwice = 0;
+        wilds = 0;
+        wildDrawFours = 0;
+    }
+
+    /**
+     * @param code Código de la carta
+     * @return Cuántas copias de la carta hay en la mano
+     */
+    public int count(int code) {
+        if (code == CardCodes.WILD) {
+            return wilds;
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            return wildDrawFours;
+        }
+        return (int) ((colored >>> code & 1L) + (coloredTwice >>> code & 1L));
+    }
+
+    public boolean contains(int code) {
+        return count(code) > 0;
+    }
+
+    public int size() {
+        return Long.bitCount(colored) + Long.bitCount(coloredTwice) + wilds + wildDrawFours;
+    }
+
+    /**
+     * @return Máscara de los códigos presentes en la mano (sin contar repeticiones)
+     */
+    public long mask() {
+        long mask = colored;
+        if (wilds > 0) {
+            mask |= 1L << CardCodes.WILD;
+        }
+        if (wildDrawFours > 0) {
+            mask |= 1L << CardCodes.WILD_DRAW_FOUR;
+        }
+        return mask;
+    }
+
+    /**
+     * @return Máscara de las cartas de color que la mano tiene dos veces
+     */
+    public long repeatedMask() {
+        return coloredTwice;
+    }
+
+    /**
+     * @param topCode Código de la carta superior
+     * @param activeColor Color activo del juego
+     * @return Máscara de las cartas de la mano que se pueden jugar
+     */
+    public long playableMask(int topCode, CardColor activeColor) {
+        return Playability.legalMoves(mask(), topCode, activeColor);
+    }
+
+    /**
+     * @param color Color a contar
+     * @return Cartas de ese color en la mano
+     */
+    public int countColor(CardColor color) {
+        long mask = CardCodes.colorMask(color);
+        return Long.bitCount(colored & mask) + Long.bitCount(coloredTwice & mask);
+    }
+
+    /**
+     * Color con más cartas en la mano; en caso de empate gana el primero
+     * en el orden de {@link CardColor}.
+     *
+     * @return El color más frecuente o null si la mano no tiene cartas de color
+     */
+    public CardColor dominantColor() {
+        CardColor best = null;
+        int bestCount = 0;
+        for (CardColor color : CardColor.values()) {
+            int count = countColor(color);
+            if (count > bestCount) {
+                bestCount = count;
+                best = color;
+            }
+        }
+        return best;
+    }
+}
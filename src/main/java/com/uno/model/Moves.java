@@ -0,0 +1,79 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+
+/**
+ * Codificación de las jugadas en un entero: 0-51 juega esa carta de color,
+ * 52-55 un comodín con el color elegido, 56-59 un +4 con el color elegido y
+ * 60 roba. Así, el conjunto de jugadas legales de un turno cabe en un
+ * {@code long} y la búsqueda puede recorrerlo con operaciones de bits.
+ */
+public final class Moves {
+    public static final int WILD_MOVES = CardCodes.WILD;
+    public static final int WILD_DRAW_FOUR_MOVES = WILD_MOVES + 4;
+    public static final int DRAW = WILD_DRAW_FOUR_MOVES + 4;
+    public static final int MOVE_COUNT = DRAW + 1;
+    public static final long COLORED_BITS = (1L << CardCodes.COLORED_COUNT) - 1;
+
+    private static final CardColor[] COLORS = {CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW};
+
+    private Moves() { }
+
+    /**
+     * Convierte una máscara de cartas jugables en una máscara de jugadas.
+     * Sin cartas jugables, la única jugada es robar.
+     *
+     * @param playable Máscara de códigos de carta jugables
+     * @return Máscara de jugadas
+     */
+    public static long toMoves(long playable) {
+        long moves = playable & COLORED_BITS;
+        if ((playable >>> CardCodes.WILD & 1L) != 0) {
+            moves |= 0xFL << WILD_MOVES;
+        }
+        if ((playable >>> CardCodes.WILD_DRAW_FOUR & 1L) != 0) {
+            moves |= 0xFL << WILD_DRAW_FOUR_MOVES;
+        }
+        return moves == 0 ? 1L << DRAW : moves;
+    }
+
+    /**
+     * @param code Código de la carta
+     * @param color Color elegido; solo cuenta para los comodines
+     * @return Jugada que juega esa carta
+     */
+    public static int of(int code, CardColor color) {
+        if (code == CardCodes.WILD) {
+            return WILD_MOVES + color.ordinal();
+        }
+        if (code == CardCodes.WILD_DRAW_FOUR) {
+            return WILD_DRAW_FOUR_MOVES + color.ordinal();
+        }
+        return code;
+    }
+
+    /**
+     * @param move Jugada codificada
+     * @return Código de la carta que juega o -1 si la jugada es robar
+     */
+    public static int cardOf(int move) {
+        if (move == DRAW) {
+            return -1;
+        }
+        if (move >= WILD_DRAW_FOUR_MOVES) {
+            return CardCodes.WILD_DRAW_FOUR;
+        }
+        return move >= WILD_MOVES ? CardCodes.WILD : move;
+    }
+
+    /**
+     * @param move Jugada codificada
+     * @return Color elegido si la jugada es un comodín, si no null
+     */
+    public static CardColor colorOf(int move) {
+        if (move == DRAW || move < WILD_MOVES) {
+            return null;
+        }
+        return COLORS[(move - WILD_MOVES) & 3];
+    }
+}
@@ -0,0 +1,165 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Mano inmutable: agregar o quitar una carta devuelve una mano nueva y deja
+ * intacta la original, así que varias {@link GameSnapshot} pueden compartir
+ * las manos que no cambiaron. Guarda las cartas en orden de llegada, igual
+ * que {@link Player}, junto con la máscara de códigos para las consultas de
+ * jugabilidad y, como {@link HandBits}, la de las cartas de color repetidas.
+ */
+public final class PersistentHand {
+    /** Mano vacía compartida. */
+    public static final PersistentHand EMPTY = new PersistentHand(new Card[0], 0, 0, 0, 0);
+
+    private final Card[] cards;
+    private final long colored;
+    private final long coloredTwice;  // Segunda copia, solo con dos mazos
+    private final int wilds;
+    private final int wildDrawFours;
+
+    private PersistentHand(Card[] cards, long colored, long coloredTwice, int wilds, int wildDrawFours) {
+        this.cards = cards;
+        this.colored = colored;
+        this.coloredTwice = coloredTwice;
+        this.wilds = wilds;
+        this.wildDrawFours = wildDrawFours;
+    }
+
+    /**
+     * @param cards Cartas de la mano, en orden
+     * @return Mano con esas cartas
+     */
+    public static PersistentHand of(List<Card> cards) {
+        if (cards.isEmpty()) {
+            return EMPTY;
+        }
+        // Una sola pasada: el arreglo se reserva una vez, sin manos intermedias
+        Card[] array = cards.toArray(new Card[0]);
+        long colored = 0;
+        long coloredTwice = 0;
+        int wilds = 0;
+        int wildDrawFours = 0;
+        for (Card card : array) {
+            int code = card.getCode();
+            if (code == CardCodes.WILD) {
+                wilds++;
+            } else if (code == CardCodes.WILD_DRAW_FOUR) {
+                wildDrawFours++;
+            } else {
+                coloredTwice |= colored & 1L << code;
+                colored |= 1L << code;
+            }
+        }
+        return new PersistentHand(array, colored, coloredTwice, wilds, wildDrawFours);
+    }
+
+    /**
+     * @param cards Cartas, en orden
+     * @return true si la mano tiene exactamente esas cartas en ese orden
+     */
+    boolean holds(List<Card> cards) {
+        if (cards.size() != this.cards.length) {
+            return false;
+        }
+        for (int i = 0; i < this.cards.length; i++) {
+            if (cards.get(i) != this.cards[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param card Carta a agregar al final
+     * @return Mano nueva con la carta
+     */
+    public PersistentHand plus(Card card) {
+        Card[] next = Arrays.copyOf(cards, cards.length + 1);
+        next[cards.length] = card;
+        int code = card.getCode();
+        if (code == CardCodes.WILD) {
+            return new PersistentHand(next, colored, coloredTwice, wilds + 1, wildDrawFours);
+        }
+        if (code == CardCodes.WILD_DRAW_FOUR) {
+            return new PersistentHand(next, colored, coloredTwice, wilds, wildDrawFours + 1);
+        }
+        long bit = 1L << code;
+        return new PersistentHand(next, colored | bit, coloredTwice | colored & bit, wilds, wildDrawFours);
+    }
+
+    /**
+     * @param code Código de la carta a quitar; se quita la primera copia
+     * @return Mano nueva sin la carta
+     * @throws IllegalArgumentException si la mano no tiene esa carta
+     */
+    public PersistentHand minus(int code) {
+        for (int i = 0; i < cards.length; i++) {
+            if (cards[i].getCode() == code) {
+                return without(i);
+            }
+        }
+        throw new IllegalArgumentException("La mano no tiene la carta " + Card.fromCode(code));
+    }
+
+    private PersistentHand without(int index) {
+        Card[] next = new Card[cards.length - 1];
+        System.arraycopy(cards, 0, next, 0, index);
+        System.arraycopy(cards, index + 1, next, index, next.length - index);
+        int code = cards[index].getCode();
+        if (code == CardCodes.WILD) {
+            return new PersistentHand(next, colored, coloredTwice, wilds - 1, wildDrawFours);
+        }
+        if (code == CardCodes.WILD_DRAW_FOUR) {
+            return new PersistentHand(next, colored, coloredTwice, wilds, wildDrawFours - 1);
+        }
+        long bit = 1L << code;
+        if ((coloredTwice & bit) != 0) {
+            return new PersistentHand(next, colored, coloredTwice & ~bit, wilds, wildDrawFours);
+        }
+        return new PersistentHand(next, colored & ~bit, coloredTwice, wilds, wildDrawFours);
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    public Card get(int index) {
+        return cards[index];
+    }
+
+    /**
+     * @return Vista de solo lectura de las cartas, en orden; no copia el arreglo
+     */
+    public List<Card> asList() {
+        return Collections.unmodifiableList(Arrays.asList(cards));
+    }
+
+    /**
+     * @return Máscara de los códigos presentes en la mano (sin contar repeticiones)
+     */
+    public long mask() {
+        long mask = colored;
+        if (wilds > 0) {
+            mask |= 1L << CardCodes.WILD;
+        }
+        if (wildDrawFours > 0) {
+            mask |= 1L << CardCodes.WILD_DRAW_FOUR;
+        }
+        return mask;
+    }
+
+    /**
+     * @param color Color a contar
+     * @return Cartas de ese color en la mano
+     */
+    public int countColor(CardColor color) {
+        long mask = CardCodes.colorMask(color);
+        return Long.bitCount(colored & mask) + Long.bitCount(coloredTwice & mask);
+    }
+}
@@ -0,0 +1,28 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+
+/**
+ * Estrategia de juego de un {@link ComputerPlayer}.
+ * Sin estrategia, la computadora usa su lista fija de prioridades.
+ */
+public interface PlayStrategy {
+
+    /**
+     * Elige la carta a jugar en el turno actual.
+     *
+     * @param game Partida en curso; solo se consulta la información visible para el jugador
+     * @param self Jugador que decide
+     * @return Código de la carta a jugar (ver {@link CardCodes}) o -1 para robar
+     */
+    int chooseCard(Game game, ComputerPlayer self);
+
+    /**
+     * Elige el color tras jugar un comodín.
+     *
+     * @param game Partida en curso
+     * @param self Jugador que decide
+     * @return El color elegido
+     */
+    CardColor chooseColor(Game game, ComputerPlayer self);
+}
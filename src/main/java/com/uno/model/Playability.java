@@ -0,0 +1,72 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+
+/**
+ * Tabla precalculada de jugadas legales.
+ * Para cada par (carta superior, color activo) guarda la máscara de los
+ * códigos de carta que se pueden jugar encima, de modo que comprobar una
+ * mano completa es una búsqueda en un arreglo y un AND, sin ramas ni E/S.
+ */
+public final class Playability {
+    private static final int COLOR_COUNT = CardColor.values().length;
+    private static final long[] LEGAL = new long[CardCodes.CODE_COUNT * COLOR_COUNT];
+
+    static {
+        for (int top = 0; top < CardCodes.CODE_COUNT; top++) {
+            for (CardColor active : CardColor.values()) {
+                // Comodines, cartas del color activo y mismo número o tipo especial que la superior
+                long mask = CardCodes.WILD_BITS | CardCodes.colorMask(active);
+                if (top < CardCodes.COLORED_COUNT) {
+                    mask |= CardCodes.slotMask(top % CardCodes.SLOTS_PER_COLOR);
+                }
+                LEGAL[top * COLOR_COUNT + active.ordinal()] = mask;
+            }
+        }
+    }
+
+    private Playability() { }
+
+    /**
+     * @param topCode Código de la carta superior
+     * @param activeColor Color activo del juego
+     * @return Máscara de todos los códigos de carta que se pueden jugar
+     */
+    public static long legalMask(int topCode, CardColor activeColor) {
+        return LEGAL[topCode * COLOR_COUNT + activeColor.ordinal()];
+    }
+
+    /**
+     * @param cardCode Código de la carta a jugar
+     * @param topCode Código de la carta superior
+     * @param activeColor Color activo del juego
+     * @return true si la carta se puede jugar
+     */
+    public static boolean isLegal(int cardCode, int topCode, CardColor activeColor) {
+        return (legalMask(topCode, activeColor) >>> cardCode & 1L) != 0;
+    }
+
+    /**
+     * Calcula las jugadas legales de una mano sin crear objetos.
+     *
+     * @param handMask Máscara de los códigos presentes en la mano
+     * @param topCode Código de la carta superior
+     * @param activeColor Color activo del juego
+     * @return Máscara de las cartas de la mano que se pueden jugar
+     */
+    public static long legalMoves(long handMask, int topCode, CardColor activeColor) {
+        return handMask & legalMask(topCode, activeColor);
+    }
+
+    /**
+     * Calcula las jugadas legales de una mano sin crear objetos.
+     *
+     * @param hand Mano del jugador
+     * @param top Carta superior
+     * @param activeColor Color activo del juego
+     * @return Máscara de las cartas de la mano que se pueden jugar
+     */
+    public static long legalMoves(HandBits hand, Card top, CardColor activeColor) {
+        return legalMoves(hand.mask(), top.getCode(), activeColor);
+    }
+}
@@ -2,18 +2,23 @@ package com.uno.model;
 
 import com.uno.exceptions.InvalidCardPlayException;
 import com.uno.model.enums.CardColor;
+import com.uno.util.logging.GameLogger;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Clase abstracta que representa un jugador en el juego UNO.
  */
 public abstract class Player {
+    private static final GameLogger LOG = GameLogger.getLogger(Player.class);
+
     protected String name;
     protected List<Card> hand;
+    protected final HandBits handBits;  // Espejo compacto de la mano para consultas rápidas
     protected boolean hasCalledUno;
+    private int seat;                   // Asiento en la partida, para las claves de Zobrist
+    private long zobrist;               // Hash de Zobrist de la mano, al día con cada cambio
 
     /**
      * Constructor para inicializar un jugador.
@@ -23,6 +28,7 @@ public abstract class Player {
     public Player(String name) {
         this.name = name;
         this.hand = new ArrayList<>();
+        this.handBits = new HandBits();
         this.hasCalledUno = false;
     }
 
@@ -33,22 +39,65 @@ public abstract class Player {
      */
     public void addCard(Card card) {
         hand.add(card);
+        addBits(card.getCode());
         // Si agregamos una carta, ya no estamos en estado "UNO"
         if (hand.size() > 1) {
             hasCalledUno = false;
         }
     }
 
+    /**
+     * Reemplaza la mano, por ejemplo al cargar una partida guardada.
+     *
+     * @param cards Cartas de la mano, en orden
+     * @param calledUno true si el jugador ya declaró UNO
+     */
+    public void restoreHand(List<Card> cards, boolean calledUno) {
+        hand.clear();
+        handBits.clear();
+        zobrist = 0;
+        addCards(cards);
+        hasCalledUno = calledUno;
+    }
+
+    /**
+     * Asigna el asiento del jugador en la partida y recalcula el hash de su
+     * mano, que depende del asiento.
+     *
+     * @param seat Asiento
+     */
+    void assignSeat(int seat) {
+        this.seat = seat;
+        HandBits counted = new HandBits();
+        zobrist = 0;
+        for (Card card : hand) {
+            zobrist ^= Zobrist.hand(seat, card.getCode(), counted.count(card.getCode()));
+            counted.add(card.getCode());
+        }
+    }
+
+    /**
+     * @return Asiento del jugador en su partida
+     */
+    int seat() {
+        return seat;
+    }
+
+    private void addBits(int code) {
+        zobrist ^= Zobrist.hand(seat, code, handBits.count(code));
+        handBits.add(code);
+    }
+
     /**
      * Selecciona el mejor color para una carta comodín.
-     * La implementación base selecciona un color aleatorio.
+     * La implementación base elige el color más repetido en la mano
+     * (rojo si solo quedan comodines); la computadora la refina.
      *
      * @return El color seleccionado
      */
     public CardColor selectBestColor() {
-        // Implementación base: seleccionar un color aleatorio
-        CardColor[] colors = {CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW};
-        return colors[new Random().nextInt(colors.length)];
+        CardColor dominant = handBits.dominantColor();
+        return dominant != null ? dominant : CardColor.RED;
     }
 
 
@@ -59,6 +108,9 @@ public abstract class Player {
      */
     public void addCards(List<Card> cards) {
         hand.addAll(cards);
+        for (Card card : cards) {
+            addBits(card.getCode());
+        }
         if (hand.size() > 1) {
             hasCalledUno = false;
         }
@@ -69,29 +121,31 @@ public abstract class Player {
      *
      * @param index Índice de la carta a jugar
      * @param topCard Carta superior en la mesa
+     * @param activeColor Color activo del juego
      * @return La carta jugada
      * @throws InvalidCardPlayException si la carta no se puede jugar
      */
-    public Card playCard(int index, Card topCard) throws InvalidCardPlayException {
+    public Card playCard(int index, Card topCard, CardColor activeColor) throws InvalidCardPlayException {
         if (index < 0 || index >= hand.size()) {
             String message = "Índice de carta fuera de rango: " + index;
-            System.out.println(message);
+            LOG.debug(() -> message);
             throw new InvalidCardPlayException(message);
         }
 
         Card cardToPlay = hand.get(index);
-        System.out.println("Intentando jugar: " + cardToPlay);
-        System.out.println("Sobre la carta: " + topCard);
-        System.out.println("Color actual: " + topCard.getActiveColor());
+        LOG.debug(() -> "Intentando jugar: " + cardToPlay + " sobre la carta: " + topCard
+                + " con color actual: " + activeColor);
 
-        if (!cardToPlay.canPlayOn(topCard)) {
+        if (!cardToPlay.canPlayOn(topCard, activeColor)) {
             String message = "No puedes jugar esta carta";
-            System.out.println(message);
+            LOG.debug(() -> message);
             throw new InvalidCardPlayException(message);
         }
 
         hand.remove(index);
-        System.out.println("Carta jugada exitosamente");
+        handBits.remove(cardToPlay.getCode());
+        zobrist ^= Zobrist.hand(seat, cardToPlay.getCode(), handBits.count(cardToPlay.getCode()));
+        LOG.debug(() -> "Carta jugada exitosamente: " + cardToPlay);
 
         // Si solo queda una carta, reestablecemos hasCalledUno
         if (hand.size() == 1) {
@@ -105,15 +159,11 @@ public abstract class Player {
      * Comprueba si el jugador tiene cartas jugables.
      *
      * @param topCard Carta superior en la mesa
+     * @param activeColor Color activo del juego
      * @return true si tiene al menos una carta jugable, false en caso contrario
      */
-    public boolean hasPlayableCard(Card topCard) {
-        for (Card card : hand) {
-            if (card.canPlayOn(topCard)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean hasPlayableCard(Card topCard, CardColor activeColor) {
+        return handBits.playableMask(topCard.getCode(), activeColor) != 0;
     }
 
     /**
@@ -136,11 +186,25 @@ public abstract class Player {
      * Obtiene el índice de una carta jugable.
      *
      * @param topCard Carta superior en la mesa
+     * @param activeColor Color activo del juego
      * @return Índice de una carta jugable o -1 si no hay ninguna
      */
-    public int getPlayableCardIndex(Card topCard) {
+    public int getPlayableCardIndex(Card topCard, CardColor activeColor) {
+        return indexOfFirst(handBits.playableMask(topCard.getCode(), activeColor));
+    }
+
+    /**
+     * Busca en la mano la primera carta cuyo código esté en la máscara.
+     *
+     * @param mask Máscara de códigos de carta
+     * @return Índice de la carta o -1 si ninguna carta de la mano está en la máscara
+     */
+    protected int indexOfFirst(long mask) {
+        if (mask == 0) {
+            return -1;
+        }
         for (int i = 0; i < hand.size(); i++) {
-            if (hand.get(i).canPlayOn(topCard)) {
+            if ((mask >>> hand.get(i).getCode() & 1L) != 0) {
                 return i;
             }
         }
@@ -161,6 +225,17 @@ public abstract class Player {
         return hand.size();
     }
 
+    public HandBits getHandBits() {
+        return new HandBits(handBits); // Copia, igual que getHand()
+    }
+
+    /**
+     * @return Hash de Zobrist de la mano en su asiento (ver {@link Zobrist#hand(int, int, int)})
+     */
+    public long getZobristHash() {
+        return zobrist;
+    }
+
     public boolean hasCalledUno() {
         return hasCalledUno;
     }
@@ -0,0 +1,96 @@
+package com.uno.model;
+
+import java.util.List;
+
+/**
+ * Anillo de asientos de una mesa con el sentido de juego.
+ * El turno avanza con aritmética de índices, sin crear objetos, así que
+ * saltos, robos y Reversas cuestan lo mismo con 2 o con 10 jugadores.
+ */
+public final class TurnRing {
+    private final Player[] seats;
+    private int current;
+    private int direction;  // 1 en el orden de los asientos, -1 tras una Reversa
+
+    /**
+     * @param players Jugadores en orden de asiento; empieza el asiento 0
+     */
+    public TurnRing(List<Player> players) {
+        this.seats = players.toArray(new Player[0]);
+        this.current = 0;
+        this.direction = 1;
+    }
+
+    public int size() {
+        return seats.length;
+    }
+
+    /**
+     * @param seat Asiento
+     * @return El jugador sentado en ese asiento
+     */
+    public Player get(int seat) {
+        return seats[seat];
+    }
+
+    public int current() {
+        return current;
+    }
+
+    public Player currentPlayer() {
+        return seats[current];
+    }
+
+    /**
+     * @return 1 si el turno avanza en el orden de los asientos, -1 si va al revés
+     */
+    public int direction() {
+        return direction;
+    }
+
+    /**
+     * @param seat Asiento de partida
+     * @param steps Posiciones a avanzar en el sentido actual
+     * @return El asiento resultante
+     */
+    public int seatAfter(int seat, int steps) {
+        return Math.floorMod(seat + direction * steps, seats.length);
+    }
+
+    /**
+     * @return El jugador que sigue al actual, sin mover el turno
+     */
+    public Player next() {
+        return seats[seatAfter(current, 1)];
+    }
+
+    public void moveTo(int seat) {
+        current = seat;
+    }
+
+    /**
+     * Avanza el turno; con 2 pasos el siguiente jugador pierde su turno.
+     *
+     * @param steps Posiciones a avanzar
+     */
+    public void advance(int steps) {
+        current = seatAfter(current, steps);
+    }
+
+    public void reverse() {
+        direction = -direction;
+    }
+
+    /**
+     * @param player Jugador a buscar
+     * @return Su asiento o -1 si no está en la mesa
+     */
+    public int seatOf(Player player) {
+        for (int i = 0; i < seats.length; i++) {
+            if (seats[i] == player) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,111 @@
+package com.uno.model;
+
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.GameState;
+
+import java.util.SplittableRandom;
+
+/**
+ * Claves de Zobrist: un número aleatorio de 64 bits por cada componente del
+ * estado (una copia de una carta en un asiento, la carta superior, el color,
+ * el turno...). El hash de un estado es el XOR de las claves de sus
+ * componentes, así que cada cambio se aplica en O(1) con un XOR de la clave
+ * que sale y otro de la que entra.
+ * <p>
+ * Las claves salen de una semilla fija: son las mismas en todas las
+ * ejecuciones y los hashes del motor coinciden con los de la búsqueda.
+ */
+public final class Zobrist {
+    private static final long SEED = 0x5A0B7157L;
+    private static final int COPIES = 8;       // Copias distintas de una carta en una mano
+    private static final int SIZES = 128;      // Tamaños distintos de mano o de pila
+
+    private static final long[] HAND = new long[Game.MAX_SEATS * CardCodes.CODE_COUNT * COPIES];
+    private static final long[] HAND_SIZE = new long[Game.MAX_SEATS * SIZES];
+    private static final long[] TOP = new long[CardCodes.CODE_COUNT];
+    private static final long[] COLOR = new long[CardColor.values().length];
+    private static final long[] TURN = new long[Game.MAX_SEATS];
+    private static final long[] PILE = new long[SIZES];
+    private static final long[] STATE = new long[GameState.values().length];
+    private static final long[] MOVE = new long[Moves.MOVE_COUNT];
+    private static final long REVERSED;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] keys : new long[][] {HAND, HAND_SIZE, TOP, COLOR, TURN, PILE, STATE, MOVE}) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+        REVERSED = random.nextLong();
+    }
+
+    private Zobrist() { }
+
+    /**
+     * Clave de una copia de una carta en la mano de un asiento. Al agregar
+     * una carta se usa la copia igual a las que ya había; al quitarla, las
+     * que quedan. Las copias a partir de la octava comparten clave.
+     *
+     * @param seat Asiento
+     * @param code Código de la carta
+     * @param copy Copias de la carta que hay en la mano sin contar esta
+     */
+    public static long hand(int seat, int code, int copy) {
+        return HAND[(seat * CardCodes.CODE_COUNT + code) * COPIES + Math.min(copy, COPIES - 1)];
+    }
+
+    /**
+     * @param seat Asiento
+     * @param size Cartas en la mano
+     */
+    public static long handSize(int seat, int size) {
+        return HAND_SIZE[seat * SIZES + Math.min(size, SIZES - 1)];
+    }
+
+    /**
+     * @param code Código de la carta superior
+     */
+    public static long top(int code) {
+        return TOP[code];
+    }
+
+    /**
+     * @param color Color activo, o null antes de empezar
+     */
+    public static long color(CardColor color) {
+        return color == null ? 0 : COLOR[color.ordinal()];
+    }
+
+    /**
+     * @param seat Asiento en turno
+     */
+    public static long turn(int seat) {
+        return TURN[seat];
+    }
+
+    /**
+     * @param direction 1 o -1
+     */
+    public static long direction(int direction) {
+        return direction < 0 ? REVERSED : 0;
+    }
+
+    /**
+     * @param size Cartas en la pila de robo
+     */
+    public static long pileSize(int size) {
+        return PILE[Math.min(size, SIZES - 1)];
+    }
+
+    public static long state(GameState state) {
+        return STATE[state.ordinal()];
+    }
+
+    /**
+     * @param move Jugada en la codificación de {@link Moves}
+     */
+    public static long move(int move) {
+        return MOVE[move];
+    }
+}
@@ -0,0 +1,179 @@
+package com.uno.model.ai;
+
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Game;
+import com.uno.model.Moves;
+import com.uno.model.PlayStrategy;
+import com.uno.model.enums.CardColor;
+import com.uno.util.GameRandom;
+import com.uno.util.logging.GameLogger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estrategia de búsqueda Monte Carlo sobre conjuntos de información (ISMCTS).
+ * En cada iteración reparte al azar las cartas que el jugador no ve (manos
+ * rivales y pila de robo) respetando lo que sí sabe, recorre el árbol y
+ * termina la partida con jugadas aleatorias.
+ * <p>
+ * Usa paralelismo en la raíz: cada hilo busca en su propio árbol durante el
+ * presupuesto de tiempo y al final se suman las visitas de cada jugada. Los
+ * árboles y estados se reservan una vez y se reutilizan en cada decisión.
+ * Los hilos comparten una {@link TranspositionTable} que se conserva entre
+ * decisiones, así que lo aprendido en una posición sirve cuando otro hilo o
+ * el turno siguiente vuelven a ella.
+ */
+public final class IsmctsStrategy implements PlayStrategy {
+    private static final GameLogger LOG = GameLogger.getLogger(IsmctsStrategy.class);
+    private static final int NODES_PER_WORKER = 1 << 16;
+    private static final int TABLE_ENTRIES = 1 << 18;
+    private static final double EXPLORATION = 0.7;
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final Worker[] workers;
+    private final List<Callable<Void>> tasks;
+    private final ExecutorService pool;   // null con un solo hilo: se busca en el hilo que llama
+    private final long[] visitsByMove = new long[Moves.MOVE_COUNT];
+    private Observation pending;
+    private long deadline;
+    private CardColor plannedColor;       // Color decidido junto con el comodín
+
+    /**
+     * Crea una estrategia limitada solo por tiempo.
+     *
+     * @param budgetMillis Tiempo de búsqueda por decisión, en milisegundos
+     * @param threads Hilos de búsqueda (paralelismo en la raíz)
+     * @param random Generador del que se deriva uno por hilo
+     */
+    public IsmctsStrategy(long budgetMillis, int threads, GameRandom random) {
+        this(budgetMillis, threads, Integer.MAX_VALUE, random);
+    }
+
+    /**
+     * Crea una estrategia limitada por tiempo y por iteraciones por hilo.
+     * Con un solo hilo y un límite de iteraciones holgado en tiempo, la
+     * decisión es reproducible para una misma semilla.
+     *
+     * @param budgetMillis Tiempo de búsqueda por decisión, en milisegundos
+     * @param threads Hilos de búsqueda (paralelismo en la raíz)
+     * @param maxIterations Iteraciones máximas por hilo y decisión
+     * @param random Generador del que se deriva uno por hilo
+     */
+    public IsmctsStrategy(long budgetMillis, int threads, int maxIterations, GameRandom random) {
+        if (budgetMillis <= 0 || threads <= 0 || maxIterations <= 0) {
+            throw new IllegalArgumentException("Presupuesto de búsqueda inválido");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxIterations = maxIterations;
+        this.workers = new Worker[threads];
+        this.tasks = new ArrayList<>(threads);
+        TranspositionTable table = new TranspositionTable(TABLE_ENTRIES);
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(random.split(), table);
+            workers[i] = worker;
+            tasks.add(() -> {
+                worker.search(pending, deadline, this.maxIterations);
+                return null;
+            });
+        }
+        this.pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "uno-ismcts-" + POOL_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public synchronized int chooseCard(Game game, ComputerPlayer self) {
+        plannedColor = null;
+        Observation obs = Observation.of(game);
+        long moves = obs.rootMoves();
+
+        // Con una sola jugada posible no hace falta buscar
+        int move = Long.bitCount(moves) == 1 ? Long.numberOfTrailingZeros(moves) : search(obs, moves);
+        plannedColor = Moves.colorOf(move);
+        return Moves.cardOf(move);
+    }
+
+    @Override
+    public synchronized CardColor chooseColor(Game game, ComputerPlayer self) {
+        CardColor color = plannedColor;
+        plannedColor = null;
+        return color != null ? color : self.selectBestColor();
+    }
+
+    /**
+     * Detiene los hilos de búsqueda. La estrategia no se puede usar después.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private int search(Observation obs, long rootMoves) {
+        pending = obs;
+        deadline = System.nanoTime() + budgetNanos;
+        if (pool == null) {
+            workers[0].search(obs, deadline, maxIterations);
+        } else {
+            try {
+                for (Future<Void> future : pool.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOG.error("Error en la búsqueda ISMCTS", e.getCause());
+            }
+        }
+        pending = null;
+
+        Arrays.fill(visitsByMove, 0);
+        int iterations = 0;
+        for (Worker worker : workers) {
+            worker.tree.addRootVisits(visitsByMove);
+            iterations += worker.tree.iterations();
+        }
+
+        int best = Long.numberOfTrailingZeros(rootMoves);
+        for (int m = 0; m < Moves.MOVE_COUNT; m++) {
+            if ((rootMoves >>> m & 1L) != 0 && visitsByMove[m] > visitsByMove[best]) {
+                best = m;
+            }
+        }
+        int total = iterations;
+        int chosen = best;
+        LOG.debug(() -> "ISMCTS: " + total + " iteraciones, jugada " + chosen);
+        return best;
+    }
+
+    /**
+     * Árbol, estado y generador propios de un hilo de búsqueda.
+     */
+    private static final class Worker {
+        private final GameRandom random;
+        private final SearchState state;
+        private final SearchTree tree;
+
+        Worker(GameRandom random, TranspositionTable table) {
+            this.random = random;
+            this.state = new SearchState(random);
+            this.tree = new SearchTree(NODES_PER_WORKER, EXPLORATION, table);
+        }
+
+        void search(Observation obs, long deadline, int maxIterations) {
+            tree.search(obs, state, random, deadline, maxIterations);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.uno.model.ai;
+
+import com.uno.model.Card;
+import com.uno.model.CardCodes;
+import com.uno.model.Game;
+import com.uno.model.HandBits;
+import com.uno.model.Moves;
+import com.uno.model.Playability;
+import com.uno.model.enums.CardColor;
+
+/**
+ * Lo que un jugador sabe de la partida en su turno: su propia mano, la mesa,
+ * cuántas cartas tiene cada rival y qué cartas no ha visto todavía.
+ * Se captura una vez por decisión en el hilo del juego y después solo se lee,
+ * así que los hilos de búsqueda la comparten sin sincronización.
+ */
+final class Observation {
+    final int seats;
+    final int observer;
+    final int direction;
+    final int topCode;
+    final CardColor activeColor;
+    final long ownColored;
+    final long ownColoredTwice;  // Cartas de color repetidas, solo con dos mazos
+    final int ownWilds;
+    final int ownWildDrawFours;
+    final long ownHash;        // Hash de Zobrist de la mano propia, ya mantenido por el motor
+    final int[] handSizes;
+    final int[] discard;       // Códigos de la pila de descarte; la carta superior al final
+    final int[] unseen;        // Cartas en manos rivales o en la pila de robo
+
+    private Observation(Game game) {
+        seats = game.getSeatCount();
+        observer = game.getCurrentSeat();
+        direction = game.getDirection();
+        topCode = game.getTopCard().getCode();
+        activeColor = game.getActiveColor();
+
+        HandBits own = game.getPlayer(observer).getHandBits();
+        ownColored = own.mask() & Moves.COLORED_BITS;
+        ownColoredTwice = own.repeatedMask();
+        ownWilds = own.count(CardCodes.WILD);
+        ownWildDrawFours = own.count(CardCodes.WILD_DRAW_FOUR);
+        ownHash = game.getPlayer(observer).getZobristHash();
+
+        handSizes = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            handSizes[seat] = game.getPlayer(seat).getHandSize();
+        }
+
+        // No vistas = composición del mazo - mano propia - descarte
+        int[] counts = new int[CardCodes.CODE_COUNT];
+        for (Card card : game.getDeck().getContents()) {
+            counts[card.getCode()]++;
+        }
+        int[] discarded = new int[CardCodes.CODE_COUNT];
+        game.getDeck().countDiscards(discarded);
+        int discardSize = 0;
+        for (int code = 0; code < CardCodes.CODE_COUNT; code++) {
+            counts[code] -= discarded[code] + own.count(code);
+            discardSize += discarded[code];
+        }
+
+        discard = new int[discardSize];
+        int d = 0;
+        for (int code = 0; code < CardCodes.CODE_COUNT; code++) {
+            // La carta superior se agrega al final
+            int copies = code == topCode ? discarded[code] - 1 : discarded[code];
+            for (int i = 0; i < copies; i++) discard[d++] = code;
+        }
+        discard[d] = topCode;
+
+        int unseenSize = 0;
+        for (int count : counts) unseenSize += Math.max(count, 0);
+        unseen = new int[unseenSize];
+        int u = 0;
+        for (int code = 0; code < CardCodes.CODE_COUNT; code++) {
+            for (int i = 0; i < counts[code]; i++) unseen[u++] = code;
+        }
+    }
+
+    /**
+     * Captura la información visible para el jugador que tiene el turno.
+     *
+     * @param game Partida en curso
+     * @return La observación del jugador actual
+     */
+    static Observation of(Game game) {
+        return new Observation(game);
+    }
+
+    /**
+     * @return Máscara de jugadas legales del observador en la raíz
+     */
+    long rootMoves() {
+        long hand = ownColored;
+        if (ownWilds > 0) hand |= 1L << CardCodes.WILD;
+        if (ownWildDrawFours > 0) hand |= 1L << CardCodes.WILD_DRAW_FOUR;
+        return Moves.toMoves(Playability.legalMoves(hand, topCode, activeColor));
+    }
+}
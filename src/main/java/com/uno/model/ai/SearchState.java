@@ -0,0 +1,333 @@
+package com.uno.model.ai;
+
+import com.uno.model.CardCodes;
+import com.uno.model.Game;
+import com.uno.model.Moves;
+import com.uno.model.Playability;
+import com.uno.model.Zobrist;
+import com.uno.model.enums.CardColor;
+import com.uno.util.GameRandom;
+
+/**
+ * Estado compacto y mutable de una partida para la búsqueda: manos como
+ * máscaras de bits (con una segunda máscara para las cartas de color
+ * repetidas de las mesas con dos mazos), pilas como arreglos de códigos y el
+ * anillo de turnos como enteros. Aplica las mismas reglas que {@link Game} (sin la ventana de UNO)
+ * y se reutiliza en cada iteración, sin crear objetos.
+ * <p>
+ * Las jugadas usan la codificación de {@link Moves}, así que el conjunto de
+ * jugadas legales cabe en un {@code long}.
+ * <p>
+ * Lleva al día, con las mismas claves que {@link Game#getInformationHash(int)},
+ * el hash de Zobrist de cada mano y el de los tamaños de mano, para que
+ * {@link #informationHash()} cueste unos pocos XOR.
+ */
+final class SearchState {
+    private static final CardColor[] COLORS = {CardColor.RED, CardColor.BLUE, CardColor.GREEN, CardColor.YELLOW};
+    private static final int MAX_ROLLOUT_MOVES = 1_000;
+    private static final int CAPACITY = 128;  // Cabe el mazo doble de 120 cartas
+
+    private final GameRandom random;
+    private final long[] colored = new long[Game.MAX_SEATS];
+    private final long[] coloredTwice = new long[Game.MAX_SEATS];
+    private final int[] wilds = new int[Game.MAX_SEATS];
+    private final int[] wildDrawFours = new int[Game.MAX_SEATS];
+    private final long[] handHash = new long[Game.MAX_SEATS];
+    private long sizesHash;
+    private final int[] pile = new int[CAPACITY];
+    private final int[] discard = new int[CAPACITY];
+    private final int[] scratch = new int[CAPACITY];
+    private int pileSize;
+    private int discardSize;
+    private int seats;
+    private int current;
+    private int direction;
+    private int top;
+    private CardColor activeColor;
+    private int winner;
+    private boolean exhausted;  // Nadie puede robar: la partida termina sin ganador
+
+    SearchState(GameRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Carga una determinización: una asignación al azar de las cartas no
+     * vistas a las manos rivales y a la pila de robo, compatible con lo observado.
+     *
+     * @param obs Información visible para el jugador que busca
+     */
+    void determinize(Observation obs) {
+        seats = obs.seats;
+        current = obs.observer;
+        direction = obs.direction;
+        top = obs.topCode;
+        activeColor = obs.activeColor;
+        winner = -1;
+        exhausted = false;
+
+        System.arraycopy(obs.discard, 0, discard, 0, obs.discard.length);
+        discardSize = obs.discard.length;
+
+        int unseen = obs.unseen.length;
+        System.arraycopy(obs.unseen, 0, scratch, 0, unseen);
+        shuffle(scratch, unseen);
+
+        sizesHash = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            sizesHash ^= Zobrist.handSize(seat, 0);
+        }
+
+        int next = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            colored[seat] = 0;
+            coloredTwice[seat] = 0;
+            wilds[seat] = 0;
+            wildDrawFours[seat] = 0;
+            handHash[seat] = 0;
+            if (seat == obs.observer) {
+                colored[seat] = obs.ownColored;
+                coloredTwice[seat] = obs.ownColoredTwice;
+                wilds[seat] = obs.ownWilds;
+                wildDrawFours[seat] = obs.ownWildDrawFours;
+                handHash[seat] = obs.ownHash;
+                sizesHash ^= Zobrist.handSize(seat, 0) ^ Zobrist.handSize(seat, handSize(seat));
+                continue;
+            }
+            for (int i = 0; i < obs.handSizes[seat] && next < unseen; i++) {
+                addToHand(seat, scratch[next++]);
+            }
+        }
+        pileSize = unseen - next;
+        System.arraycopy(scratch, next, pile, 0, pileSize);
+    }
+
+    /**
+     * @return Máscara de jugadas legales del jugador en turno
+     */
+    long legalMoves() {
+        return Moves.toMoves(Playability.legalMoves(handMask(current), top, activeColor));
+    }
+
+    /**
+     * Aplica una jugada legal del jugador en turno.
+     *
+     * @param move Jugada codificada
+     */
+    void apply(int move) {
+        int seat = current;
+        if (move == Moves.DRAW) {
+            int code = drawOne();
+            if (code < 0) {
+                exhausted = true;
+                return;
+            }
+            addToHand(seat, code);
+            // Si la carta robada se puede jugar, conserva el turno
+            if (!Playability.isLegal(code, top, activeColor)) {
+                current = seatAfter(seat, 1);
+            }
+            return;
+        }
+
+        int code = Moves.cardOf(move);
+        removeFromHand(seat, code);
+        discard[discardSize++] = code;
+        top = code;
+        activeColor = code < CardCodes.COLORED_COUNT ? CardCodes.colorOf(code) : Moves.colorOf(move);
+        if (handSize(seat) == 0) {
+            winner = seat;
+            return;
+        }
+
+        if (code == CardCodes.WILD) {
+            current = seatAfter(seat, 1);
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            drawTo(seatAfter(seat, 1), 4);
+            current = seatAfter(seat, 2);
+        } else {
+            switch (code % CardCodes.SLOTS_PER_COLOR) {
+                case CardCodes.SKIP_SLOT:
+                    current = seatAfter(seat, 2);
+                    break;
+                case CardCodes.DRAW_TWO_SLOT:
+                    drawTo(seatAfter(seat, 1), 2);
+                    current = seatAfter(seat, 2);
+                    break;
+                case CardCodes.REVERSE_SLOT:
+                    direction = -direction;
+                    current = seats == 2 ? seat : seatAfter(seat, 1);
+                    break;
+                default:
+                    current = seatAfter(seat, 1);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Juega al azar hasta el final. Los comodines eligen el color más
+     * frecuente en la mano, que es mucho mejor que uno al azar y igual de barato.
+     */
+    void rollout() {
+        for (int step = 0; step < MAX_ROLLOUT_MOVES && !isTerminal(); step++) {
+            long playable = Playability.legalMoves(handMask(current), top, activeColor);
+            if (playable == 0) {
+                apply(Moves.DRAW);
+                continue;
+            }
+            int code = nthBit(playable, random.nextInt(Long.bitCount(playable)));
+            if (code == CardCodes.WILD) {
+                apply(Moves.WILD_MOVES + dominantColor(current));
+            } else if (code == CardCodes.WILD_DRAW_FOUR) {
+                apply(Moves.WILD_DRAW_FOUR_MOVES + dominantColor(current));
+            } else {
+                apply(code);
+            }
+        }
+    }
+
+    /**
+     * Hash del conjunto de información del jugador en turno: su mano, la
+     * mesa y los tamaños de mano. Es igual a {@link Game#getInformationHash(int)}
+     * en la misma posición.
+     *
+     * @return Hash de Zobrist
+     */
+    long informationHash() {
+        return handHash[current] ^ sizesHash ^ Zobrist.top(top) ^ Zobrist.color(activeColor)
+                ^ Zobrist.turn(current) ^ Zobrist.direction(direction) ^ Zobrist.pileSize(pileSize);
+    }
+
+    boolean isTerminal() {
+        return winner >= 0 || exhausted;
+    }
+
+    /**
+     * @return Asiento ganador o -1 si la partida terminó sin ganador
+     */
+    int winner() {
+        return winner;
+    }
+
+    int current() {
+        return current;
+    }
+
+    /**
+     * @param mask Máscara no vacía
+     * @param n Índice del bit encendido buscado, desde cero
+     * @return Posición de ese bit
+     */
+    static int nthBit(long mask, int n) {
+        for (int i = 0; i < n; i++) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    private int dominantColor(int seat) {
+        int best = 0;
+        int bestCount = -1;
+        for (int c = 0; c < COLORS.length; c++) {
+            long mask = CardCodes.colorMask(COLORS[c]);
+            int count = Long.bitCount(colored[seat] & mask) + Long.bitCount(coloredTwice[seat] & mask);
+            if (count > bestCount) {
+                bestCount = count;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private long handMask(int seat) {
+        long mask = colored[seat];
+        if (wilds[seat] > 0) mask |= 1L << CardCodes.WILD;
+        if (wildDrawFours[seat] > 0) mask |= 1L << CardCodes.WILD_DRAW_FOUR;
+        return mask;
+    }
+
+    private int handSize(int seat) {
+        return Long.bitCount(colored[seat]) + Long.bitCount(coloredTwice[seat]) + wilds[seat] + wildDrawFours[seat];
+    }
+
+    private void addToHand(int seat, int code) {
+        int size = handSize(seat);
+        handHash[seat] ^= Zobrist.hand(seat, code, copies(seat, code));
+        sizesHash ^= Zobrist.handSize(seat, size) ^ Zobrist.handSize(seat, size + 1);
+        if (code == CardCodes.WILD) {
+            wilds[seat]++;
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            wildDrawFours[seat]++;
+        } else {
+            coloredTwice[seat] |= colored[seat] & 1L << code;
+            colored[seat] |= 1L << code;
+        }
+    }
+
+    private void removeFromHand(int seat, int code) {
+        int size = handSize(seat);
+        if (code == CardCodes.WILD) {
+            wilds[seat]--;
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            wildDrawFours[seat]--;
+        } else if ((coloredTwice[seat] >>> code & 1L) != 0) {
+            coloredTwice[seat] &= ~(1L << code);
+        } else {
+            colored[seat] &= ~(1L << code);
+        }
+        handHash[seat] ^= Zobrist.hand(seat, code, copies(seat, code));
+        sizesHash ^= Zobrist.handSize(seat, size) ^ Zobrist.handSize(seat, size - 1);
+    }
+
+    private int copies(int seat, int code) {
+        if (code == CardCodes.WILD) {
+            return wilds[seat];
+        } else if (code == CardCodes.WILD_DRAW_FOUR) {
+            return wildDrawFours[seat];
+        }
+        return (int) ((colored[seat] >>> code & 1L) + (coloredTwice[seat] >>> code & 1L));
+    }
+
+    /**
+     * Reparte un castigo; como el motor, si no quedan cartas reparte las que haya.
+     */
+    private void drawTo(int seat, int count) {
+        for (int i = 0; i < count; i++) {
+            int code = drawOne();
+            if (code < 0) {
+                return;
+            }
+            addToHand(seat, code);
+        }
+    }
+
+    /**
+     * Roba de la pila; si está vacía, rebaraja el descarte salvo la carta superior.
+     *
+     * @return Código robado o -1 si no quedan cartas
+     */
+    private int drawOne() {
+        if (pileSize == 0 && discardSize > 1) {
+            pileSize = discardSize - 1;
+            System.arraycopy(discard, 0, pile, 0, pileSize);
+            discard[0] = discard[discardSize - 1];
+            discardSize = 1;
+            shuffle(pile, pileSize);
+        }
+        return pileSize == 0 ? -1 : pile[--pileSize];
+    }
+
+    private int seatAfter(int seat, int steps) {
+        return Math.floorMod(seat + direction * steps, seats);
+    }
+
+    private void shuffle(int[] array, int size) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.uno.model.ai;
+
+import com.uno.model.Moves;
+import com.uno.util.GameRandom;
+
+/**
+ * Árbol de búsqueda ISMCTS guardado en arreglos paralelos (una arena).
+ * Cada nodo es un índice, no un objeto: reiniciar el árbol es poner el
+ * tamaño en cero y la memoria se reserva una sola vez por hilo. Si la arena
+ * se llena, las iteraciones siguen sin expandir nodos nuevos.
+ * <p>
+ * Como cada iteración usa una determinización distinta, un hijo solo
+ * compite en la selección cuando su jugada es legal en la determinización
+ * actual; {@code available} cuenta esas veces (UCB con disponibilidad).
+ * <p>
+ * Con una {@link TranspositionTable}, cada nodo nuevo empieza con lo que la
+ * tabla sabe de su jugada en el mismo conjunto de información (hasta
+ * {@code PRIOR_VISITS} visitas) y cada simulación se suma también a la tabla.
+ */
+final class SearchTree {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int TIME_CHECK_MASK = 63;  // Consulta el reloj cada 64 iteraciones
+    private static final int PRIOR_VISITS = 32;     // Peso máximo de la tabla en un nodo nuevo
+
+    private final double exploration;
+    private final TranspositionTable table;  // null sin tabla de transposiciones
+    private final int[] parent;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final int[] visits;
+    private final int[] available;
+    private final double[] wins;
+    private final byte[] move;
+    private final byte[] mover;      // Asiento que hizo la jugada que lleva al nodo
+    private final long[] childMoves; // Jugadas que ya tienen hijo
+    private final long[] key;        // Clave del nodo en la tabla de transposiciones
+    private int size;
+    private int iterations;
+
+    SearchTree(int capacity, double exploration) {
+        this(capacity, exploration, null);
+    }
+
+    /**
+     * @param capacity Nodos máximos del árbol
+     * @param exploration Constante de exploración de UCB
+     * @param table Tabla compartida de transposiciones, o null
+     */
+    SearchTree(int capacity, double exploration, TranspositionTable table) {
+        this.exploration = exploration;
+        this.table = table;
+        parent = new int[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        visits = new int[capacity];
+        available = new int[capacity];
+        wins = new double[capacity];
+        move = new byte[capacity];
+        mover = new byte[capacity];
+        childMoves = new long[capacity];
+        key = new long[capacity];
+    }
+
+    /**
+     * Ejecuta iteraciones hasta agotar el plazo o el límite de iteraciones.
+     *
+     * @param obs Información visible en la raíz
+     * @param state Estado reutilizable para las determinizaciones
+     * @param random Generador propio de este hilo
+     * @param deadlineNanos Instante límite según {@link System#nanoTime()}
+     * @param maxIterations Límite de iteraciones
+     */
+    void search(Observation obs, SearchState state, GameRandom random, long deadlineNanos, int maxIterations) {
+        size = 0;
+        newNode(NONE, 0, NONE, 0);
+
+        for (iterations = 0; iterations < maxIterations; iterations++) {
+            if ((iterations & TIME_CHECK_MASK) == 0 && iterations > 0 && System.nanoTime() >= deadlineNanos) {
+                break;
+            }
+            state.determinize(obs);
+            int node = select(state, random);
+            state.rollout();
+            backPropagate(node, state.winner());
+        }
+    }
+
+    /**
+     * Baja por el árbol aplicando jugadas a la determinización y expande
+     * un hijo nuevo si encuentra una jugada legal sin probar.
+     *
+     * @return El nodo desde el que empieza la simulación
+     */
+    private int select(SearchState state, GameRandom random) {
+        int node = ROOT;
+        while (!state.isTerminal()) {
+            long legal = state.legalMoves();
+
+            int best = NONE;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if ((legal >>> move[child] & 1L) == 0) {
+                    continue;
+                }
+                available[child]++;
+                double score = wins[child] / visits[child]
+                        + exploration * Math.sqrt(Math.log(available[child]) / visits[child]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+
+            long untried = legal & ~childMoves[node];
+            if (untried != 0) {
+                int m = SearchState.nthBit(untried, random.nextInt(Long.bitCount(untried)));
+                int seat = state.current();
+                long childKey = table == null ? 0 : TranspositionTable.key(state.informationHash(), m);
+                state.apply(m);
+                int child = newNode(node, m, seat, childKey);
+                return child == NONE ? node : child;
+            }
+
+            state.apply(move[best]);
+            node = best;
+        }
+        return node;
+    }
+
+    private void backPropagate(int node, int winner) {
+        for (int n = node; n != NONE; n = parent[n]) {
+            boolean won = winner >= 0 && mover[n] == winner;
+            visits[n]++;
+            if (won) {
+                wins[n]++;
+            }
+            if (table != null && n != ROOT) {
+                table.record(key[n], won);
+            }
+        }
+    }
+
+    private int newNode(int parentNode, int m, int seat, long nodeKey) {
+        if (size == parent.length) {
+            return NONE;
+        }
+        int node = size++;
+        parent[node] = parentNode;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        visits[node] = 0;
+        available[node] = 1;
+        wins[node] = 0;
+        move[node] = (byte) m;
+        mover[node] = (byte) seat;
+        childMoves[node] = 0;
+        key[node] = nodeKey;
+        if (table != null && parentNode != NONE) {
+            long known = table.probe(nodeKey);
+            int knownVisits = TranspositionTable.visits(known);
+            if (knownVisits > 0) {
+                int prior = Math.min(knownVisits, PRIOR_VISITS);
+                visits[node] = prior;
+                wins[node] = (double) TranspositionTable.wins(known) * prior / knownVisits;
+            }
+        }
+        if (parentNode != NONE) {
+            nextSibling[node] = firstChild[parentNode];
+            firstChild[parentNode] = node;
+            childMoves[parentNode] |= 1L << m;
+        }
+        return node;
+    }
+
+    /**
+     * Suma las visitas de los hijos de la raíz, indexadas por jugada.
+     *
+     * @param visitsByMove Acumulador de tamaño {@link Moves#MOVE_COUNT}
+     */
+    void addRootVisits(long[] visitsByMove) {
+        for (int child = firstChild[ROOT]; child != NONE; child = nextSibling[child]) {
+            visitsByMove[move[child]] += visits[child];
+        }
+    }
+
+    int iterations() {
+        return iterations;
+    }
+
+    int nodeCount() {
+        return size;
+    }
+}
@@ -0,0 +1,88 @@
+package com.uno.model.ai;
+
+import com.uno.model.Zobrist;
+
+/**
+ * Tabla de transposiciones de tamaño fijo y sin bloqueos, compartida por los
+ * hilos de búsqueda y conservada entre decisiones. Guarda, por conjunto de
+ * información y jugada, cuántas veces se probó la jugada y cuántas ganó
+ * quien la hizo: la búsqueda vuelve a llegar a las mismas posiciones por
+ * caminos distintos, en otros hilos y en el turno siguiente.
+ * <p>
+ * Cada entrada son dos {@code long}: la clave mezclada con los datos por
+ * XOR y los datos. Una escritura concurrente que deje la entrada a medias
+ * no supera la comprobación de la clave y se lee como un fallo; una suma
+ * perdida en una carrera solo resta algo de información. Una clave nueva
+ * reemplaza siempre a la que ocupaba su posición.
+ */
+final class TranspositionTable {
+    private static final long VISITS_ONE = 1L << 32;  // Visitas en los 32 bits altos, victorias en los bajos
+
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+
+    /**
+     * @param entries Número de entradas; se redondea hacia arriba a una potencia de dos
+     */
+    TranspositionTable(int entries) {
+        int size = Integer.highestOneBit(Math.max(entries - 1, 1)) << 1;
+        keys = new long[size];
+        data = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @param key Clave de la posición y la jugada
+     * @return Visitas (32 bits altos) y victorias (32 bits bajos), o 0 si no está
+     */
+    long probe(long key) {
+        int index = index(key);
+        long stored = data[index];
+        return (keys[index] ^ stored) == key ? stored : 0;
+    }
+
+    /**
+     * Suma el resultado de una simulación a la entrada de la clave.
+     *
+     * @param key Clave de la posición y la jugada
+     * @param won true si ganó el jugador que hizo la jugada
+     */
+    void record(long key, boolean won) {
+        int index = index(key);
+        long stored = data[index];
+        long current = (keys[index] ^ stored) == key ? stored : 0;
+        // Sin desbordar: al llenarse los contadores se reinician a la mitad
+        if (visits(current) == Integer.MAX_VALUE) {
+            current = (current >>> 1) & 0x7FFF_FFFF_7FFF_FFFFL;
+        }
+        long next = current + VISITS_ONE + (won ? 1 : 0);
+        data[index] = next;
+        keys[index] = key ^ next;
+    }
+
+    static int visits(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    static int wins(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * @param informationHash Hash del conjunto de información de quien juega
+     * @param move Jugada
+     * @return Clave de la jugada en esa posición
+     */
+    static long key(long informationHash, int move) {
+        long z = informationHash ^ Zobrist.move(move);
+        // Mezcla final de SplitMix64 para que los bits bajos del índice sean uniformes
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private int index(long key) {
+        return (int) key & mask;
+    }
+}
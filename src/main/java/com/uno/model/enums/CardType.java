@@ -7,6 +7,7 @@ public enum CardType {
     NUMBER,      // Cartas numéricas (0-9)
     SKIP,        // Carta de Ceder Turno
     DRAW_TWO,    // Carta +2
+    REVERSE,     // Carta de Reversa (solo en mesas de más de dos jugadores)
     WILD,        // Carta de Cambio de Color
     WILD_DRAW_FOUR; // Carta +4
 
@@ -28,6 +29,7 @@ public enum CardType {
             case NUMBER -> "Número";
             case SKIP -> "Ceder Turno";
             case DRAW_TWO -> "+2";
+            case REVERSE -> "Reversa";
             case WILD -> "Cambio de Color";
             case WILD_DRAW_FOUR -> "+4";
         };
@@ -0,0 +1,12 @@
+package com.uno.model.enums;
+
+/**
+ * Enum que indica por qué un jugador robó una carta.
+ */
+public enum DrawReason {
+    DEAL,              // Reparto inicial
+    NO_PLAYABLE_CARD,  // El jugador no tenía cartas jugables
+    DRAW_TWO,          // Efecto de una carta +2
+    WILD_DRAW_FOUR,    // Efecto de una carta +4
+    UNO_PENALTY        // Penalización por no declarar UNO
+}
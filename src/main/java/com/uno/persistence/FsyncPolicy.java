@@ -0,0 +1,79 @@
+package com.uno.persistence;
+
+/**
+ * Cuándo fuerza {@link WriteAheadLog} sus escrituras al disco. Es el
+ * compromiso entre cuántas jugadas se pueden perder en un corte y cuánto
+ * rendimiento cuesta la durabilidad.
+ *
+ * @param mode Modo de sincronización
+ * @param batchSize Jugadas máximas por sincronización en {@link Mode#BATCHED}
+ * @param intervalMillis Intervalo entre sincronizaciones en {@link Mode#TIME_BASED}
+ */
+public record FsyncPolicy(Mode mode, int batchSize, long intervalMillis) {
+
+    public enum Mode {
+        /** Una sincronización por jugada; la jugada se confirma ya en disco. */
+        PER_MOVE,
+        /**
+         * Commit en grupo: las jugadas que llegan juntas comparten una
+         * sincronización, hasta {@code batchSize}; cada una se confirma ya en disco.
+         */
+        BATCHED,
+        /**
+         * La jugada se confirma al escribirla y se sincroniza como mucho cada
+         * {@code intervalMillis}; un corte puede perder ese último intervalo.
+         */
+        TIME_BASED
+    }
+
+    public FsyncPolicy {
+        if (mode == null || batchSize < 1 || intervalMillis < 0) {
+            throw new IllegalArgumentException("Política de sincronización inválida");
+        }
+    }
+
+    public static FsyncPolicy perMove() {
+        return new FsyncPolicy(Mode.PER_MOVE, 1, 0);
+    }
+
+    /**
+     * @param batchSize Jugadas máximas por sincronización
+     */
+    public static FsyncPolicy batched(int batchSize) {
+        return new FsyncPolicy(Mode.BATCHED, batchSize, 0);
+    }
+
+    /**
+     * @param intervalMillis Intervalo máximo entre sincronizaciones
+     */
+    public static FsyncPolicy every(long intervalMillis) {
+        return new FsyncPolicy(Mode.TIME_BASED, 1, intervalMillis);
+    }
+
+    /**
+     * Interpreta la política de una propiedad o argumento:
+     * {@code move}, {@code batch:N} o {@code time:MS}.
+     *
+     * @param text Texto a interpretar
+     * @return La política
+     * @throws IllegalArgumentException si el texto no es una política válida
+     */
+    public static FsyncPolicy parse(String text) {
+        String[] parts = text.trim().split(":", 2);
+        try {
+            switch (parts[0]) {
+                case "move":
+                    return perMove();
+                case "batch":
+                    return batched(parts.length > 1 ? Integer.parseInt(parts[1]) : 64);
+                case "time":
+                    return every(parts.length > 1 ? Long.parseLong(parts[1]) : 50);
+                default:
+                    break;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo
+        }
+        throw new IllegalArgumentException("Política de sincronización desconocida: " + text);
+    }
+}
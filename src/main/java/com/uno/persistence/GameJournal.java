@@ -0,0 +1,161 @@
+package com.uno.persistence;
+
+import com.uno.model.Game;
+import com.uno.util.logging.GameLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Diario de solo anexado con los eventos de una o varias partidas: reparto,
+ * robos, jugadas, colores, UNO y penalizaciones, en el formato de
+ * {@link JournalFormat}. Con él, {@link JournalReplayer} reconstruye
+ * cualquier estado de la partida.
+ * <p>
+ * Los registros se acumulan en un búfer directo y se escriben al canal por
+ * bloques: al llenarse, al terminar cada partida y al cerrar. Un error de
+ * escritura se registra y desactiva el diario, pero nunca interrumpe la
+ * partida. Los métodos están sincronizados para que se pueda cerrar desde
+ * otro hilo que el que juega.
+ */
+public final class GameJournal implements AutoCloseable {
+    private static final GameLogger LOG = GameLogger.getLogger(GameJournal.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long records;
+    private boolean closed;
+
+    private GameJournal(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    /**
+     * Abre un diario para anexar; si el archivo no existe o está vacío, escribe la cabecera.
+     *
+     * @param path Archivo del diario
+     * @return El diario abierto
+     * @throws IOException si no se pudo abrir el archivo
+     */
+    public static GameJournal open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        GameJournal journal = new GameJournal(path, channel);
+        if (channel.size() == 0) {
+            journal.buffer.putInt(JournalFormat.MAGIC).put(JournalFormat.VERSION);
+        }
+        return journal;
+    }
+
+    /**
+     * Empieza a registrar una partida. Debe llamarse antes de {@link Game#startGame()}.
+     *
+     * @param game Partida a registrar
+     */
+    public synchronized void attach(Game game) {
+        append(JournalFormat.BEGIN, game.getSeatCount());
+        game.addListener(new JournalRecorder(game, this::record));
+    }
+
+    /**
+     * @return Registros escritos desde que se abrió el diario
+     */
+    public synchronized long recordCount() {
+        return records;
+    }
+
+    /**
+     * Escribe al archivo lo que haya en el búfer.
+     *
+     * @throws IOException si falla la escritura
+     */
+    public synchronized void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    private void append(int type, int seat) {
+        if (reserve(1)) {
+            buffer.put(JournalFormat.header(type, seat));
+            records++;
+        }
+    }
+
+    private void append(int type, int seat, int payload) {
+        if (reserve(2)) {
+            buffer.put(JournalFormat.header(type, seat)).put((byte) payload);
+            records++;
+        }
+    }
+
+    private synchronized void record(int type, int seat, int payload) {
+        if (JournalFormat.payloadLength(type) == 0) {
+            append(type, seat);
+        } else {
+            append(type, seat, payload);
+        }
+        if (type == JournalFormat.GAME_OVER) {
+            // Una partida terminada queda completa en disco
+            flushQuietly();
+        }
+    }
+
+    /**
+     * Deja sitio en el búfer para un registro.
+     *
+     * @return false si el diario está cerrado o falló
+     */
+    private boolean reserve(int bytes) {
+        if (closed) {
+            return false;
+        }
+        if (buffer.remaining() < bytes) {
+            try {
+                flush();
+            } catch (IOException e) {
+                LOG.error("No se pudo escribir el diario " + path + "; se desactiva", e);
+                closed = true;
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // Ya se informó el error original
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            LOG.error("No se pudo escribir el diario " + path, e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.uno.persistence;
+
+import com.uno.model.Card;
+import com.uno.model.CardCodes;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.Player;
+import com.uno.util.GameRandom;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Partida guardada en un formato binario compacto y versionado, sin la
+ * serialización de Java: cada carta es un byte con su código (ver
+ * {@link CardCodes}) y el resto del estado son unos pocos bytes. Una partida
+ * típica ocupa unos 100 bytes y se carga leyendo un archivo mapeado en memoria.
+ * <p>
+ * Formato, en orden: marca {@code UNOS}, versión, longitud del cuerpo, cuerpo
+ * y CRC32 del cuerpo. El cuerpo guarda estado, asiento en turno, sentido,
+ * color activo, ganador y ventana de UNO; los jugadores (tipo, nombre, si
+ * declararon UNO y su mano); la composición del mazo y sus pilas de robo y
+ * descarte. El generador aleatorio no se guarda: al cargar se usa uno nuevo,
+ * así que los robos posteriores a un rebarajado no repiten los originales.
+ */
+public final class GameSaveFile {
+    static final int MAGIC = 0x554E4F53;  // "UNOS"
+    static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = 9;     // Marca, versión y longitud del cuerpo
+    private static final int TRAILER_SIZE = 8;    // CRC32 como long
+
+    private GameSaveFile() { }
+
+    /**
+     * Guarda una partida. Escribe a un archivo temporal y lo renombra, así que
+     * un corte a mitad de escritura deja intacta la partida guardada anterior.
+     * Debe llamarse desde el hilo que modifica la partida.
+     *
+     * @param game Partida
+     * @param path Archivo destino
+     * @throws IOException si no se pudo escribir
+     */
+    public static void save(Game game, Path path) throws IOException {
+        write(encode(game), path);
+    }
+
+    /**
+     * Escribe una partida ya codificada con {@link #encode(Game)}.
+     *
+     * @param encoded Bytes de la partida
+     * @param path Archivo destino
+     * @throws IOException si no se pudo escribir
+     */
+    public static void write(ByteBuffer encoded, Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = encoded.duplicate();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Carga una partida guardada.
+     *
+     * @param path Archivo de la partida
+     * @param random Generador para el mazo y la computadora de la partida cargada
+     * @return La partida, en el mismo estado en que se guardó
+     * @throws IOException si no se pudo leer o el archivo no es una partida válida
+     */
+    public static Game load(Path path, GameRandom random) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(mapped, random);
+        }
+    }
+
+    /**
+     * Codifica el estado completo de una partida.
+     *
+     * @param game Partida
+     * @return Búfer listo para leer con la partida codificada
+     */
+    public static ByteBuffer encode(Game game) {
+        Deck deck = game.getDeck();
+        Card[] drawPile = deck.getDrawPile();
+        Card[] discardPile = deck.getDiscardPile();
+        List<Card> contents = deck.getContents();
+
+        List<byte[]> names = new ArrayList<>(game.getSeatCount());
+        int bodySize = 7 + 2 + contents.size() + 2 + drawPile.length + 2 + discardPile.length;
+        for (int seat = 0; seat < game.getSeatCount(); seat++) {
+            byte[] name = game.getPlayer(seat).getName().getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            bodySize += 2 + 2 + name.length + 1 + game.getPlayer(seat).getHandSize();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bodySize + TRAILER_SIZE);
+        buffer.putInt(MAGIC).put(VERSION).putInt(bodySize);
+        int bodyStart = buffer.position();
+
+        Player winner = game.getWinner();
+        buffer.put((byte) game.getGameState().ordinal())
+                .put((byte) game.getCurrentSeat())
+                .put((byte) game.getDirection())
+                .put((byte) (game.getActiveColor() == null ? SavedGame.NONE : game.getActiveColor().ordinal()))
+                .put((byte) (winner == null ? SavedGame.NONE : seatOf(game, winner)))
+                .put((byte) (game.getUnoPendingSeat() < 0 ? SavedGame.NONE : game.getUnoPendingSeat()))
+                .put((byte) game.getSeatCount());
+        for (int seat = 0; seat < game.getSeatCount(); seat++) {
+            Player player = game.getPlayer(seat);
+            byte[] name = names.get(seat);
+            buffer.put(player instanceof ComputerPlayer ? SavedGame.COMPUTER : SavedGame.HUMAN)
+                    .put((byte) (player.hasCalledUno() ? 1 : 0))
+                    .putShort((short) name.length).put(name)
+                    .put((byte) player.getHandSize());
+            for (Card card : player.getHand()) {
+                buffer.put((byte) card.getCode());
+            }
+        }
+        putCards(buffer, contents.toArray(new Card[0]));
+        putCards(buffer, drawPile);
+        putCards(buffer, discardPile);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), bodyStart, bodySize);
+        buffer.putLong(crc.getValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Reconstruye una partida codificada con {@link #encode(Game)}.
+     *
+     * @param buffer Bytes de la partida, desde su posición actual
+     * @param random Generador para el mazo y la computadora de la partida cargada
+     * @return La partida
+     * @throws IOException si los bytes no son una partida válida
+     */
+    public static Game decode(ByteBuffer buffer, GameRandom random) throws IOException {
+        return SavedGame.read(buffer).toGame(random);
+    }
+
+    private static void putCards(ByteBuffer buffer, Card[] cards) {
+        buffer.putShort((short) cards.length);
+        for (Card card : cards) {
+            buffer.put((byte) card.getCode());
+        }
+    }
+
+    private static int seatOf(Game game, Player player) {
+        for (int seat = 0; seat < game.getSeatCount(); seat++) {
+            if (game.getPlayer(seat) == player) {
+                return seat;
+            }
+        }
+        return SavedGame.NONE;
+    }
+}
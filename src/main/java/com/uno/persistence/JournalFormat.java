@@ -0,0 +1,51 @@
+package com.uno.persistence;
+
+/**
+ * Formato binario del diario de partidas.
+ * <p>
+ * El archivo empieza con la marca {@code UNOJ} y un byte de versión; después
+ * vienen los registros, uno por evento del motor, de una o varias partidas
+ * seguidas. Cada registro ocupa uno o dos bytes: el primero lleva el tipo en
+ * los cuatro bits altos y el asiento en los cuatro bajos (los asientos van de
+ * 0 a 9); el segundo, si lo hay, el código de carta, el color o el estado.
+ * Cada partida empieza con {@link #BEGIN}, cuyo asiento es el número de jugadores.
+ */
+final class JournalFormat {
+    static final int MAGIC = 0x554E4F4A;  // "UNOJ"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 5;
+
+    static final int BEGIN = 0;
+    static final int DRAW = 1;            // 1-5: robo, según el ordinal de DrawReason
+    static final int PLAY = 6;
+    static final int COLOR = 7;
+    static final int UNO_CALLED = 8;
+    static final int UNO_WINDOW_OPENED = 9;
+    static final int UNO_WINDOW_CLOSED = 10;
+    static final int TURN = 11;
+    static final int GAME_OVER = 12;
+    static final int FIRST_CARD = 13;
+
+    private JournalFormat() { }
+
+    /**
+     * @param type Tipo de registro
+     * @return Bytes que siguen al byte de cabecera
+     */
+    static int payloadLength(int type) {
+        switch (type) {
+            case BEGIN:
+            case UNO_CALLED:
+            case UNO_WINDOW_OPENED:
+            case UNO_WINDOW_CLOSED:
+            case GAME_OVER:
+                return 0;
+            default:
+                return 1;
+        }
+    }
+
+    static byte header(int type, int seat) {
+        return (byte) (type << 4 | seat);
+    }
+}
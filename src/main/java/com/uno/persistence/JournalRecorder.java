@@ -0,0 +1,91 @@
+package com.uno.persistence;
+
+import com.uno.model.Card;
+import com.uno.model.Game;
+import com.uno.model.GameListener;
+import com.uno.model.Player;
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.DrawReason;
+import com.uno.model.enums.GameState;
+
+/**
+ * Observador que traduce los eventos de una partida a registros en el
+ * formato de {@link JournalFormat}. Lo usan el diario de partidas y el
+ * registro de escritura anticipada.
+ */
+final class JournalRecorder implements GameListener {
+
+    /**
+     * Destino de los registros.
+     */
+    interface Sink {
+        /**
+         * @param type Tipo de registro
+         * @param seat Asiento
+         * @param payload Byte de datos; se ignora si el tipo no lleva datos
+         */
+        void record(int type, int seat, int payload);
+    }
+
+    private final Game game;
+    private final Sink sink;
+
+    JournalRecorder(Game game, Sink sink) {
+        this.game = game;
+        this.sink = sink;
+    }
+
+    @Override
+    public void onGameStarted(Card firstCard) {
+        sink.record(JournalFormat.FIRST_CARD, 0, firstCard.getCode());
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        sink.record(JournalFormat.PLAY, seatOf(player), card.getCode());
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card, DrawReason reason) {
+        sink.record(JournalFormat.DRAW + reason.ordinal(), seatOf(player), card.getCode());
+    }
+
+    @Override
+    public void onColorChosen(Player player, CardColor color) {
+        sink.record(JournalFormat.COLOR, seatOf(player), color.ordinal());
+    }
+
+    @Override
+    public void onUnoCalled(Player player) {
+        sink.record(JournalFormat.UNO_CALLED, seatOf(player), 0);
+    }
+
+    @Override
+    public void onUnoWindowOpened(Player player) {
+        sink.record(JournalFormat.UNO_WINDOW_OPENED, seatOf(player), 0);
+    }
+
+    @Override
+    public void onUnoWindowClosed(Player player) {
+        sink.record(JournalFormat.UNO_WINDOW_CLOSED, seatOf(player), 0);
+    }
+
+    @Override
+    public void onTurnChanged(Player current, GameState state) {
+        sink.record(JournalFormat.TURN, seatOf(current), state.ordinal());
+    }
+
+    @Override
+    public void onGameOver(Player winner) {
+        sink.record(JournalFormat.GAME_OVER, seatOf(winner), 0);
+    }
+
+    private int seatOf(Player player) {
+        for (int seat = 0; seat < game.getSeatCount(); seat++) {
+            if (game.getPlayer(seat) == player) {
+                return seat;
+            }
+        }
+        throw new IllegalStateException("El jugador no está en la partida: " + player.getName());
+    }
+}
@@ -0,0 +1,121 @@
+package com.uno.persistence;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Reconstruye partidas a partir de un {@link GameJournal}. Lee el archivo por
+ * bloques con un búfer directo, así que recorrer millones de partidas no
+ * carga el diario entero en memoria.
+ * <p>
+ * Un registro cortado al final del archivo (por ejemplo, si el proceso murió
+ * a mitad de una escritura) se ignora; cualquier otra incoherencia es un
+ * diario corrupto.
+ */
+public final class JournalReplayer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private JournalReplayer() { }
+
+    /**
+     * Recorre todas las partidas del diario.
+     *
+     * @param path Archivo del diario
+     * @param onGame Recibe cada partida al llegar al inicio de la siguiente o al final del archivo
+     * @return Número de partidas leídas
+     * @throws IOException si no se pudo leer o el diario está corrupto
+     */
+    public static int replayAll(Path path, Consumer<ReplayedGame> onGame) throws IOException {
+        return scan(path, -1, Long.MAX_VALUE, onGame);
+    }
+
+    /**
+     * Reconstruye una partida tal como estaba después de cierto número de registros.
+     *
+     * @param path Archivo del diario
+     * @param gameIndex Posición de la partida en el diario, desde cero
+     * @param maxRecords Registros a aplicar; {@code Long.MAX_VALUE} para llegar al final
+     * @return El estado reconstruido
+     * @throws IOException si no se pudo leer, el diario está corrupto o no tiene esa partida
+     */
+    public static ReplayedGame replay(Path path, int gameIndex, long maxRecords) throws IOException {
+        ReplayedGame[] found = new ReplayedGame[1];
+        scan(path, gameIndex, maxRecords, game -> found[0] = game);
+        if (found[0] == null) {
+            throw new EOFException("El diario no tiene la partida " + gameIndex);
+        }
+        return found[0];
+    }
+
+    private static int scan(Path path, int only, long maxRecords, Consumer<ReplayedGame> onGame)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).limit(0);  // Vacío, en modo lectura
+            if (!fill(channel, buffer, JournalFormat.HEADER_SIZE)
+                    || buffer.getInt() != JournalFormat.MAGIC || buffer.get() != JournalFormat.VERSION) {
+                throw new StreamCorruptedException("No es un diario de partidas: " + path);
+            }
+
+            int games = 0;
+            ReplayedGame game = null;
+            while (fill(channel, buffer, 1)) {
+                int header = buffer.get(buffer.position()) & 0xFF;
+                int type = header >>> 4;
+                int seat = header & 0xF;
+                if (type > JournalFormat.FIRST_CARD) {
+                    throw new StreamCorruptedException("Diario corrupto: tipo de registro " + type);
+                }
+                int length = 1 + JournalFormat.payloadLength(type);
+                if (!fill(channel, buffer, length)) {
+                    break;  // Registro cortado al final del archivo
+                }
+                buffer.get();
+                int payload = length > 1 ? buffer.get() & 0xFF : 0;
+
+                if (type == JournalFormat.BEGIN) {
+                    if (game != null && (only < 0 || game.getGameIndex() == only)) {
+                        onGame.accept(game);
+                    }
+                    if (only >= 0 && games > only) {
+                        return games;
+                    }
+                    game = new ReplayedGame(games++, seat);
+                } else if (game == null) {
+                    throw new StreamCorruptedException("Diario corrupto: registro antes del inicio de partida");
+                } else if ((only < 0 || game.getGameIndex() == only) && game.getRecordCount() < maxRecords) {
+                    game.apply(type, seat, payload);
+                }
+            }
+            if (game != null && (only < 0 || game.getGameIndex() == only)) {
+                onGame.accept(game);
+            }
+            return games;
+        }
+    }
+
+    /**
+     * Se asegura de que haya al menos {@code needed} bytes por leer en el búfer.
+     *
+     * @return false si el archivo terminó antes
+     */
+    private static boolean fill(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < needed) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+}
@@ -0,0 +1,194 @@
+package com.uno.persistence;
+
+import com.uno.model.Card;
+import com.uno.model.CardCodes;
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.CardType;
+import com.uno.model.enums.DrawReason;
+import com.uno.model.enums.GameState;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Estado de una partida reconstruido a partir de su diario: manos, carta
+ * superior, color activo, turno, sentido y resultado, más algunos conteos
+ * útiles para análisis.
+ */
+public final class ReplayedGame {
+    private final int gameIndex;
+    private final List<List<Card>> hands;
+    private final int[] penalties;
+    private Card topCard;
+    private CardColor activeColor;
+    private GameState state = GameState.NOT_STARTED;
+    private int currentSeat;
+    private int direction = 1;
+    private int winnerSeat = -1;
+    private int unoPendingSeat = -1;
+    private long records;
+    private int cardsPlayed;
+
+    ReplayedGame(int gameIndex, int seats) {
+        this.gameIndex = gameIndex;
+        this.hands = new ArrayList<>(seats);
+        for (int seat = 0; seat < seats; seat++) {
+            hands.add(new ArrayList<>());
+        }
+        this.penalties = new int[seats];
+    }
+
+    /**
+     * Aplica un registro del diario.
+     *
+     * @throws StreamCorruptedException si el registro no es coherente con el estado
+     */
+    void apply(int type, int seat, int payload) throws IOException {
+        if (seat >= hands.size()) {
+            throw corrupt("asiento " + seat + " fuera de la mesa");
+        }
+        records++;
+        switch (type) {
+            case JournalFormat.FIRST_CARD:
+                topCard = card(payload);
+                activeColor = topCard.getColor();
+                break;
+            case JournalFormat.PLAY:
+                Card card = card(payload);
+                if (!hands.get(seat).remove(card)) {
+                    throw corrupt("el asiento " + seat + " jugó " + card + " sin tenerla");
+                }
+                topCard = card;
+                activeColor = card.getColor();
+                cardsPlayed++;
+                // La carta ganadora no aplica su efecto
+                if (card.getType() == CardType.REVERSE && !hands.get(seat).isEmpty()) {
+                    direction = -direction;
+                }
+                if (unoPendingSeat == seat) {
+                    unoPendingSeat = -1;
+                }
+                break;
+            case JournalFormat.COLOR:
+                if (payload >= CardColor.WILD.ordinal()) {
+                    throw corrupt("color inválido " + payload);
+                }
+                activeColor = CardColor.values()[payload];
+                break;
+            case JournalFormat.UNO_CALLED:
+            case JournalFormat.UNO_WINDOW_CLOSED:
+                unoPendingSeat = -1;
+                break;
+            case JournalFormat.UNO_WINDOW_OPENED:
+                unoPendingSeat = seat;
+                break;
+            case JournalFormat.TURN:
+                if (payload >= GameState.values().length) {
+                    throw corrupt("estado inválido " + payload);
+                }
+                currentSeat = seat;
+                state = GameState.values()[payload];
+                break;
+            case JournalFormat.GAME_OVER:
+                winnerSeat = seat;
+                state = GameState.GAME_OVER;
+                break;
+            default:
+                // Robos: DRAW + ordinal de DrawReason
+                hands.get(seat).add(card(payload));
+                if (unoPendingSeat == seat) {
+                    unoPendingSeat = -1;
+                }
+                if (type == JournalFormat.DRAW + DrawReason.UNO_PENALTY.ordinal()) {
+                    penalties[seat]++;
+                }
+                break;
+        }
+    }
+
+    private static Card card(int code) throws IOException {
+        if (code < 0 || code >= CardCodes.CODE_COUNT) {
+            throw corrupt("código de carta inválido " + code);
+        }
+        return Card.fromCode(code);
+    }
+
+    private static StreamCorruptedException corrupt(String detail) {
+        return new StreamCorruptedException("Diario corrupto: " + detail);
+    }
+
+    /**
+     * @return Posición de la partida dentro del diario, desde cero
+     */
+    public int getGameIndex() {
+        return gameIndex;
+    }
+
+    public int getSeatCount() {
+        return hands.size();
+    }
+
+    /**
+     * @param seat Asiento
+     * @return Mano de ese asiento, en el orden en que se recibieron las cartas
+     */
+    public List<Card> getHand(int seat) {
+        return Collections.unmodifiableList(hands.get(seat));
+    }
+
+    public Card getTopCard() {
+        return topCard;
+    }
+
+    public CardColor getActiveColor() {
+        return activeColor;
+    }
+
+    public GameState getGameState() {
+        return state;
+    }
+
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * @return Asiento del ganador o -1 si la partida no terminó
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * @return Asiento con la ventana de UNO abierta o -1
+     */
+    public int getUnoPendingSeat() {
+        return unoPendingSeat;
+    }
+
+    /**
+     * @param seat Asiento
+     * @return Penalizaciones por no declarar UNO que recibió ese asiento
+     */
+    public int getPenalties(int seat) {
+        return penalties[seat];
+    }
+
+    /**
+     * @return Registros aplicados, sin contar el de inicio de partida
+     */
+    public long getRecordCount() {
+        return records;
+    }
+
+    public int getCardsPlayed() {
+        return cardsPlayed;
+    }
+}
@@ -0,0 +1,261 @@
+package com.uno.persistence;
+
+import com.uno.exceptions.EmptyDeckException;
+import com.uno.model.Card;
+import com.uno.model.CardCodes;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.HumanPlayer;
+import com.uno.model.Player;
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.CardType;
+import com.uno.model.enums.GameState;
+import com.uno.util.GameRandom;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Partida guardada ya decodificada pero todavía sin objetos del motor. La
+ * recuperación del registro de escritura anticipada le aplica las jugadas
+ * posteriores al punto de control antes de convertirla en un {@link Game}.
+ */
+final class SavedGame {
+    static final int NONE = 0xFF;         // Asiento o color ausente
+    static final byte HUMAN = 0;
+    static final byte COMPUTER = 1;
+
+    private GameState state;
+    private int currentSeat;
+    private int direction;
+    private CardColor activeColor;
+    private int winnerSeat;
+    private int unoPendingSeat;
+    private final byte[] kinds;
+    private final String[] names;
+    private final boolean[] calledUno;
+    private final List<List<Card>> hands;
+    private List<Card> contents;
+    private Card[] drawPile;
+    private int drawSize;
+    private final List<Card> discardPile = new ArrayList<>();
+
+    private SavedGame(int seats) {
+        kinds = new byte[seats];
+        names = new String[seats];
+        calledUno = new boolean[seats];
+        hands = new ArrayList<>(seats);
+    }
+
+    /**
+     * Decodifica una partida escrita por {@link GameSaveFile#encode(Game)}.
+     *
+     * @param buffer Bytes de la partida, desde su posición actual; al volver
+     *               la posición queda detrás de la partida
+     * @return La partida decodificada
+     * @throws IOException si los bytes no son una partida válida
+     */
+    static SavedGame read(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != GameSaveFile.MAGIC) {
+                throw new StreamCorruptedException("No es una partida guardada");
+            }
+            byte version = buffer.get();
+            if (version != GameSaveFile.VERSION) {
+                throw new IOException("Versión de partida guardada no soportada: " + version);
+            }
+            int bodySize = buffer.getInt();
+            int bodyStart = buffer.position();
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(bodyStart, bodySize));
+            if (buffer.getLong(bodyStart + bodySize) != crc.getValue()) {
+                throw corrupt("el CRC no coincide");
+            }
+
+            GameState state = enumAt(GameState.values(), buffer.get());
+            int currentSeat = buffer.get() & 0xFF;
+            int direction = buffer.get();
+            int color = buffer.get() & 0xFF;
+            int winnerSeat = seatOrNone(buffer.get());
+            int unoPendingSeat = seatOrNone(buffer.get());
+            int seats = buffer.get() & 0xFF;
+            if (seats < Game.MIN_SEATS || seats > Game.MAX_SEATS || currentSeat >= seats
+                    || winnerSeat >= seats || unoPendingSeat >= seats) {
+                throw corrupt("asientos inválidos");
+            }
+
+            SavedGame saved = new SavedGame(seats);
+            saved.state = state;
+            saved.currentSeat = currentSeat;
+            saved.direction = direction < 0 ? -1 : 1;
+            saved.activeColor = color == NONE ? null : enumAt(CardColor.values(), color);
+            saved.winnerSeat = winnerSeat;
+            saved.unoPendingSeat = unoPendingSeat;
+            for (int seat = 0; seat < seats; seat++) {
+                saved.kinds[seat] = buffer.get();
+                saved.calledUno[seat] = buffer.get() != 0;
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                saved.names[seat] = new String(name, StandardCharsets.UTF_8);
+                saved.hands.add(new ArrayList<>(Arrays.asList(getCards(buffer, buffer.get() & 0xFF))));
+            }
+            saved.contents = List.of(getCards(buffer, buffer.getShort()));
+            saved.drawPile = getCards(buffer, buffer.getShort());
+            saved.drawSize = saved.drawPile.length;
+            saved.discardPile.addAll(Arrays.asList(getCards(buffer, buffer.getShort())));
+            if (buffer.position() != bodyStart + bodySize) {
+                throw corrupt("longitud inesperada");
+            }
+            buffer.position(bodyStart + bodySize + Long.BYTES);
+            return saved;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            StreamCorruptedException corrupt = corrupt("faltan datos");
+            corrupt.initCause(e);
+            throw corrupt;
+        }
+    }
+
+    /**
+     * Aplica un evento del motor en el formato de {@link JournalFormat}.
+     * Solo admite eventos que no dependen del azar: un rebarajado o el
+     * reparto inicial obligan a escribir un punto de control nuevo.
+     *
+     * @throws StreamCorruptedException si el evento no cuadra con el estado
+     */
+    void apply(int type, int seat, int payload) throws IOException {
+        if (seat >= hands.size()) {
+            throw corrupt("asiento " + seat + " fuera de la mesa");
+        }
+        List<Card> hand = hands.get(seat);
+        switch (type) {
+            case JournalFormat.PLAY:
+                Card played = card(payload);
+                if (!hand.remove(played)) {
+                    throw corrupt("el asiento " + seat + " jugó " + played + " sin tenerla");
+                }
+                discardPile.add(played);
+                activeColor = played.getColor();
+                // La carta ganadora no aplica su efecto
+                if (played.getType() == CardType.REVERSE && !hand.isEmpty()) {
+                    direction = -direction;
+                }
+                if (unoPendingSeat == seat) {
+                    unoPendingSeat = -1;
+                }
+                if (hand.size() == 1) {
+                    calledUno[seat] = false;
+                }
+                break;
+            case JournalFormat.COLOR:
+                activeColor = enumAt(CardColor.values(), payload);
+                break;
+            case JournalFormat.UNO_CALLED:
+                calledUno[seat] = true;
+                unoPendingSeat = -1;
+                break;
+            case JournalFormat.UNO_WINDOW_OPENED:
+                unoPendingSeat = seat;
+                break;
+            case JournalFormat.UNO_WINDOW_CLOSED:
+                unoPendingSeat = -1;
+                break;
+            case JournalFormat.TURN:
+                currentSeat = seat;
+                state = enumAt(GameState.values(), payload);
+                break;
+            case JournalFormat.GAME_OVER:
+                winnerSeat = seat;
+                state = GameState.GAME_OVER;
+                break;
+            case JournalFormat.DRAW:
+            case JournalFormat.DRAW + 1:
+            case JournalFormat.DRAW + 2:
+            case JournalFormat.DRAW + 3:
+            case JournalFormat.DRAW + 4:
+                Card drawn = card(payload);
+                if (drawSize == 0 || drawPile[drawSize - 1] != drawn) {
+                    throw corrupt("el robo de " + drawn + " no coincide con el mazo");
+                }
+                drawPile[--drawSize] = null;
+                hand.add(drawn);
+                if (unoPendingSeat == seat) {
+                    unoPendingSeat = -1;
+                }
+                if (hand.size() > 1) {
+                    calledUno[seat] = false;
+                }
+                break;
+            default:
+                throw corrupt("evento " + type + " inesperado tras un punto de control");
+        }
+    }
+
+    /**
+     * @param random Generador para el mazo y la computadora
+     * @return La partida lista para seguir
+     * @throws StreamCorruptedException si el estado no es coherente
+     */
+    Game toGame(GameRandom random) throws IOException {
+        List<Player> players = new ArrayList<>(hands.size());
+        for (int seat = 0; seat < hands.size(); seat++) {
+            Player player = kinds[seat] == COMPUTER
+                    ? new ComputerPlayer(names[seat], random.split())
+                    : new HumanPlayer(names[seat]);
+            player.restoreHand(hands.get(seat), calledUno[seat]);
+            players.add(player);
+        }
+        Deck deck = new Deck(random.split(), contents, Arrays.copyOf(drawPile, drawSize),
+                discardPile.toArray(new Card[0]));
+        try {
+            return Game.restore(players, deck, state, currentSeat, direction, activeColor, winnerSeat,
+                    unoPendingSeat);
+        } catch (EmptyDeckException e) {
+            StreamCorruptedException corrupt = corrupt("partida empezada sin pila de descarte");
+            corrupt.initCause(e);
+            throw corrupt;
+        }
+    }
+
+    GameState state() {
+        return state;
+    }
+
+    private static Card[] getCards(ByteBuffer buffer, int count) throws IOException {
+        Card[] cards = new Card[count];
+        for (int i = 0; i < count; i++) {
+            cards[i] = card(buffer.get() & 0xFF);
+        }
+        return cards;
+    }
+
+    private static Card card(int code) throws IOException {
+        if (code < 0 || code >= CardCodes.CODE_COUNT) {
+            throw corrupt("carta " + code);
+        }
+        return Card.fromCode(code);
+    }
+
+    private static int seatOrNone(byte value) {
+        int seat = value & 0xFF;
+        return seat == NONE ? -1 : seat;
+    }
+
+    private static <E extends Enum<E>> E enumAt(E[] values, int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw corrupt("valor " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static StreamCorruptedException corrupt(String detail) {
+        return new StreamCorruptedException("Partida guardada dañada: " + detail);
+    }
+}
@@ -0,0 +1,630 @@
+package com.uno.persistence;
+
+import com.uno.model.Game;
+import com.uno.model.enums.GameState;
+import com.uno.util.GameRandom;
+import com.uno.util.logging.GameLogger;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Registro de escritura anticipada para mesas que no se detienen. Cada
+ * partida escribe de vez en cuando un punto de control completo (el formato
+ * de {@link GameSaveFile}) y, entre uno y otro, solo los eventos de cada
+ * jugada en el formato de {@link JournalFormat}. Al arrancar,
+ * {@link #open(Path, FsyncPolicy)} recupera cada partida abierta hasta su
+ * última jugada confirmada: su último punto de control más las jugadas que
+ * lo siguen.
+ * <p>
+ * Un único hilo escribe las entradas de todas las mesas, en lotes, y las
+ * sincroniza con el disco según la {@link FsyncPolicy}. Los eventos que
+ * dependen del azar (el reparto y los rebarajados) no se pueden reaplicar,
+ * así que la jugada que los contiene se guarda como punto de control.
+ * <p>
+ * El registro se divide en segmentos. Cuando el actual supera su tamaño
+ * máximo se abre otro y cada mesa escribe un punto de control en su próxima
+ * jugada; los segmentos que ya no contienen el último punto de control de
+ * ninguna mesa abierta se borran. Las partidas recuperadas que nadie vuelve a
+ * registrar con {@link #attach(int, Game)} no juegan, así que el propio
+ * registro copia su punto de control en cada segmento nuevo.
+ * <p>
+ * Entrada: longitud de los datos (int), tipo (byte), partida (int), datos
+ * y CRC32 de tipo, partida y datos (int).
+ */
+public final class WriteAheadLog implements AutoCloseable {
+    private static final GameLogger LOG = GameLogger.getLogger(WriteAheadLog.class);
+
+    static final int MAGIC = 0x554E4F57;  // "UNOW"
+    static final byte VERSION = 1;
+
+    private static final int SEGMENT_HEADER = 5;
+    private static final int ENTRY_HEADER = 9;      // Longitud, tipo y partida
+    private static final int ENTRY_TRAILER = 4;     // CRC32
+    private static final byte CHECKPOINT = 1;
+    private static final byte MOVES = 2;
+    private static final byte CLOSED = 3;
+    private static final int MAX_BATCH = 1_024;
+    private static final int DEFAULT_CHECKPOINT_MOVES = 64;
+    private static final long DEFAULT_SEGMENT_BYTES = 16L << 20;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path dir;
+    private final FsyncPolicy policy;
+    private final int checkpointMoves;
+    private final long maxSegmentBytes;
+    private final Map<Integer, Game> recovered;
+    private final Map<Integer, TableLog> tables = new ConcurrentHashMap<>();
+    private final Map<Integer, ByteBuffer> dormant = new ConcurrentHashMap<>();  // Recuperadas sin attach
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    // Estadísticas para medir el costo de la durabilidad
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong syncs = new AtomicLong();
+    private final AtomicLong syncNanos = new AtomicLong();
+
+    // Solo los toca el hilo escritor (o open, antes de arrancarlo)
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private FileChannel channel;
+    private long segment;
+    private long segmentSize;
+    private long dormantSegment;  // Segmento con los puntos de control de las partidas sin attach
+    private final List<Entry> unsynced = new ArrayList<>();
+    private long lastSyncNanos = System.nanoTime();
+
+    /**
+     * Estadísticas acumuladas desde que se abrió el registro.
+     *
+     * @param commits Entradas escritas
+     * @param bytes Bytes escritos
+     * @param syncs Sincronizaciones con el disco
+     * @param syncNanos Tiempo total dentro de las sincronizaciones
+     */
+    public record Stats(long commits, long bytes, long syncs, long syncNanos) {
+        /**
+         * @return Entradas por sincronización, la ganancia del commit en grupo
+         */
+        public double commitsPerSync() {
+            return syncs == 0 ? 0 : (double) commits / syncs;
+        }
+    }
+
+    private WriteAheadLog(Path dir, FsyncPolicy policy, int checkpointMoves, long maxSegmentBytes,
+                          Map<Integer, Game> recovered) {
+        this.dir = dir;
+        this.policy = policy;
+        this.checkpointMoves = checkpointMoves;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.recovered = recovered;
+        this.writer = new Thread(this::writeLoop, "uno-wal");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Abre el registro de un directorio y recupera sus partidas abiertas.
+     *
+     * @param dir Directorio del registro; se crea si no existe
+     * @param policy Política de sincronización
+     * @return El registro, listo para {@link #attach(int, Game)}
+     * @throws IOException si no se pudo leer o escribir el directorio
+     */
+    public static WriteAheadLog open(Path dir, FsyncPolicy policy) throws IOException {
+        return open(dir, policy, DEFAULT_CHECKPOINT_MOVES, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * @param dir Directorio del registro; se crea si no existe
+     * @param policy Política de sincronización
+     * @param checkpointMoves Jugadas entre puntos de control de una partida
+     * @param maxSegmentBytes Tamaño a partir del cual se abre un segmento nuevo
+     * @return El registro, listo para {@link #attach(int, Game)}
+     * @throws IOException si no se pudo leer o escribir el directorio
+     */
+    public static WriteAheadLog open(Path dir, FsyncPolicy policy, int checkpointMoves, long maxSegmentBytes)
+            throws IOException {
+        Files.createDirectories(dir);
+        long start = System.nanoTime();
+        TreeMap<Long, Path> existing = listSegments(dir);
+        Map<Integer, SavedGame> saved = recover(existing.values());
+        GameRandom random = new GameRandom();
+        Map<Integer, Game> games = new HashMap<>();
+        Map<Integer, ByteBuffer> checkpoints = new HashMap<>();
+        for (Map.Entry<Integer, SavedGame> entry : saved.entrySet()) {
+            try {
+                Game game = entry.getValue().toGame(random);
+                games.put(entry.getKey(), game);
+                checkpoints.put(entry.getKey(), GameSaveFile.encode(game));
+            } catch (IOException e) {
+                LOG.error("No se pudo recuperar la partida " + entry.getKey(), e);
+            }
+        }
+
+        WriteAheadLog wal = new WriteAheadLog(dir, policy, checkpointMoves, maxSegmentBytes,
+                Collections.unmodifiableMap(games));
+        wal.segments.putAll(existing);
+        // El segmento nuevo empieza con las partidas recuperadas, así que los viejos sobran
+        wal.startSegment(existing.isEmpty() ? 0 : existing.lastKey() + 1);
+        for (Map.Entry<Integer, ByteBuffer> entry : checkpoints.entrySet()) {
+            wal.writeNow(entry(CHECKPOINT, entry.getKey(), entry.getValue().duplicate()));
+        }
+        wal.dormant.putAll(checkpoints);
+        wal.dormantSegment = wal.segment;
+        wal.channel.force(false);
+        wal.deleteSegmentsBefore(wal.segment);
+        wal.writer.start();
+
+        long micros = (System.nanoTime() - start) / 1_000;
+        LOG.info("Registro " + dir + ": " + games.size() + " partidas recuperadas en " + micros + " µs");
+        return wal;
+    }
+
+    /**
+     * @return Partidas abiertas que se recuperaron al abrir el registro, por número de partida
+     */
+    public Map<Integer, Game> recoveredGames() {
+        return recovered;
+    }
+
+    /**
+     * Empieza a registrar una partida con un punto de control. Debe llamarse
+     * desde el hilo que modifica la partida o antes de que empiece a jugarse.
+     *
+     * @param gameId Número de la partida; reemplaza a otra abierta con el mismo número
+     * @param game Partida
+     * @return Registro de la mesa, que recibe un {@link TableLog#commit()} tras cada jugada
+     */
+    public TableLog attach(int gameId, Game game) {
+        // Antes de encolar el punto de control: una copia posterior de la partida recuperada lo pisaría
+        dormant.remove(gameId);
+        TableLog table = new TableLog(gameId, game);
+        TableLog previous = tables.put(gameId, table);
+        if (previous != null) {
+            previous.detached = true;
+        }
+        game.addListener(new JournalRecorder(game, table::record));
+        table.checkpoint();
+        return table;
+    }
+
+    /**
+     * @return Estadísticas de escritura y sincronización
+     */
+    public Stats stats() {
+        return new Stats(commits.get(), bytesWritten.get(), syncs.get(), syncNanos.get());
+    }
+
+    /**
+     * Escribe y sincroniza lo pendiente y cierra el registro. Las partidas
+     * abiertas se recuperarán la próxima vez.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.add(Entry.STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Registro de una mesa. Sus métodos se llaman desde el hilo que modifica la partida.
+     */
+    public final class TableLog {
+        private final int gameId;
+        private final Game game;
+        private ByteBuffer pending = ByteBuffer.allocate(64);
+        private int movesSinceCheckpoint;
+        private int reshuffles;
+        private boolean random;             // La jugada tuvo eventos que dependen del azar
+        private boolean finished;
+        private volatile boolean detached;
+        volatile boolean checkpointRequested;
+        long checkpointSegment = -1;        // Lo toca el hilo escritor
+
+        private TableLog(int gameId, Game game) {
+            this.gameId = gameId;
+            this.game = game;
+        }
+
+        /**
+         * Confirma la jugada que acaba de aplicarse.
+         *
+         * @return Futuro que se completa cuando la jugada es durable según la política
+         */
+        public CompletableFuture<Void> commit() {
+            if (finished || detached) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (game.getGameState() == GameState.GAME_OVER) {
+                // Una partida terminada no hace falta recuperarla
+                finished = true;
+                tables.remove(gameId, this);
+                return enqueue(entry(CLOSED, gameId, ByteBuffer.allocate(0)));
+            }
+            if (random || checkpointRequested || movesSinceCheckpoint >= checkpointMoves
+                    || game.getDeck().getReshuffleCount() != reshuffles) {
+                return checkpoint();
+            }
+            if (pending.position() == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            movesSinceCheckpoint++;
+            pending.flip();
+            CompletableFuture<Void> done = enqueue(entry(MOVES, gameId, pending));
+            pending.clear();
+            return done;
+        }
+
+        /**
+         * Deja de registrar la mesa y descarta su partida del registro.
+         *
+         * @return Futuro que se completa cuando el cierre es durable según la política
+         */
+        public CompletableFuture<Void> close() {
+            if (finished || detached) {
+                return CompletableFuture.completedFuture(null);
+            }
+            finished = true;
+            tables.remove(gameId, this);
+            return enqueue(entry(CLOSED, gameId, ByteBuffer.allocate(0)));
+        }
+
+        private CompletableFuture<Void> checkpoint() {
+            pending.clear();
+            random = false;
+            checkpointRequested = false;
+            movesSinceCheckpoint = 0;
+            reshuffles = game.getDeck().getReshuffleCount();
+            Entry entry = entry(CHECKPOINT, gameId, GameSaveFile.encode(game));
+            entry.table = this;
+            entry.checkpoint = true;
+            return enqueue(entry);
+        }
+
+        private void record(int type, int seat, int payload) {
+            if (type == JournalFormat.FIRST_CARD) {
+                random = true;
+            }
+            if (pending.remaining() < 2) {
+                pending = ByteBuffer.allocate(pending.capacity() * 2).put(pending.flip());
+            }
+            pending.put(JournalFormat.header(type, seat));
+            if (JournalFormat.payloadLength(type) > 0) {
+                pending.put((byte) payload);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> enqueue(Entry entry) {
+        if (closed || failure != null) {
+            return CompletableFuture.failedFuture(failure != null ? failure
+                    : new IOException("El registro está cerrado"));
+        }
+        queue.add(entry);
+        return entry.done;
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>();
+        try {
+            while (true) {
+                Entry first = policy.mode() == FsyncPolicy.Mode.TIME_BASED
+                        ? queue.poll(policy.intervalMillis(), TimeUnit.MILLISECONDS)
+                        : queue.take();
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatch() - 1);
+                }
+                boolean stop = writeBatch(batch);
+                batch.clear();
+                if (stop) {
+                    sync();
+                    channel.close();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Falló el registro de escritura anticipada " + dir + "; se desactiva", e);
+            failure = e;
+            for (Entry entry : unsynced) {
+                entry.done.completeExceptionally(e);
+            }
+            for (Entry entry : batch) {
+                entry.done.completeExceptionally(e);
+            }
+            Entry entry;
+            while ((entry = queue.poll()) != null) {
+                entry.done.completeExceptionally(e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int maxBatch() {
+        switch (policy.mode()) {
+            case PER_MOVE:
+                return 1;
+            case BATCHED:
+                return policy.batchSize();
+            default:
+                return MAX_BATCH;
+        }
+    }
+
+    /**
+     * Escribe un lote y sincroniza si la política lo pide.
+     *
+     * @return true si el lote pedía cerrar el registro
+     */
+    private boolean writeBatch(List<Entry> batch) throws IOException {
+        boolean stop = false;
+        for (Entry entry : batch) {
+            if (entry == Entry.STOP) {
+                stop = true;
+                continue;
+            }
+            writeNow(entry);
+            unsynced.add(entry);
+            if (policy.mode() == FsyncPolicy.Mode.TIME_BASED) {
+                entry.done.complete(null);  // Se confirma al escribir
+            }
+        }
+        if (policy.mode() != FsyncPolicy.Mode.TIME_BASED
+                || System.nanoTime() - lastSyncNanos >= TimeUnit.MILLISECONDS.toNanos(policy.intervalMillis())) {
+            sync();
+        }
+        if (segmentSize >= maxSegmentBytes && !stop) {
+            rotate();
+        }
+        return stop;
+    }
+
+    private void writeNow(Entry entry) throws IOException {
+        ByteBuffer bytes = entry.bytes;
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        segmentSize += bytes.limit();
+        bytesWritten.addAndGet(bytes.limit());
+        commits.incrementAndGet();
+        if (entry.table != null) {
+            entry.table.checkpointSegment = segment;
+        }
+    }
+
+    private void sync() throws IOException {
+        if (unsynced.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        channel.force(false);
+        lastSyncNanos = System.nanoTime();
+        syncNanos.addAndGet(lastSyncNanos - start);
+        syncs.incrementAndGet();
+        boolean checkpointed = false;
+        for (Entry entry : unsynced) {
+            entry.done.complete(null);
+            checkpointed |= entry.checkpoint;
+        }
+        unsynced.clear();
+        if (checkpointed) {
+            deleteSegmentsBefore(oldestLiveSegment());
+        }
+    }
+
+    /**
+     * Abre un segmento nuevo y pide a todas las mesas un punto de control en
+     * él; el de las partidas recuperadas sin mesa se copia en el acto.
+     */
+    private void rotate() throws IOException {
+        sync();
+        channel.close();
+        startSegment(segment + 1);
+        for (TableLog table : tables.values()) {
+            table.checkpointRequested = true;
+        }
+        for (Map.Entry<Integer, ByteBuffer> saved : dormant.entrySet()) {
+            Entry entry = entry(CHECKPOINT, saved.getKey(), saved.getValue().duplicate());
+            entry.checkpoint = true;
+            writeNow(entry);
+            unsynced.add(entry);
+        }
+        dormantSegment = segment;
+    }
+
+    private void startSegment(long index) throws IOException {
+        Path path = dir.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER).putInt(MAGIC).put(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        segment = index;
+        segmentSize = SEGMENT_HEADER;
+        segments.put(index, path);
+    }
+
+    /**
+     * @return Segmento más antiguo que aún tiene el último punto de control de
+     *         alguna mesa abierta o de alguna partida recuperada sin mesa
+     */
+    private long oldestLiveSegment() {
+        long oldest = dormant.isEmpty() ? segment : dormantSegment;
+        for (TableLog table : tables.values()) {
+            if (table.checkpointSegment >= 0) {
+                oldest = Math.min(oldest, table.checkpointSegment);
+            }
+        }
+        return oldest;
+    }
+
+    private void deleteSegmentsBefore(long index) throws IOException {
+        while (!segments.isEmpty() && segments.firstKey() < index) {
+            Files.deleteIfExists(segments.pollFirstEntry().getValue());
+        }
+    }
+
+    private static TreeMap<Long, Path> listSegments(Path dir) throws IOException {
+        TreeMap<Long, Path> found = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    found.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())), path);
+                } catch (NumberFormatException e) {
+                    LOG.warn("Archivo ajeno en el registro: " + path);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Lee los segmentos en orden y deja, para cada partida abierta, su último
+     * punto de control con las jugadas posteriores ya aplicadas. La lectura
+     * termina en la primera entrada incompleta o con CRC incorrecto: es lo
+     * que quedó a medio escribir en el corte.
+     */
+    private static Map<Integer, SavedGame> recover(Iterable<Path> files) throws IOException {
+        Map<Integer, SavedGame> games = new HashMap<>();
+        for (Path file : files) {
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+                if (buffer.remaining() < SEGMENT_HEADER || buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                    LOG.warn("Segmento sin cabecera válida, se ignora: " + file);
+                    continue;
+                }
+                if (!recoverSegment(buffer, games)) {
+                    LOG.warn("Registro cortado en " + file + "; se recupera hasta la última entrada completa");
+                    break;
+                }
+            }
+        }
+        return games;
+    }
+
+    /**
+     * @return false si el segmento terminó en una entrada incompleta o dañada
+     */
+    private static boolean recoverSegment(ByteBuffer buffer, Map<Integer, SavedGame> games) {
+        CRC32 crc = new CRC32();
+        while (buffer.hasRemaining()) {
+            int start = buffer.position();
+            if (buffer.remaining() < ENTRY_HEADER + ENTRY_TRAILER) {
+                return false;
+            }
+            int length = buffer.getInt();
+            if (length < 0 || buffer.remaining() < length + ENTRY_HEADER - 4 + ENTRY_TRAILER) {
+                return false;
+            }
+            crc.reset();
+            crc.update(buffer.slice(start + 4, ENTRY_HEADER - 4 + length));
+            if (buffer.getInt(start + ENTRY_HEADER + length) != (int) crc.getValue()) {
+                return false;
+            }
+            byte type = buffer.get();
+            int gameId = buffer.getInt();
+            ByteBuffer data = buffer.slice(start + ENTRY_HEADER, length);
+            buffer.position(start + ENTRY_HEADER + length + ENTRY_TRAILER);
+            try {
+                switch (type) {
+                    case CHECKPOINT:
+                        games.put(gameId, SavedGame.read(data));
+                        break;
+                    case MOVES:
+                        SavedGame game = games.get(gameId);
+                        if (game != null) {
+                            applyMoves(game, data);
+                        }
+                        break;
+                    case CLOSED:
+                        games.remove(gameId);
+                        break;
+                    default:
+                        return false;
+                }
+            } catch (IOException e) {
+                // Una partida incoherente no impide recuperar las demás
+                LOG.error("Se descarta la partida " + gameId + " del registro", e);
+                games.remove(gameId);
+            }
+        }
+        return true;
+    }
+
+    private static void applyMoves(SavedGame game, ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            int header = data.get() & 0xFF;
+            int type = header >>> 4;
+            int payload = 0;
+            if (JournalFormat.payloadLength(type) > 0) {
+                if (!data.hasRemaining()) {
+                    throw new StreamCorruptedException("Jugada incompleta en el registro");
+                }
+                payload = data.get() & 0xFF;
+            }
+            game.apply(type, header & 0xF, payload);
+        }
+    }
+
+    private static Entry entry(byte type, int gameId, ByteBuffer data) {
+        int length = data.remaining();
+        ByteBuffer bytes = ByteBuffer.allocate(ENTRY_HEADER + length + ENTRY_TRAILER);
+        bytes.putInt(length).put(type).putInt(gameId).put(data);
+        CRC32 crc = new CRC32();
+        crc.update(bytes.array(), 4, ENTRY_HEADER - 4 + length);
+        bytes.putInt((int) crc.getValue());
+        return new Entry(bytes.flip());
+    }
+
+    /**
+     * Entrada lista para escribir, con el futuro que se completa al confirmarla.
+     */
+    private static final class Entry {
+        static final Entry STOP = new Entry(ByteBuffer.allocate(0));
+
+        final ByteBuffer bytes;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        TableLog table;      // Mesa, si la entrada es su punto de control
+        boolean checkpoint;  // Punto de control de una mesa o de una partida sin mesa
+
+        Entry(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.uno.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Resultado inmutable de una simulación de partidas.
+ */
+public final class SimulationResult {
+    private final long games;
+    private final long[] wins;
+    private final long unfinishedGames;
+    private final long totalTurns;
+    private final long totalReshuffles;
+    private final long elapsedNanos;
+
+    SimulationResult(long games, long[] wins, long unfinishedGames, long totalTurns,
+                     long totalReshuffles, long elapsedNanos) {
+        this.games = games;
+        this.wins = wins.clone();
+        this.unfinishedGames = unfinishedGames;
+        this.totalTurns = totalTurns;
+        this.totalReshuffles = totalReshuffles;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * @param seat Asiento del jugador (0 empieza la partida)
+     * @return Partidas ganadas por ese asiento
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * @param seat Asiento del jugador (0 empieza la partida)
+     * @return Proporción de partidas ganadas por ese asiento
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) wins[seat] / games;
+    }
+
+    /**
+     * @return Partidas que terminaron sin ganador (mazo agotado o límite de turnos)
+     */
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    public double getAverageGameLength() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    public long getTotalReshuffles() {
+        return totalReshuffles;
+    }
+
+    public double getAverageReshuffles() {
+        return games == 0 ? 0 : (double) totalReshuffles / games;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Compara solo los datos deterministas de la simulación (no el tiempo).
+     *
+     * @param other Otro resultado
+     * @return true si ambos resultados describen las mismas partidas
+     */
+    public boolean sameOutcome(SimulationResult other) {
+        return games == other.games
+                && Arrays.equals(wins, other.wins)
+                && unfinishedGames == other.unfinishedGames
+                && totalTurns == other.totalTurns
+                && totalReshuffles == other.totalReshuffles;
+    }
+
+    /**
+     * @return Número de asientos de las mesas simuladas
+     */
+    public int getSeatCount() {
+        return wins.length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("Partidas: %d%n", games));
+        for (int seat = 0; seat < wins.length; seat++) {
+            sb.append(String.format("Victorias asiento %d: %d (%.2f%%)%n",
+                    seat + 1, wins[seat], getWinRate(seat) * 100));
+        }
+        sb.append(String.format("Sin terminar: %d%n"
+                        + "Turnos promedio: %.2f%n"
+                        + "Rebarajadas promedio: %.3f%n"
+                        + "Rendimiento: %.0f partidas/s",
+                unfinishedGames, getAverageGameLength(), getAverageReshuffles(), getGamesPerSecond()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,299 @@
+package com.uno.simulation;
+
+import com.uno.exceptions.EmptyDeckException;
+import com.uno.model.Card;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.Player;
+import com.uno.model.enums.GameState;
+import com.uno.persistence.GameJournal;
+import com.uno.persistence.FsyncPolicy;
+import com.uno.persistence.JournalReplayer;
+import com.uno.persistence.WriteAheadLog;
+import com.uno.util.GameRandom;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Ejecuta partidas completas sin interfaz en todos los núcleos para evaluar
+ * cambios de reglas o de la IA.
+ * Cada partida deriva su semilla de la semilla maestra y de su número de
+ * partida, así que el resultado es el mismo sin importar cuántos hilos se usen.
+ */
+public class SimulationRunner {
+    private static final int MAX_TURNS = 10_000;      // Corta partidas que no terminan
+    private static final int GAMES_PER_TASK = 256;    // Partidas por tarea antes de dividir
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long masterSeed;
+    private final int parallelism;
+    private final int seats;
+    private final Path journalDir;  // null si no se registran las partidas
+    private final WriteAheadLog wal;  // null si las jugadas no se confirman en disco
+
+    /**
+     * Crea un simulador que usa todos los núcleos disponibles.
+     *
+     * @param masterSeed Semilla maestra de la que se derivan todas las partidas
+     */
+    public SimulationRunner(long masterSeed) {
+        this(masterSeed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un simulador con un número fijo de hilos.
+     *
+     * @param masterSeed Semilla maestra de la que se derivan todas las partidas
+     * @param parallelism Número de hilos de trabajo
+     */
+    public SimulationRunner(long masterSeed, int parallelism) {
+        this(masterSeed, parallelism, 2);
+    }
+
+    /**
+     * Crea un simulador para mesas de varios jugadores.
+     *
+     * @param masterSeed Semilla maestra de la que se derivan todas las partidas
+     * @param parallelism Número de hilos de trabajo
+     * @param seats Jugadores por mesa (entre {@link Game#MIN_SEATS} y {@link Game#MAX_SEATS})
+     */
+    public SimulationRunner(long masterSeed, int parallelism, int seats) {
+        this(masterSeed, parallelism, seats, null);
+    }
+
+    /**
+     * Crea un simulador que registra cada partida en un diario binario para
+     * analizarlas después con {@link JournalReplayer}. Cada tarea escribe sus
+     * partidas, en orden, en un archivo propio del directorio.
+     *
+     * @param masterSeed Semilla maestra de la que se derivan todas las partidas
+     * @param parallelism Número de hilos de trabajo
+     * @param seats Jugadores por mesa (entre {@link Game#MIN_SEATS} y {@link Game#MAX_SEATS})
+     * @param journalDir Directorio de los diarios o null para no registrar
+     */
+    public SimulationRunner(long masterSeed, int parallelism, int seats, Path journalDir) {
+        this(masterSeed, parallelism, seats, journalDir, null);
+    }
+
+    /**
+     * Crea un simulador que confirma cada turno en un registro de escritura
+     * anticipada antes de jugar el siguiente, para medir lo que cuesta la
+     * durabilidad con cada política de sincronización.
+     *
+     * @param masterSeed Semilla maestra de la que se derivan todas las partidas
+     * @param parallelism Número de hilos de trabajo
+     * @param seats Jugadores por mesa (entre {@link Game#MIN_SEATS} y {@link Game#MAX_SEATS})
+     * @param journalDir Directorio de los diarios o null para no registrar
+     * @param wal Registro donde se confirman los turnos o null; lo cierra quien lo abrió
+     */
+    public SimulationRunner(long masterSeed, int parallelism, int seats, Path journalDir, WriteAheadLog wal) {
+        if (seats < Game.MIN_SEATS || seats > Game.MAX_SEATS) {
+            throw new IllegalArgumentException("Número de jugadores inválido: " + seats);
+        }
+        this.masterSeed = masterSeed;
+        this.parallelism = parallelism;
+        this.seats = seats;
+        this.journalDir = journalDir;
+        this.wal = wal;
+    }
+
+    /**
+     * Juega {@code games} partidas entre {@link ComputerPlayer}.
+     *
+     * @param games Número de partidas a jugar
+     * @return Estadísticas agregadas de la simulación
+     */
+    public SimulationResult run(int games) {
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            Tally tally = pool.invoke(new GameRangeTask(0, games));
+            return tally.toResult(System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Juega una partida completa y la acumula en el conteo.
+     */
+    private void playGame(long gameIndex, Tally tally, GameJournal journal) {
+        GameRandom random = new GameRandom(seedFor(gameIndex));
+        Deck deck = new Deck(random.split(), Card.deckFor(seats));
+        List<Player> players = new ArrayList<>(seats);
+        for (int seat = 0; seat < seats; seat++) {
+            players.add(new ComputerPlayer("Simulado " + (seat + 1), random.split()));
+        }
+        Game game = new Game(players, deck);
+        if (journal != null) {
+            journal.attach(game);
+        }
+        WriteAheadLog.TableLog table = wal == null ? null : wal.attach((int) gameIndex, game);
+
+        int turns = 0;
+        try {
+            game.startGame();
+            commit(table);
+            while (game.getGameState() != GameState.GAME_OVER && turns < MAX_TURNS) {
+                game.playAutomaticTurn();
+                // Sin interfaz, la ventana de UNO vence en cuanto termina el turno
+                game.checkUnoPenalty();
+                commit(table);
+                turns++;
+            }
+        } catch (EmptyDeckException e) {
+            // Todas las cartas quedaron en las manos: la partida no puede continuar
+        }
+        if (table != null) {
+            table.close();
+        }
+
+        int winnerSeat = game.getWinner() == null ? -1 : players.indexOf(game.getWinner());
+        tally.record(winnerSeat, turns, deck.getReshuffleCount());
+    }
+
+    /**
+     * Espera a que el turno sea durable, como haría un servidor antes de responder.
+     */
+    private static void commit(WriteAheadLog.TableLog table) {
+        if (table != null) {
+            table.commit().join();
+        }
+    }
+
+    /**
+     * Deriva la semilla de una partida mezclando la semilla maestra con su índice (SplitMix64).
+     */
+    private long seedFor(long gameIndex) {
+        long z = masterSeed + (gameIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Tarea fork-join que juega un rango de partidas.
+     */
+    private class GameRangeTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        GameRangeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                Tally tally = new Tally(seats);
+                try (GameJournal journal = openJournal()) {
+                    for (int i = from; i < to; i++) {
+                        playGame(i, tally, journal);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("No se pudo escribir el diario de la simulación", e);
+                }
+                return tally;
+            }
+
+            int middle = (from + to) >>> 1;
+            GameRangeTask left = new GameRangeTask(from, middle);
+            left.fork();
+            Tally right = new GameRangeTask(middle, to).compute();
+            return left.join().merge(right);
+        }
+
+        private GameJournal openJournal() throws IOException {
+            if (journalDir == null) {
+                return null;
+            }
+            return GameJournal.open(journalDir.resolve(String.format("partidas-%010d.unoj", from)));
+        }
+    }
+
+    /**
+     * Conteo parcial de una tarea. Las sumas no dependen del orden de
+     * combinación, por eso el resultado es determinista.
+     */
+    private static class Tally {
+        private long games;
+        private final long[] wins;
+        private long unfinished;
+        private long turns;
+        private long reshuffles;
+
+        Tally(int seats) {
+            wins = new long[seats];
+        }
+
+        void record(int winnerSeat, int gameTurns, int gameReshuffles) {
+            games++;
+            if (winnerSeat >= 0) {
+                wins[winnerSeat]++;
+            } else {
+                unfinished++;
+            }
+            turns += gameTurns;
+            reshuffles += gameReshuffles;
+        }
+
+        Tally merge(Tally other) {
+            games += other.games;
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+            }
+            unfinished += other.unfinished;
+            turns += other.turns;
+            reshuffles += other.reshuffles;
+            return this;
+        }
+
+        SimulationResult toResult(long elapsedNanos) {
+            return new SimulationResult(games, wins, unfinished, turns, reshuffles, elapsedNanos);
+        }
+    }
+
+    /**
+     * Punto de entrada para simulaciones por lotes.
+     * Uso: {@code SimulationRunner [partidas] [semilla] [hilos] [jugadores] [directorio de diarios]
+     * [directorio del registro] [política de sincronización]}; un directorio {@code -} se omite.
+     *
+     * @param args argumentos de línea de comandos
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        int seats = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+
+        Path journalDir = args.length > 4 && !args[4].equals("-") ? Path.of(args[4]) : null;
+
+        Path walDir = args.length > 5 && !args[5].equals("-") ? Path.of(args[5]) : null;
+        FsyncPolicy policy = FsyncPolicy.parse(args.length > 6 ? args[6] : "batch:64");
+
+        try (WriteAheadLog wal = walDir == null ? null : WriteAheadLog.open(walDir, policy)) {
+            SimulationResult result = new SimulationRunner(seed, threads, seats, journalDir, wal).run(games);
+            System.out.println(result);
+            if (wal != null) {
+                WriteAheadLog.Stats stats = wal.stats();
+                System.out.printf("Registro (%s): %d entradas, %d bytes, %d sincronizaciones (%.1f por "
+                                + "sincronización), %.1f ms sincronizando%n", args.length > 6 ? args[6] : "batch:64",
+                        stats.commits(), stats.bytes(), stats.syncs(), stats.commitsPerSync(),
+                        stats.syncNanos() / 1e6);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo usar el registro de la simulación", e);
+        }
+    }
+}
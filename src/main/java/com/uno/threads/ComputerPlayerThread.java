@@ -1,63 +1,61 @@
 package com.uno.threads;
 
-import com.uno.exceptions.EmptyDeckException;
-import com.uno.model.Game;
+import com.uno.model.GameCommand;
+import com.uno.model.GameSnapshot;
+import com.uno.util.GameRandom;
+import com.uno.util.logging.GameLogger;
 
-import java.util.Random;
-import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 /**
- * Hilo que maneja el turno del jugador computadora.
- * Añade un retardo para simular que la computadora está "pensando".
+ * Tarea que pide al {@link GameActor} el turno del jugador computadora.
+ * No duerme por su cuenta: {@link #delayMillis()} indica cuánto "piensa" la
+ * computadora y un {@link GameScheduler} la ejecuta pasado ese tiempo.
  */
 public class ComputerPlayerThread implements Runnable {
-    private final Game game;
-    private final Callable<Void> onTurnCompleted;
-    private final Random random;
-    private volatile boolean running;
+    private static final GameLogger LOG = GameLogger.getLogger(ComputerPlayerThread.class);
+    private static final int MIN_THINK_MILLIS = 2000;
+    private static final int MAX_THINK_MILLIS = 3000;
+
+    private final GameActor actor;
+    private final Consumer<GameSnapshot> onTurnCompleted;
+    private final GameRandom random;
+    private final long searchMillis;
 
     /**
-     * Constructor del hilo del jugador computadora.
+     * Constructor de la tarea del jugador computadora.
      *
-     * @param game Referencia al juego
-     * @param onTurnCompleted Callback que se ejecuta cuando la computadora termina su turno
+     * @param actor Actor de la partida, que aplica el comando
+     * @param onTurnCompleted Recibe el estado, en el hilo de la partida, cuando la computadora termina su turno
+     * @param random Generador para el retardo, derivado del de la partida
+     * @param searchMillis Parte del tiempo de "pensar" que ya ocupa la búsqueda de la jugada
      */
-    public ComputerPlayerThread(Game game, Callable<Void> onTurnCompleted) {
-        this.game = game;
+    public ComputerPlayerThread(GameActor actor, Consumer<GameSnapshot> onTurnCompleted, GameRandom random, long searchMillis) {
+        this.actor = actor;
         this.onTurnCompleted = onTurnCompleted;
-        this.random = new Random();
-        this.running = true;
+        this.random = random;
+        this.searchMillis = searchMillis;
     }
 
     /**
-     * Detiene el hilo.
+     * La computadora "piensa" entre 2 y 3 segundos; la búsqueda ocupa el final de ese tiempo.
+     *
+     * @return Retraso antes de ejecutar la tarea, en milisegundos
      */
-    public void stop() {
-        this.running = false;
+    public long delayMillis() {
+        return Math.max(0, random.nextInt(MIN_THINK_MILLIS, MAX_THINK_MILLIS) - searchMillis);
     }
 
     @Override
     public void run() {
-        try {
-            // Simulamos que la computadora está "pensando"
-            Thread.sleep(random.nextInt(2000) + 2000); // Entre 2 y 4 segundos
-
-            if (!running) return;
-
-            // La computadora realiza su jugada
-            game.computerTurn();
-
-            // Notificamos que el turno ha terminado
+        // La computadora realiza su jugada en el hilo de la partida
+        actor.submit(new GameCommand.ComputerTurn()).whenComplete((outcome, error) -> {
+            if (error != null) {
+                LOG.error("Error durante el turno de la computadora: " + error.getMessage());
+            }
             if (onTurnCompleted != null) {
-                onTurnCompleted.call();
+                onTurnCompleted.accept(outcome != null ? outcome.snapshot() : actor.snapshot());
             }
-        } catch (EmptyDeckException e) {
-            System.err.println("Error durante el turno de la computadora: " + e.getMessage());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            System.err.println("Hilo de la computadora interrumpido: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Error inesperado en el hilo de la computadora: " + e.getMessage());
-        }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,195 @@
+package com.uno.threads;
+
+import com.uno.model.Game;
+import com.uno.model.GameCommand;
+import com.uno.model.GameSnapshot;
+import com.uno.persistence.WriteAheadLog;
+import com.uno.util.logging.GameLogger;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Único escritor de una partida. Los comandos llegan a un buzón y se aplican
+ * de uno en uno, en orden de llegada; tras cada comando se publica una
+ * {@link GameSnapshot} nueva. Nadie más toca el {@link Game}, así que el motor
+ * no necesita bloqueos y los observadores del juego corren en el hilo del actor.
+ * <p>
+ * El actor no tiene hilo propio: cuando su buzón tiene trabajo se programa en
+ * un ejecutor compartido y procesa un lote, de modo que muchas partidas
+ * comparten pocos hilos sin que dos hilos entren a la vez en la misma.
+ * <p>
+ * Con un registro de escritura anticipada, cada comando aplicado se confirma
+ * en el registro y su resultado se entrega cuando la jugada ya es durable; el
+ * actor no espera al disco y sigue con el siguiente comando.
+ */
+public final class GameActor {
+    private static final GameLogger LOG = GameLogger.getLogger(GameActor.class);
+    private static final int BATCH = 64;  // Comandos por turno antes de ceder el hilo a otra partida
+
+    private final Game game;
+    private final Executor executor;
+    private final WriteAheadLog.TableLog log;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile GameSnapshot snapshot;
+    private long version;  // Solo lo toca el hilo que drena el buzón
+
+    /**
+     * Resultado de un comando.
+     *
+     * @param applied false si el motor ignoró el comando
+     * @param snapshot Estado de la partida justo después del comando
+     */
+    public record Outcome(boolean applied, GameSnapshot snapshot) { }
+
+    /**
+     * Carga diferida del ejecutor compartido por todas las partidas.
+     */
+    private static final class Holder {
+        private static final AtomicInteger COUNT = new AtomicInteger();
+        private static final ExecutorService SHARED = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable, "uno-game-" + COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Crea un actor sobre el ejecutor compartido del proceso.
+     *
+     * @param game Partida; desde aquí solo la modifica el actor
+     */
+    public GameActor(Game game) {
+        this(game, Holder.SHARED);
+    }
+
+    /**
+     * Crea un actor sobre el ejecutor compartido que confirma cada comando en un registro.
+     *
+     * @param game Partida; desde aquí solo la modifica el actor
+     * @param log Registro de la mesa, devuelto por {@link WriteAheadLog#attach(int, Game)}
+     */
+    public GameActor(Game game, WriteAheadLog.TableLog log) {
+        this(game, Holder.SHARED, log);
+    }
+
+    /**
+     * @param game Partida; desde aquí solo la modifica el actor
+     * @param executor Ejecutor donde se drena el buzón
+     */
+    public GameActor(Game game, Executor executor) {
+        this(game, executor, null);
+    }
+
+    /**
+     * @param game Partida; desde aquí solo la modifica el actor
+     * @param executor Ejecutor donde se drena el buzón
+     * @param log Registro de la mesa donde se confirma cada comando, o null
+     */
+    public GameActor(Game game, Executor executor, WriteAheadLog.TableLog log) {
+        this.game = game;
+        this.executor = executor;
+        this.log = log;
+        this.snapshot = GameSnapshot.of(game, 0);
+    }
+
+    /**
+     * Encola un comando. Se puede llamar desde cualquier hilo.
+     *
+     * @param command Comando a aplicar
+     * @return Futuro que se completa con el resultado, o con la excepción del
+     *         motor si el comando falló; con registro, cuando el comando es durable
+     */
+    public CompletableFuture<Outcome> submit(GameCommand command) {
+        CompletableFuture<Outcome> result = new CompletableFuture<>();
+        enqueue(() -> process(command, result));
+        return result;
+    }
+
+    /**
+     * Lee la partida en el hilo del actor, entre dos comandos, por ejemplo
+     * para guardarla. La lectura no debe modificar la partida.
+     *
+     * @param reader Consulta a ejecutar
+     * @return Futuro con el resultado de la consulta
+     */
+    public <T> CompletableFuture<T> read(Function<Game, T> reader) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        enqueue(() -> {
+            try {
+                result.complete(reader.apply(game));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private void enqueue(Runnable task) {
+        mailbox.add(task);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * @return La última foto publicada
+     */
+    public GameSnapshot snapshot() {
+        return snapshot;
+    }
+
+    private void drain() {
+        for (int i = 0; i < BATCH; i++) {
+            Runnable task = mailbox.poll();
+            if (task == null) {
+                break;
+            }
+            task.run();
+        }
+        scheduled.set(false);
+        // Si llegó algo mientras se liberaba el turno, alguien tiene que volver a programarlo
+        if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void process(GameCommand command, CompletableFuture<Outcome> result) {
+        boolean applied;
+        try {
+            applied = command.applyTo(game);
+        } catch (Exception e) {
+            LOG.debug(() -> "Comando rechazado " + command + ": " + e.getMessage());
+            publish();
+            result.completeExceptionally(e);
+            return;
+        }
+        Outcome outcome = new Outcome(applied, publish());
+        if (log == null) {
+            result.complete(outcome);
+            return;
+        }
+        // Un fallo del registro no deshace la jugada: se informa y se entrega igual
+        log.commit().whenComplete((ignored, error) -> {
+            if (error != null) {
+                LOG.error("No se pudo confirmar la jugada en el registro", error);
+            }
+            result.complete(outcome);
+        });
+    }
+
+    private GameSnapshot publish() {
+        GameSnapshot next = GameSnapshot.of(game, ++version, snapshot);
+        snapshot = next;
+        return next;
+    }
+}
@@ -0,0 +1,125 @@
+package com.uno.threads;
+
+import com.uno.util.logging.GameLogger;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Planificador de una sesión de juego: programa los retardos (turno de la
+ * computadora, ventana de UNO, plazos de jugada) en un
+ * {@link HashedWheelTimer} y entrega cada acción al ejecutor de la partida,
+ * normalmente el hilo de JavaFX. Todas las sesiones comparten el hilo de la
+ * rueda, así que una mesa más no añade hilos.
+ * <p>
+ * Cada tarea devuelve un {@link Handle} cancelable. {@link #cancelAll()}
+ * descarta todo lo pendiente al reiniciar la partida, incluso las acciones
+ * que ya se entregaron al ejecutor pero aún no corrieron.
+ */
+public final class GameScheduler {
+    private static final GameLogger LOG = GameLogger.getLogger(GameScheduler.class);
+
+    private final HashedWheelTimer timer;
+    private final Executor callbackExecutor;
+    private final Set<Handle> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Crea un planificador sobre el temporizador compartido del proceso.
+     *
+     * @param callbackExecutor Ejecutor donde corren las acciones, por ejemplo {@code Platform::runLater}
+     */
+    public GameScheduler(Executor callbackExecutor) {
+        this(HashedWheelTimer.shared(), callbackExecutor);
+    }
+
+    /**
+     * @param timer Temporizador que espera los retardos
+     * @param callbackExecutor Ejecutor donde corren las acciones
+     */
+    public GameScheduler(HashedWheelTimer timer, Executor callbackExecutor) {
+        this.timer = timer;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Programa una acción.
+     *
+     * @param delayMillis Retraso en milisegundos
+     * @param action Acción a ejecutar en el ejecutor de la partida
+     * @return Manejador para cancelarla
+     */
+    public Handle schedule(long delayMillis, Runnable action) {
+        Handle handle = new Handle(action);
+        pending.add(handle);
+        handle.timeout = timer.newTimeout(delayMillis, TimeUnit.MILLISECONDS, callbackExecutor, handle::fire);
+        return handle;
+    }
+
+    /**
+     * Cancela todas las acciones pendientes.
+     */
+    public void cancelAll() {
+        for (Handle handle : pending) {
+            handle.cancel();
+        }
+    }
+
+    /**
+     * @return Número de acciones programadas que aún no corrieron
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Cancela lo pendiente al cerrar la sesión. El temporizador compartido sigue en marcha.
+     */
+    public void shutdown() {
+        cancelAll();
+    }
+
+    /**
+     * Acción programada que se puede cancelar.
+     */
+    public final class Handle {
+        private final Runnable action;
+        private volatile boolean cancelled;
+        private volatile HashedWheelTimer.Timeout timeout;
+
+        private Handle(Runnable action) {
+            this.action = action;
+        }
+
+        /**
+         * Cancela la acción si todavía no corrió.
+         */
+        public void cancel() {
+            cancelled = true;
+            pending.remove(this);
+            HashedWheelTimer.Timeout scheduled = timeout;
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+        }
+
+        /**
+         * @return true si se canceló antes de correr
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void fire() {
+            if (cancelled || !pending.remove(this)) {
+                return;
+            }
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                LOG.error("Error en una tarea programada de la partida", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.uno.threads;
+
+import com.uno.util.logging.GameLogger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Temporizador de rueda con ranuras (hashed wheel) compartido por todas las
+ * mesas. Un único hilo avanza la rueda cada {@code tick}; cada ranura es una
+ * lista doblemente enlazada de plazos, y un plazo que cae más allá de una
+ * vuelta lleva la cuenta de las vueltas que le faltan.
+ * <p>
+ * Programar y cancelar son O(1): ambos solo encolan el plazo, y el hilo de la
+ * rueda lo enlaza o desenlaza de su ranura en el siguiente tick. La precisión
+ * es la de un tick, suficiente para ventanas de UNO y retardos de la IA.
+ * Al vencer, la tarea no corre en el hilo de la rueda sino en el ejecutor de
+ * su partida.
+ */
+public final class HashedWheelTimer {
+    private static final GameLogger LOG = GameLogger.getLogger(HashedWheelTimer.class);
+    private static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int DEFAULT_WHEEL_SIZE = 512;   // 5,12 s por vuelta con ticks de 10 ms
+    private static final AtomicInteger TIMER_COUNT = new AtomicInteger();
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> toSchedule = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> toCancel = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread worker;
+    private final long startTime;          // Origen de los plazos, en nanosegundos
+    private long tick;                      // Solo lo toca el hilo de la rueda
+
+    /**
+     * Carga diferida del temporizador compartido por el proceso.
+     */
+    private static final class Holder {
+        private static final HashedWheelTimer SHARED = new HashedWheelTimer(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @return El temporizador compartido por todas las partidas del proceso
+     */
+    public static HashedWheelTimer shared() {
+        return Holder.SHARED;
+    }
+
+    /**
+     * @param tickMillis Duración de cada tick en milisegundos
+     * @param wheelSize Número de ranuras; se redondea a la siguiente potencia de dos
+     */
+    public HashedWheelTimer(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0 || wheelSize > 1 << 20) {
+            throw new IllegalArgumentException("Parámetros del temporizador inválidos");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, "uno-wheel-timer-" + TIMER_COUNT.incrementAndGet());
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Programa una tarea. Arranca el hilo de la rueda la primera vez.
+     *
+     * @param delay Retraso
+     * @param unit Unidad del retraso
+     * @param executor Ejecutor de la partida donde correrá la tarea
+     * @param task Tarea a ejecutar
+     * @return Plazo cancelable
+     */
+    public Timeout newTimeout(long delay, TimeUnit unit, Executor executor, Runnable task) {
+        start();
+        if (state.get() == STATE_STOPPED) {
+            throw new IllegalStateException("El temporizador está detenido");
+        }
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay)) - startTime;
+        Timeout timeout = new Timeout(this, executor, task, deadline);
+        pending.incrementAndGet();
+        toSchedule.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return Plazos programados que aún no vencieron ni se cancelaron
+     */
+    public long pendingTimeouts() {
+        return pending.get();
+    }
+
+    /**
+     * Detiene el hilo de la rueda; los plazos pendientes no se ejecutan.
+     */
+    public void stop() {
+        if (state.getAndSet(STATE_STOPPED) == STATE_STARTED) {
+            worker.interrupt();
+        }
+    }
+
+    private void start() {
+        if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            worker.start();
+        }
+    }
+
+    private void run() {
+        // La rueda empieza en el tick actual, no en el de la creación
+        tick = (System.nanoTime() - startTime) / tickNanos;
+        while (state.get() == STATE_STARTED) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            processCancelled();
+            transferTimeouts();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * Duerme hasta el final del tick actual.
+     *
+     * @return Instante del final del tick relativo al arranque, o -1 si se detuvo
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long now = System.nanoTime() - startTime;
+            long sleepMillis = (deadline - now + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return now;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_STOPPED) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferTimeouts() {
+        // Acotado por tick para que una ráfaga de altas no retrase la rueda
+        for (int i = 0; i < 100_000; i++) {
+            Timeout timeout = toSchedule.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);  // Si ya venció, va a la ranura actual
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void processCancelled() {
+        Timeout timeout;
+        while ((timeout = toCancel.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Plazo programado en la rueda.
+     */
+    public static final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Executor executor;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        // Solo los toca el hilo de la rueda
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(HashedWheelTimer timer, Executor executor, Runnable task, long deadline) {
+            this.timer = timer;
+            this.executor = executor;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancela el plazo si todavía no venció.
+         *
+         * @return true si se canceló; false si ya había vencido o estaba cancelado
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrementAndGet();
+            timer.toCancel.add(this);
+            return true;
+        }
+
+        /**
+         * @return true si se canceló antes de vencer
+         */
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        /**
+         * @return true si ya venció y su tarea se entregó al ejecutor
+         */
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.pending.decrementAndGet();
+            try {
+                executor.execute(task);
+            } catch (RuntimeException e) {
+                LOG.error("No se pudo entregar una tarea vencida a su partida", e);
+            }
+        }
+    }
+
+    /**
+     * Ranura de la rueda: lista doblemente enlazada para quitar en O(1).
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.next = null;
+            timeout.prev = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -1,69 +1,61 @@
 package com.uno.threads;
 
-import com.uno.exceptions.EmptyDeckException;
-import com.uno.model.Game;
+import com.uno.model.GameCommand;
+import com.uno.model.GameSnapshot;
+import com.uno.util.GameRandom;
+import com.uno.util.logging.GameLogger;
 
-import java.util.Random;
-import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 /**
- * Hilo que maneja el temporizador para la declaración de UNO.
- * Cuando un jugador queda con una sola carta, este hilo inicia
- * y espera un tiempo aleatorio para que se declare UNO.
+ * Tarea que pide al {@link GameActor} cerrar la ventana de declaración de UNO.
+ * Cuando un jugador queda con una sola carta, un {@link GameScheduler} la
+ * ejecuta pasado el tiempo aleatorio de {@link #delayMillis()}. Lleva el
+ * número de la ventana que la programó: si esa ventana ya se cerró, el motor
+ * ignora el vencimiento.
  */
 public class UnoTimerThread implements Runnable {
-    private final Game game;
-    private final Callable<Void> onTimerCompleted;
-    private final Random random;
-    private volatile boolean running;
+    private static final GameLogger LOG = GameLogger.getLogger(UnoTimerThread.class);
+    private static final int MIN_WINDOW_MILLIS = 2000;
+    private static final int MAX_WINDOW_MILLIS = 4000;
+
+    private final GameActor actor;
+    private final Consumer<GameSnapshot> onTimerCompleted;
+    private final GameRandom random;
+    private final int window;
 
     /**
-     * Constructor del hilo temporizador de UNO.
+     * Constructor de la tarea temporizadora de UNO.
      *
-     * @param game Referencia al juego
-     * @param onTimerCompleted Callback que se ejecuta cuando el tiempo se agota
+     * @param actor Actor de la partida, que aplica el comando
+     * @param onTimerCompleted Recibe el estado, en el hilo de la partida, cuando el tiempo se agota
+     * @param random Generador para el retardo, derivado del de la partida
+     * @param window Número de la ventana de UNO que vence, según {@link com.uno.model.Game#getUnoWindow()}
      */
-    public UnoTimerThread(Game game, Callable<Void> onTimerCompleted) {
-        this.game = game;
+    public UnoTimerThread(GameActor actor, Consumer<GameSnapshot> onTimerCompleted, GameRandom random, int window) {
+        this.actor = actor;
         this.onTimerCompleted = onTimerCompleted;
-        this.random = new Random();
-        this.running = true;
+        this.random = random;
+        this.window = window;
     }
 
     /**
-     * Detiene el hilo.
+     * @return Duración de la ventana de UNO (entre 2 y 4 segundos), en milisegundos
      */
-    public void stop() {
-        this.running = false;
+    public long delayMillis() {
+        return random.nextInt(MIN_WINDOW_MILLIS, MAX_WINDOW_MILLIS);
     }
 
     @Override
     public void run() {
-        try {
-            // Esperamos un tiempo aleatorio entre 2 y 4 segundos
-            Thread.sleep(random.nextInt(2000) + 2000);
-
-            if (!running) return;
-
-            // Si el jugador humano no ha declarado UNO, la computadora intenta atraparlo
-            boolean caughtPlayer = game.computerCallCatchUno();
-
-            // Si el jugador no ha declarado UNO, se aplicará una penalización
-            if (!caughtPlayer) {
-                game.checkUnoPenalty();
+        // La computadora atrapa al humano o se cierra la ventana, en el hilo de la partida
+        actor.submit(new GameCommand.UnoTimeout(window)).whenComplete((outcome, error) -> {
+            if (error != null) {
+                LOG.error("Error durante la verificación de UNO: " + error.getMessage());
             }
-
-            // Notificamos que el timer ha terminado
             if (onTimerCompleted != null) {
-                onTimerCompleted.call();
+                onTimerCompleted.accept(outcome != null ? outcome.snapshot() : actor.snapshot());
             }
-        } catch (EmptyDeckException e) {
-            System.err.println("Error durante la verificación de UNO: " + e.getMessage());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            System.err.println("Hilo de temporizador UNO interrumpido: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Error inesperado en el hilo de temporizador UNO: " + e.getMessage());
-        }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,218 @@
+package com.uno.util;
+
+import com.uno.model.Card;
+import com.uno.model.CardCodes;
+import com.uno.util.logging.GameLogger;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Screen;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Atlas de texturas de las cartas: una sola imagen con todas las cartas y
+ * el rectángulo de cada una, generados por {@link CardAtlasPacker}.
+ * Todas las vistas comparten esa imagen y solo cambian su {@code viewport},
+ * así que al arrancar se decodifica un PNG y la GPU recibe una sola textura.
+ * El atlas se decodifica ya reducido al tamaño máximo en pantalla, a 1x o
+ * 2x según la escala de salida de la pantalla principal.
+ * Si el atlas no está en los recursos, se usan las imágenes sueltas de la
+ * {@link CardImageCache}.
+ */
+public final class CardAtlas {
+    /** Tamaño de las cartas en las manos, en puntos. */
+    public static final double CARD_WIDTH = 80;
+    public static final double CARD_HEIGHT = 120;
+
+    private static final GameLogger LOG = GameLogger.getLogger(CardAtlas.class);
+
+    /** Tamaño más grande al que se muestra una carta (mazo y pila de descarte). */
+    private static final double MAX_DISPLAY_WIDTH = 90;
+    private static final double MAX_DISPLAY_HEIGHT = 130;
+
+    private final Image image;
+    private final int pixelRatio;
+    private final Rectangle2D[] byCode = new Rectangle2D[CardCodes.CODE_COUNT];
+    private final Map<String, Rectangle2D> byName = new HashMap<>();
+
+    private CardAtlas() {
+        Image loaded = null;
+        this.pixelRatio = outputPixelRatio();
+        String base = CardImageCache.CARDS_PATH;
+        try (InputStream imageIn = CardAtlas.class.getResourceAsStream(base + CardAtlasPacker.ATLAS_IMAGE);
+             InputStream indexIn = CardAtlas.class.getResourceAsStream(base + CardAtlasPacker.ATLAS_INDEX)) {
+            if (imageIn != null && indexIn != null) {
+                Properties index = new Properties();
+                index.load(indexIn);
+                Rectangle2D full = parse(index.getProperty(CardAtlasPacker.ATLAS_IMAGE));
+                Rectangle2D sample = parse(index.getProperty(Card.fromCode(0).getImageFileName()));
+
+                // Decodificar directamente al tamaño en pantalla (1x o 2x), sin pasar del original
+                double scale = 1;
+                if (full != null && sample != null) {
+                    scale = Math.min(1, MAX_DISPLAY_WIDTH * pixelRatio / sample.getWidth());
+                }
+                if (scale < 1) {
+                    loaded = new Image(imageIn, Math.round(full.getWidth() * scale),
+                            Math.round(full.getHeight() * scale), false, true);
+                } else {
+                    loaded = new Image(imageIn);
+                }
+                double sx = full != null ? loaded.getWidth() / full.getWidth() : 1;
+                double sy = full != null ? loaded.getHeight() / full.getHeight() : 1;
+
+                for (String name : index.stringPropertyNames()) {
+                    Rectangle2D r = parse(index.getProperty(name));
+                    byName.put(name, new Rectangle2D(r.getMinX() * sx, r.getMinY() * sy,
+                            r.getWidth() * sx, r.getHeight() * sy));
+                }
+                for (int code = 0; code < CardCodes.CODE_COUNT; code++) {
+                    byCode[code] = byName.get(Card.fromCode(code).getImageFileName());
+                }
+                Image decoded = loaded;
+                LOG.debug(() -> "Atlas de cartas a " + pixelRatio + "x: " + (int) decoded.getWidth()
+                        + "x" + (int) decoded.getHeight() + " px");
+            } else {
+                LOG.warn("No se encontró el atlas de cartas; se usan imágenes sueltas");
+            }
+        } catch (Exception e) {
+            LOG.error("Error al cargar el atlas de cartas", e);
+            loaded = null;
+        }
+        this.image = loaded;
+    }
+
+    private static Rectangle2D parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split(",");
+        return new Rectangle2D(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+                Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+    }
+
+    /**
+     * @return 2 en pantallas de alta densidad (escala de salida de 1.5 o más), 1 en el resto
+     */
+    private static int outputPixelRatio() {
+        try {
+            Screen screen = Screen.getPrimary();
+            return Math.max(screen.getOutputScaleX(), screen.getOutputScaleY()) >= 1.5 ? 2 : 1;
+        } catch (RuntimeException e) {
+            return 1;  // Sin toolkit de JavaFX
+        }
+    }
+
+    /**
+     * Carga diferida y segura entre hilos del atlas compartido.
+     */
+    private static final class Holder {
+        private static final CardAtlas SHARED = new CardAtlas();
+    }
+
+    /**
+     * @return El atlas compartido del proceso
+     */
+    public static CardAtlas getInstance() {
+        return Holder.SHARED;
+    }
+
+    /**
+     * Decodifica el atlas (o, sin atlas, todas las imágenes sueltas) antes
+     * del primer dibujado. Se puede llamar desde cualquier hilo.
+     */
+    public static void preload() {
+        if (!getInstance().isAvailable()) {
+            CardImageCache.getInstance().preload();
+        }
+    }
+
+    /**
+     * @return true si el atlas se cargó
+     */
+    public boolean isAvailable() {
+        return image != null;
+    }
+
+    /**
+     * @return 1 o 2 según la densidad de la pantalla al cargar el atlas
+     */
+    public int getPixelRatio() {
+        return pixelRatio;
+    }
+
+    /**
+     * @return La textura compartida con todas las cartas
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * @param card Carta a mostrar (null para el reverso)
+     * @return Rectángulo de la carta dentro del atlas
+     */
+    public Rectangle2D viewportOf(Card card) {
+        return card == null ? byName.get(CardImageCache.BACK_IMAGE) : byCode[card.getCode()];
+    }
+
+    /**
+     * @param fileName Nombre del archivo original, por ejemplo {@link CardImageCache#DECK_IMAGE}
+     * @return Rectángulo de esa imagen dentro del atlas
+     */
+    public Rectangle2D viewportOf(String fileName) {
+        return byName.get(fileName);
+    }
+
+    /**
+     * Muestra una carta en una vista: la textura compartida y su rectángulo,
+     * o la imagen suelta si no hay atlas.
+     *
+     * @param view Vista a actualizar
+     * @param card Carta a mostrar (null para el reverso)
+     */
+    public void show(ImageView view, Card card) {
+        Rectangle2D viewport = isAvailable() ? viewportOf(card) : null;
+        if (viewport == null) {
+            // Los PNG sueltos ya son menores que 2x; solo se reducen en pantallas 1x
+            CardImageCache cache = CardImageCache.getInstance();
+            view.setViewport(null);
+            view.setImage(pixelRatio == 1
+                    ? cache.getScaled(card, (int) MAX_DISPLAY_WIDTH, (int) MAX_DISPLAY_HEIGHT)
+                    : cache.get(card));
+        } else {
+            view.setImage(image);
+            view.setViewport(viewport);
+        }
+    }
+
+    /**
+     * Muestra el reverso de las cartas en una vista.
+     *
+     * @param view Vista a actualizar
+     */
+    public void showBack(ImageView view) {
+        show(view, (Card) null);
+    }
+
+    /**
+     * Muestra una imagen del atlas por nombre de archivo.
+     *
+     * @param view Vista a actualizar
+     * @param fileName Nombre del archivo original
+     */
+    public void showNamed(ImageView view, String fileName) {
+        Rectangle2D viewport = isAvailable() ? viewportOf(fileName) : null;
+        if (viewport == null) {
+            view.setViewport(null);
+            view.setImage(CardImageCache.getInstance().getNamed(fileName));
+        } else {
+            view.setImage(image);
+            view.setViewport(viewport);
+        }
+    }
+}
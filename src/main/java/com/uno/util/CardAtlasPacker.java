@@ -0,0 +1,85 @@
+package com.uno.util;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Herramienta que empaqueta las imágenes de las cartas en un atlas.
+ * Genera una sola imagen con todas las cartas en una cuadrícula y un índice
+ * {@code nombre=x,y,ancho,alto} que usa {@link CardAtlas}; la entrada del propio
+ * atlas guarda su tamaño total. El resultado se
+ * guarda en los recursos; hay que volver a ejecutarla si cambia alguna carta:
+ * <pre>
+ * java -cp target/classes com.uno.util.CardAtlasPacker src/main/resources/images/cards
+ * </pre>
+ */
+public final class CardAtlasPacker {
+    static final String ATLAS_IMAGE = "cards_atlas.png";
+    static final String ATLAS_INDEX = "cards_atlas.properties";
+    private static final int COLUMNS = 8;
+    private static final int GUTTER = 2;  // Separación para que el suavizado no mezcle cartas vecinas
+
+    private CardAtlasPacker() { }
+
+    /**
+     * Empaqueta todos los PNG de una carpeta (salvo el propio atlas).
+     *
+     * @param directory Carpeta con las imágenes; el atlas se escribe en ella
+     * @throws IOException si no se puede leer o escribir alguna imagen
+     */
+    public static void pack(File directory) throws IOException {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".png") && !name.equals(ATLAS_IMAGE));
+        if (files == null || files.length == 0) {
+            throw new IOException("No hay imágenes en " + directory);
+        }
+        Arrays.sort(files);
+
+        List<BufferedImage> images = new ArrayList<>();
+        int cellWidth = 0;
+        int cellHeight = 0;
+        for (File file : files) {
+            BufferedImage image = ImageIO.read(file);
+            images.add(image);
+            cellWidth = Math.max(cellWidth, image.getWidth());
+            cellHeight = Math.max(cellHeight, image.getHeight());
+        }
+
+        int rows = (files.length + COLUMNS - 1) / COLUMNS;
+        BufferedImage atlas = new BufferedImage(COLUMNS * (cellWidth + GUTTER), rows * (cellHeight + GUTTER),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        try (Writer index = new FileWriter(new File(directory, ATLAS_INDEX), StandardCharsets.UTF_8)) {
+            index.write("# Generado por CardAtlasPacker: nombre=x,y,ancho,alto\n");
+            index.write(ATLAS_IMAGE + "=0,0," + atlas.getWidth() + "," + atlas.getHeight() + "\n");
+            for (int i = 0; i < files.length; i++) {
+                BufferedImage image = images.get(i);
+                int x = (i % COLUMNS) * (cellWidth + GUTTER);
+                int y = (i / COLUMNS) * (cellHeight + GUTTER);
+                g.drawImage(image, x, y, null);
+                index.write(files[i].getName() + "=" + x + "," + y + "," + image.getWidth() + "," + image.getHeight() + "\n");
+            }
+        } finally {
+            g.dispose();
+        }
+        ImageIO.write(atlas, "png", new File(directory, ATLAS_IMAGE));
+    }
+
+    /**
+     * @param args Carpeta de las imágenes de las cartas
+     * @throws IOException si falla la lectura o escritura
+     */
+    public static void main(String[] args) throws IOException {
+        File directory = new File(args.length > 0 ? args[0] : "src/main/resources/images/cards");
+        pack(directory);
+        System.out.println("Atlas generado en " + new File(directory, ATLAS_IMAGE));
+    }
+}
@@ -0,0 +1,157 @@
+package com.uno.util;
+
+import com.uno.model.Card;
+import com.uno.model.CardCodes;
+import com.uno.util.logging.GameLogger;
+import javafx.scene.image.Image;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caché de imágenes decodificadas compartida por todo el proceso.
+ * Cada PNG se decodifica una sola vez: las cartas se guardan por su código
+ * (son instancias canónicas), el resto de imágenes por nombre de archivo y
+ * las variantes escaladas en un LRU acotado. Las imágenes de JavaFX son
+ * inmutables, así que varias vistas pueden compartir la misma instancia.
+ * Se puede usar desde cualquier hilo, por ejemplo para precargar en segundo plano.
+ */
+public final class CardImageCache {
+    public static final String CARDS_PATH = "/images/cards/";
+    public static final String BACK_IMAGE = "card_uno.png";
+    public static final String DECK_IMAGE = "deck_of_cards.png";
+
+    private static final GameLogger LOG = GameLogger.getLogger(CardImageCache.class);
+    private static final int MAX_SCALED = 128;       // Variantes escaladas retenidas
+    private static final int BACK_ID = CardCodes.CODE_COUNT;
+    private static final CardImageCache SHARED = new CardImageCache();
+
+    private final AtomicReferenceArray<Image> byCode = new AtomicReferenceArray<>(CardCodes.CODE_COUNT);
+    private final Map<String, Image> byName = new ConcurrentHashMap<>();
+    private final Map<Long, Image> scaled = new LinkedHashMap<>(MAX_SCALED, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Image> eldest) {
+            return size() > MAX_SCALED;
+        }
+    };
+
+    private CardImageCache() { }
+
+    /**
+     * @return La caché compartida del proceso
+     */
+    public static CardImageCache getInstance() {
+        return SHARED;
+    }
+
+    /**
+     * Obtiene la imagen de una carta a su tamaño original.
+     *
+     * @param card Carta a mostrar (null para el reverso)
+     * @return La imagen decodificada, compartida
+     */
+    public Image get(Card card) {
+        if (card == null) {
+            return getBack();
+        }
+        int code = card.getCode();
+        Image image = byCode.get(code);
+        if (image == null) {
+            image = decode(card.getImageFileName(), 0, 0);
+            if (image == null) {
+                return getBack();
+            }
+            // Si otro hilo la decodificó a la vez, nos quedamos con la primera
+            if (!byCode.compareAndSet(code, null, image)) {
+                image = byCode.get(code);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * @return Imagen del reverso de las cartas, con el mazo como respaldo
+     */
+    public Image getBack() {
+        Image back = getNamed(BACK_IMAGE);
+        return back != null ? back : getNamed(DECK_IMAGE);
+    }
+
+    /**
+     * Obtiene una imagen de la carpeta de cartas por nombre de archivo.
+     *
+     * @param fileName Nombre del archivo, por ejemplo {@link #DECK_IMAGE}
+     * @return La imagen decodificada o null si no se pudo cargar
+     */
+    public Image getNamed(String fileName) {
+        Image image = byName.get(fileName);
+        if (image == null) {
+            image = decode(fileName, 0, 0);
+            if (image != null) {
+                Image previous = byName.putIfAbsent(fileName, image);
+                image = previous != null ? previous : image;
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Obtiene la imagen de una carta decodificada a un tamaño concreto.
+     * Las variantes se retienen en un LRU de {@value #MAX_SCALED} entradas.
+     *
+     * @param card Carta a mostrar (null para el reverso)
+     * @param width Ancho en píxeles
+     * @param height Alto en píxeles
+     * @return La imagen escalada, compartida
+     */
+    public Image getScaled(Card card, int width, int height) {
+        int id = card == null ? BACK_ID : card.getCode();
+        long key = (long) width << 40 | (long) height << 16 | id;
+        synchronized (scaled) {
+            Image image = scaled.get(key);
+            if (image != null) {
+                return image;
+            }
+        }
+        String fileName = card == null ? BACK_IMAGE : card.getImageFileName();
+        Image image = decode(fileName, width, height);
+        if (image == null) {
+            return get(card);
+        }
+        synchronized (scaled) {
+            Image previous = scaled.putIfAbsent(key, image);
+            return previous != null ? previous : image;
+        }
+    }
+
+    /**
+     * Decodifica de antemano todas las cartas, el reverso y el mazo, para que
+     * el primer dibujado de la partida no tenga que leer ningún PNG.
+     */
+    public void preload() {
+        long start = System.nanoTime();
+        for (int code = 0; code < CardCodes.CODE_COUNT; code++) {
+            get(Card.fromCode(code));
+        }
+        getBack();
+        getNamed(DECK_IMAGE);
+        LOG.debug(() -> "Imágenes precargadas en " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private Image decode(String fileName, int width, int height) {
+        String path = CARDS_PATH + fileName;
+        try (InputStream in = CardImageCache.class.getResourceAsStream(path)) {
+            if (in == null) {
+                LOG.error("No se encontró la imagen: " + path);
+                return null;
+            }
+            return width > 0 ? new Image(in, width, height, true, true) : new Image(in);
+        } catch (Exception e) {
+            LOG.error("Error al cargar la imagen: " + path, e);
+            return null;
+        }
+    }
+}
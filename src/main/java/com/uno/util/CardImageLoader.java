@@ -5,9 +5,13 @@ import javafx.scene.image.Image;
 
 /**
  * Clase para cargar las imágenes de las cartas del juego UNO.
+ * Las imágenes salen de la {@link CardImageCache} compartida, así que
+ * redibujar la mesa no vuelve a decodificar ningún PNG.
  */
 public class CardImageLoader {
 
+    private final CardImageCache cache = CardImageCache.getInstance();
+
     /**
      * Obtiene la imagen de una carta.
      *
@@ -15,19 +19,7 @@ public class CardImageLoader {
      * @return La imagen de la carta
      */
     public Image getCardImage(Card card) {
-        if (card == null) {
-            return getCardBackImage();
-        }
-
-        String imagePath = "/images/cards/" + card.getImageFileName();
-
-        try {
-            return new Image(getClass().getResourceAsStream(imagePath));
-        } catch (Exception e) {
-            System.out.println("Error al cargar la imagen: " + imagePath);
-            e.printStackTrace();
-            return getCardBackImage();
-        }
+        return cache.get(card);
     }
 
     /**
@@ -36,19 +28,6 @@ public class CardImageLoader {
      * @return Imagen del reverso de la carta
      */
     public Image getCardBackImage() {
-        try {
-            return new Image(getClass().getResourceAsStream("/images/cards/card_uno.png"));
-        } catch (Exception e) {
-            System.out.println("Error al cargar la imagen del reverso de la carta");
-            e.printStackTrace();
-            // Usar una imagen existente como fallback
-            try {
-                return new Image(getClass().getResourceAsStream("/images/cards/deck_of_cards.png"));
-            } catch (Exception ex) {
-                // Si aún falla, intentar con otra imagen
-                System.out.println("Error al cargar imagen de fallback");
-                return null; // Retornar null como último recurso
-            }
-        }
+        return cache.getBack();
     }
-}
\ No newline at end of file
+}
@@ -4,77 +4,82 @@ import com.uno.exceptions.EmptyDeckException;
 import com.uno.model.Card;
 import com.uno.model.Deck;
 import com.uno.model.Player;
+import com.uno.model.TurnRing;
 
-import com.uno.model.enums.CardType;
+import com.uno.model.enums.CardColor;
 import com.uno.model.enums.GameState;
+import com.uno.util.logging.GameLogger;
 
 /**
  * Clase que contiene métodos útiles para la lógica del juego UNO.
  */
 public class GameLogicHelper {
 
+    private static final GameLogger LOG = GameLogger.getLogger(GameLogicHelper.class);
+
     /**
      * Verifica si un jugador puede jugar alguna carta.
      *
      * @param player El jugador a verificar
      * @param topCard La carta superior en la mesa
+     * @param activeColor El color activo del juego
      * @return true si puede jugar alguna carta, false si no
      */
-    public static boolean canPlayAnyCard(Player player, Card topCard) {
-        return player.hasPlayableCard(topCard);
+    public static boolean canPlayAnyCard(Player player, Card topCard, CardColor activeColor) {
+        return player.hasPlayableCard(topCard, activeColor);
     }
 
     /**
-     * Aplica el efecto de la carta jugada.
+     * Aplica el efecto de la carta jugada sobre el anillo de turnos y deja
+     * el turno en quien juega a continuación. Tras un comodín el turno no se
+     * mueve: avanza quien complete la selección de color (dos asientos tras un +4).
      *
      * @param playedCard La carta jugada
-     * @param currentPlayer El jugador actual
-     * @param opponent El jugador oponente
+     * @param ring Anillo de asientos; su turno actual es quien jugó la carta
      * @param deck El mazo de cartas
      * @return El nuevo estado del juego
-     * @throws EmptyDeckException Si el mazo está vacío
      */
-    public static GameState applyCardEffect(Card playedCard, Player currentPlayer,
-                                            Player opponent, Deck deck)
-            throws EmptyDeckException {
+    public static GameState applyCardEffect(Card playedCard, TurnRing ring, Deck deck) {
 
-        CardType type = playedCard.getType();
+        if (ring.currentPlayer().getHand().isEmpty()) {
+            return GameState.GAME_OVER;
+        }
 
         // Aplicamos diferentes efectos según el tipo de carta
-        if (type == CardType.SKIP) {
-            System.out.println("El jugador pierde su turno");
-            return GameState.PLAYER_TURN; // El jugador actual juega de nuevo
-
-        } else if (type == CardType.DRAW_TWO) {
-            System.out.println("El oponente toma 2 cartas");
-            // El oponente toma 2 cartas
-            for (int i = 0; i < 2; i++) {
-                Card drawnCard = deck.drawCard();
-                opponent.addCard(drawnCard);
-            }
-            return GameState.PLAYER_TURN; // El jugador actual juega de nuevo
-
-        } else if (type == CardType.WILD_DRAW_FOUR) {
-            System.out.println("El oponente toma 4 cartas");
-            // El oponente toma 4 cartas
-            for (int i = 0; i < 4; i++) {
-                Card drawnCard = deck.drawCard();
-                opponent.addCard(drawnCard);
-            }
-            return GameState.COLOR_SELECTION;
-
-        } else if (type == CardType.WILD) {
-            System.out.println("Se debe seleccionar un color");
-            return GameState.COLOR_SELECTION;
+        switch (playedCard.getType()) {
+            case SKIP:
+                LOG.debug(() -> "El siguiente jugador pierde su turno");
+                ring.advance(2);
+                break;
 
-        } else {
-            // Cartas normales numéricas
-            if (currentPlayer.getHand().size() == 0) {
-                return GameState.GAME_OVER;
-            } else {
-                return (GameState.COMPUTER_TURN); // Alternamos el turno
-            }
+            case DRAW_TWO:
+                LOG.debug(() -> "El siguiente jugador toma 2 cartas");
+                ring.next().addCards(deck.drawUpTo(2));
+                ring.advance(2);
+                break;
+
+            case REVERSE:
+                LOG.debug(() -> "Cambia el sentido del juego");
+                ring.reverse();
+                // Con dos jugadores la Reversa actúa como Skip
+                ring.advance(ring.size() == 2 ? 2 : 1);
+                break;
+
+            case WILD_DRAW_FOUR:
+                LOG.debug(() -> "El siguiente jugador toma 4 cartas");
+                ring.next().addCards(deck.drawUpTo(4));
+                return GameState.COLOR_SELECTION;
+
+            case WILD:
+                LOG.debug(() -> "Se debe seleccionar un color");
+                return GameState.COLOR_SELECTION;
+
+            default:
+                // Cartas normales numéricas
+                ring.advance(1);
+                break;
         }
+        return ring.current() == 0 ? GameState.PLAYER_TURN : GameState.COMPUTER_TURN;
     }
 
     /**
@@ -109,10 +114,10 @@ public class GameLogicHelper {
             throws EmptyDeckException {
         if (player.getHand().size() == 1) {
             player.callUno();
-            System.out.println("¡UNO!");
+            LOG.debug(() -> player.getName() + ": ¡UNO!");
             return true;
         } else {
-            System.out.println("Declaración de UNO incorrecta");
+            LOG.debug(() -> "Declaración de UNO incorrecta de " + player.getName());
             // Penalización: tomar una carta
             player.addCard(deck.drawCard());
             return false;
@@ -129,7 +134,7 @@ public class GameLogicHelper {
     public static void penalizeForNotCallingUno(Player player, Deck deck)
             throws EmptyDeckException {
         if (player.getHand().size() == 1 && !player.hasCalledUno()) {
-            System.out.println("No se declaró UNO. Penalización: tomar una carta");
+            LOG.debug(() -> "No se declaró UNO. Penalización: tomar una carta");
             player.addCard(deck.drawCard());
         }
     }
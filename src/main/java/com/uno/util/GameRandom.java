@@ -0,0 +1,84 @@
+package com.uno.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generador de números aleatorios de una partida.
+ * Se crea con una semilla y se divide con {@link #split()} para cada
+ * componente (mazo, jugadores, temporizadores) o hilo de simulación, de modo
+ * que la misma semilla reproduce la partida completa sin compartir estado
+ * entre hilos.
+ * No es seguro para hilos: cada instancia pertenece a un solo dueño.
+ */
+public final class GameRandom {
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Crea un generador con una semilla nueva, consultable con {@link #getSeed()}.
+     */
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Crea un generador reproducible.
+     *
+     * @param seed Semilla de la partida
+     */
+    public GameRandom(long seed) {
+        this(seed, new SplittableRandom(seed));
+    }
+
+    private GameRandom(long seed, SplittableRandom random) {
+        this.seed = seed;
+        this.random = random;
+    }
+
+    /**
+     * Crea un generador independiente derivado de este. La secuencia de
+     * divisiones es determinista para una misma semilla.
+     *
+     * @return Nuevo generador para otro componente u otro hilo
+     */
+    public GameRandom split() {
+        SplittableRandom child = random.split();
+        return new GameRandom(seed, child);
+    }
+
+    /**
+     * @param bound Límite exclusivo (mayor que cero)
+     * @return Entero uniforme en [0, bound)
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * @param origin Límite inclusivo
+     * @param bound Límite exclusivo
+     * @return Entero uniforme en [origin, bound)
+     */
+    public int nextInt(int origin, int bound) {
+        return random.nextInt(origin, bound);
+    }
+
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * @param percent Probabilidad en porcentaje (0-100)
+     * @return true con la probabilidad indicada
+     */
+    public boolean chance(int percent) {
+        return random.nextInt(100) < percent;
+    }
+
+    /**
+     * @return Semilla con la que se creó el generador raíz
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
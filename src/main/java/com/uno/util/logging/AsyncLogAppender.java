@@ -0,0 +1,149 @@
+package com.uno.util.logging;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Escritor asíncrono de registros basado en un búfer circular.
+ * Los hilos del juego reservan una posición con una operación atómica y
+ * copian el mensaje en un registro preasignado; un único hilo demonio
+ * vacía el búfer hacia la consola. Si el búfer se llena, el mensaje se
+ * descarta y se cuenta en lugar de bloquear al hilo que registra.
+ */
+final class AsyncLogAppender {
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;  // Secuencia de cada posición (cola acotada de Vyukov)
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final PrintStream out;
+    private final PrintStream err;
+    private final Thread drainer;
+    private volatile long head;  // Solo lo escribe el hilo que vacía el búfer
+
+    /**
+     * @param capacity Capacidad del búfer; se redondea a la siguiente potencia de dos
+     */
+    AsyncLogAppender(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.entries = new Entry[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+            sequences.set(i, i);
+        }
+        this.out = System.out;
+        this.err = System.err;
+
+        drainer = new Thread(this::drainLoop, "uno-log");
+        drainer.setDaemon(true);
+        drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "uno-log-flush"));
+    }
+
+    /**
+     * Encola un mensaje sin bloquear.
+     *
+     * @return false si el búfer estaba lleno y el mensaje se descartó
+     */
+    boolean append(LogLevel level, String logger, String message, Throwable thrown) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        int index = (int) position & mask;
+        Entry entry = entries[index];
+        entry.timestamp = System.currentTimeMillis();
+        entry.level = level;
+        entry.logger = logger;
+        entry.message = message;
+        entry.thrown = thrown;
+        // Escritura completa: publicar antes de leer head, como hace el hilo que vacía al revés
+        sequences.set(index, position + 1);
+        if (position == head) {
+            // El búfer estaba vacío: el hilo que lo vacía puede estar dormido
+            LockSupport.unpark(drainer);
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        while (true) {
+            if (!drain()) {
+                // Sin tiempo límite: append lo despierta al publicar en el búfer vacío
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Escribe todos los registros publicados.
+     *
+     * @return true si se escribió al menos un registro
+     */
+    private synchronized boolean drain() {
+        boolean wrote = false;
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+
+            Entry entry = entries[index];
+            PrintStream stream = entry.level.ordinal() >= LogLevel.WARN.ordinal() ? err : out;
+            stream.println(TIME_FORMAT.format(Instant.ofEpochMilli(entry.timestamp))
+                    + " " + entry.level + " " + entry.logger + " - " + entry.message);
+            if (entry.thrown != null) {
+                entry.thrown.printStackTrace(stream);
+            }
+            entry.message = null;
+            entry.thrown = null;
+
+            sequences.lazySet(index, head + entries.length);
+            head++;
+            wrote = true;
+        }
+
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            err.println("Registro: se descartaron " + lost + " mensajes por búfer lleno");
+        }
+        if (wrote) {
+            out.flush();
+        }
+        return wrote;
+    }
+
+    /**
+     * Registro preasignado de una posición del búfer.
+     */
+    private static final class Entry {
+        long timestamp;
+        LogLevel level;
+        String logger;
+        String message;
+        Throwable thrown;
+    }
+}
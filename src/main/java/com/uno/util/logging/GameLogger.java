@@ -0,0 +1,88 @@
+package com.uno.util.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * Fachada de registro liviana para todo el juego.
+ * El nivel se configura con la propiedad del sistema {@code uno.log.level}
+ * (por defecto INFO). Los mensajes de niveles desactivados no se construyen:
+ * las variantes con {@link Supplier} solo evalúan el mensaje si el nivel
+ * está activo. Los mensajes activos se entregan a un {@link AsyncLogAppender},
+ * así que el hilo del juego nunca espera por la consola.
+ */
+public final class GameLogger {
+    private static final AsyncLogAppender APPENDER = new AsyncLogAppender(4096);
+    private static volatile LogLevel threshold =
+            LogLevel.parse(System.getProperty("uno.log.level"), LogLevel.INFO);
+
+    private final String name;
+
+    private GameLogger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Obtiene un registrador para una clase.
+     *
+     * @param type Clase que registra los mensajes
+     * @return El registrador
+     */
+    public static GameLogger getLogger(Class<?> type) {
+        return new GameLogger(type.getSimpleName());
+    }
+
+    /**
+     * Cambia el nivel mínimo de registro de todo el juego.
+     *
+     * @param level Nuevo nivel mínimo
+     */
+    public static void setLevel(LogLevel level) {
+        threshold = level;
+    }
+
+    public static LogLevel getLevel() {
+        return threshold;
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold.ordinal();
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public void debug(Supplier<String> message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            APPENDER.append(LogLevel.DEBUG, name, message.get(), null);
+        }
+    }
+
+    public void info(String message) {
+        log(LogLevel.INFO, message, null);
+    }
+
+    public void info(Supplier<String> message) {
+        if (isEnabled(LogLevel.INFO)) {
+            APPENDER.append(LogLevel.INFO, name, message.get(), null);
+        }
+    }
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message, null);
+    }
+
+    public void error(String message) {
+        log(LogLevel.ERROR, message, null);
+    }
+
+    public void error(String message, Throwable thrown) {
+        log(LogLevel.ERROR, message, thrown);
+    }
+
+    private void log(LogLevel level, String message, Throwable thrown) {
+        if (isEnabled(level)) {
+            APPENDER.append(level, name, message, thrown);
+        }
+    }
+}
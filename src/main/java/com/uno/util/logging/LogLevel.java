@@ -0,0 +1,26 @@
+package com.uno.util.logging;
+
+/**
+ * Niveles de registro, de menor a mayor severidad.
+ */
+public enum LogLevel {
+    DEBUG, INFO, WARN, ERROR, OFF;
+
+    /**
+     * Interpreta un nivel escrito por el usuario (por ejemplo en una propiedad del sistema).
+     *
+     * @param value Nombre del nivel, sin importar mayúsculas
+     * @param defaultLevel Nivel a usar si el valor es nulo o inválido
+     * @return El nivel correspondiente
+     */
+    public static LogLevel parse(String value, LogLevel defaultLevel) {
+        if (value == null) {
+            return defaultLevel;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
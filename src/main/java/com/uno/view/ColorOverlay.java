@@ -0,0 +1,57 @@
+package com.uno.view;
+
+import com.uno.controller.ColorSelectionController;
+import com.uno.model.enums.CardColor;
+import javafx.scene.Parent;
+import javafx.scene.layout.StackPane;
+
+import java.util.function.Consumer;
+
+/**
+ * Capa modal para elegir el color de un comodín, dibujada sobre la escena
+ * principal. Se carga una sola vez al arrancar y se muestra u oculta en
+ * cada comodín, así que no hace falta leer el FXML ni abrir otra ventana.
+ * Mientras está visible cubre toda la escena y absorbe los clics.
+ */
+public class ColorOverlay extends StackPane {
+    private Consumer<CardColor> pending;
+
+    /**
+     * @param dialogRoot Raíz de la vista de selección de color
+     * @param controller Controlador de esa vista
+     */
+    public ColorOverlay(Parent dialogRoot, ColorSelectionController controller) {
+        super(dialogRoot);
+        getStyleClass().add("color-overlay");
+        setPickOnBounds(true);
+        setVisible(false);
+        controller.setOnColorSelected(this::select);
+    }
+
+    /**
+     * Muestra la capa; la elección llega después por el callback.
+     *
+     * @param onSelected Recibe el color elegido, en el hilo de JavaFX
+     */
+    public void show(Consumer<CardColor> onSelected) {
+        pending = onSelected;
+        toFront();
+        setVisible(true);
+    }
+
+    /**
+     * @return true si hay una elección de color en curso
+     */
+    public boolean isShowing() {
+        return isVisible();
+    }
+
+    private void select(CardColor color) {
+        Consumer<CardColor> callback = pending;
+        pending = null;
+        setVisible(false);
+        if (callback != null) {
+            callback.accept(color);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.uno.view;
+
+import com.uno.adapter.CardImageAdapter;
+import com.uno.model.Card;
+import com.uno.util.CardAtlas;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Dibuja una mano de cartas en un {@link HBox} de forma incremental.
+ * Compara la mano nueva con la dibujada y solo quita o inserta los nodos
+ * que cambiaron: las cartas que siguen en la mano conservan su
+ * {@link ImageView}, y las vistas que salen vuelven a un pool para la
+ * próxima carta. Así, jugar o robar una carta toca uno o dos nodos aunque
+ * la mano tenga veinte.
+ */
+public class HandRenderer {
+    private final HBox area;
+    private final double cardWidth;
+    private final double cardHeight;
+    private final String styleClass;          // null si las cartas no son interactivas
+    private final IntConsumer onCardClicked;  // Recibe el índice de la carta en la mano
+    private final List<Card> rendered = new ArrayList<>();  // Espejo de los nodos del HBox
+    private final Deque<ImageView> pool = new ArrayDeque<>();
+    private final CardAtlas atlas = CardAtlas.getInstance();
+
+    /**
+     * @param area Contenedor de la mano
+     * @param cardWidth Ancho de cada carta
+     * @param cardHeight Alto de cada carta
+     * @param styleClass Clase CSS de las cartas o null
+     * @param onCardClicked Acción al hacer clic en una carta o null
+     */
+    public HandRenderer(HBox area, double cardWidth, double cardHeight, String styleClass,
+                        IntConsumer onCardClicked) {
+        this.area = area;
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+        this.styleClass = styleClass;
+        this.onCardClicked = onCardClicked;
+    }
+
+    /**
+     * Actualiza la mano boca arriba. Recorre ambas listas en paralelo:
+     * si la carta dibujada coincide se conserva; si la siguiente dibujada es
+     * la buscada o sobran nodos, la carta dibujada salió de la mano; si no,
+     * se inserta la carta nueva. Las cartas son instancias canónicas, así
+     * que se comparan por identidad.
+     *
+     * @param cards Mano actual, en orden
+     */
+    public void render(List<Card> cards) {
+        ObservableList<Node> children = area.getChildren();
+        int j = 0;
+        while (j < cards.size()) {
+            Card wanted = cards.get(j);
+            if (j < rendered.size() && rendered.get(j) == wanted) {
+                setIndex((ImageView) children.get(j), j);
+                j++;
+            } else if (j < rendered.size()
+                    && (rendered.size() > cards.size()
+                        || j + 1 < rendered.size() && rendered.get(j + 1) == wanted)) {
+                release(j);
+            } else {
+                ImageView view = acquire(wanted);
+                setIndex(view, j);
+                rendered.add(j, wanted);
+                children.add(j, view);
+                j++;
+            }
+        }
+        while (rendered.size() > cards.size()) {
+            release(rendered.size() - 1);
+        }
+    }
+
+    /**
+     * Actualiza una mano boca abajo: solo importa cuántas cartas hay.
+     *
+     * @param count Número de cartas
+     */
+    public void renderBacks(int count) {
+        ObservableList<Node> children = area.getChildren();
+        while (rendered.size() < count) {
+            rendered.add(null);
+            children.add(acquire(null));
+        }
+        while (rendered.size() > count) {
+            release(rendered.size() - 1);
+        }
+    }
+
+    private ImageView acquire(Card card) {
+        ImageView view = pool.poll();
+        if (view == null) {
+            view = card != null ? CardImageAdapter.adapt(card) : new ImageView();
+            view.setFitWidth(cardWidth);
+            view.setFitHeight(cardHeight);
+            if (styleClass != null) {
+                view.getStyleClass().add(styleClass);
+            }
+            if (onCardClicked != null) {
+                ImageView target = view;
+                view.setOnMouseClicked(event -> onCardClicked.accept((Integer) target.getUserData()));
+            }
+        }
+        atlas.show(view, card);
+        return view;
+    }
+
+    private void release(int index) {
+        rendered.remove(index);
+        pool.push((ImageView) area.getChildren().remove(index));
+    }
+
+    /**
+     * Guarda en el nodo su posición en la mano; solo escribe si cambió.
+     */
+    private static void setIndex(ImageView view, int index) {
+        Object current = view.getUserData();
+        if (!(current instanceof Integer i) || i != index) {
+            view.setUserData(index);
+        }
+    }
+}
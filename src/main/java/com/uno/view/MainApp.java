@@ -2,42 +2,99 @@ package com.uno.view;
 
 
 import com.uno.controller.GameController;
+import com.uno.util.logging.GameLogger;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
+import javafx.application.Platform;
+import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * Punto de arranque de la aplicación JavaFX.
- * Carga la vista principal (FXML) y delega la lógica al {@link com.uno.controller.GameController}.
+ * Muestra una pantalla de carga, carga la vista principal (FXML) en segundo plano
+ * con {@link StartupLoader} y delega la lógica al {@link com.uno.controller.GameController}.
  *
  * @author Andres Barbosa , Natalia Cardona
  */
 public class MainApp extends Application {
 
-    @Override
-    public void start(Stage primaryStage) throws Exception {
-        // Cargar el archivo FXML de la vista del juego
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/uno/view/GameView.fxml"));
-        Parent root = loader.load();
+    private static final GameLogger LOG = GameLogger.getLogger(MainApp.class);
+    private static final double WIDTH = 1024;
+    private static final double HEIGHT = 768;
 
-        // Obtener el controlador y configurar la ventana principal
-        GameController controller = loader.getController();
-        controller.setPrimaryStage(primaryStage);
+    private GameController controller;
 
-        // Configurar la escena
-        Scene scene = new Scene(root,1024,768);
-        scene.getStylesheets().add(getClass().getResource("/com/uno/view/css/styles.css").toExternalForm());
+    @Override
+    public void start(Stage primaryStage) {
+        long start = System.nanoTime();
 
-        // Configurar el escenario
+        // Mostrar la pantalla de carga de inmediato y cargar el resto en segundo plano
         primaryStage.setTitle("UNO - Miniprojecto #3");
-        primaryStage.setScene(scene);
+        primaryStage.setScene(new Scene(createSplash(), WIDTH, HEIGHT));
         primaryStage.setResizable(true);
         primaryStage.show();
 
-        // Iniciar el juego
-        controller.initGame();
+        StartupLoader.loadAsync().whenComplete((assets, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                LOG.error("No se pudo iniciar el juego", error);
+                Platform.exit();
+                return;
+            }
+            // Configurar la escena
+            // La capa de color va encima de la vista principal, oculta hasta el primer comodín
+            Scene scene = new Scene(new StackPane(assets.gameRoot(), assets.colorOverlay()), WIDTH, HEIGHT);
+            scene.getStylesheets().add(assets.stylesheet());
+
+            // Obtener el controlador y configurar la ventana principal
+            controller = assets.controller();
+            controller.setPrimaryStage(primaryStage);
+            controller.setColorOverlay(assets.colorOverlay());
+            primaryStage.setScene(scene);
+
+            // Iniciar el juego
+            controller.initGame();
+            LOG.info("Arranque, primera pantalla jugable: " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }));
+    }
+
+    @Override
+    public void stop() {
+        // Liberar los hilos de la sesión de juego
+        if (controller != null) {
+            controller.shutdown();
+        }
+    }
+
+    /**
+     * Pantalla de carga: solo el logo y un indicador, sin FXML ni CSS para
+     * que se dibuje en el primer cuadro.
+     */
+    private Parent createSplash() {
+        VBox splash = new VBox(20);
+        splash.setAlignment(Pos.CENTER);
+        splash.setStyle("-fx-background-color: #1a6840;");
+        try (InputStream logo = getClass().getResourceAsStream("/images/logo.png")) {
+            if (logo != null) {
+                splash.getChildren().add(new ImageView(new Image(logo, 320, 0, true, true)));
+            }
+        } catch (IOException e) {
+            LOG.warn("No se pudo cargar el logo de la pantalla de carga");
+        }
+        Label loading = new Label("Cargando...");
+        loading.setTextFill(Color.WHITE);
+        splash.getChildren().addAll(new ProgressIndicator(), loading);
+        return splash;
     }
 
     /**
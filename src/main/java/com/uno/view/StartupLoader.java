@@ -0,0 +1,117 @@
+package com.uno.view;
+
+import com.uno.controller.ColorSelectionController;
+import com.uno.controller.GameController;
+import com.uno.util.CardAtlas;
+import com.uno.util.logging.GameLogger;
+import javafx.css.CssParser;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Carga en segundo plano todo lo que necesita la primera pantalla del juego
+ * mientras se muestra la pantalla de carga: el atlas de cartas, la vista
+ * principal, la hoja de estilos y el diálogo de color. Las fases corren en
+ * paralelo y cada una registra cuánto tardó.
+ * <p>
+ * Los nodos de JavaFX se pueden construir fuera del hilo de la interfaz
+ * mientras no pertenezcan a una ventana visible; la escena se arma después
+ * en el hilo de JavaFX con {@link Assets}.
+ */
+public final class StartupLoader {
+    static final String GAME_VIEW = "/com/uno/view/GameView.fxml";
+    static final String COLOR_VIEW = "/com/uno/view/ColorSelectionView.fxml";
+    static final String STYLESHEET = "/com/uno/view/css/styles.css";
+
+    private static final GameLogger LOG = GameLogger.getLogger(StartupLoader.class);
+    private static final int THREADS = 3;
+
+    private StartupLoader() { }
+
+    /**
+     * Recursos ya cargados, listos para armar la escena.
+     *
+     * @param gameRoot Raíz de la vista principal
+     * @param controller Controlador de la vista principal
+     * @param stylesheet URL externa de la hoja de estilos
+     * @param colorOverlay Capa de selección de color, oculta
+     */
+    public record Assets(Parent gameRoot, GameController controller, String stylesheet,
+                         ColorOverlay colorOverlay) { }
+
+    /**
+     * Lanza la carga. Los hilos se liberan al terminar.
+     *
+     * @return Futuro con los recursos; falla si no se pudo cargar alguna vista
+     */
+    public static CompletableFuture<Assets> loadAsync() {
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "uno-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Las imágenes van primero: la vista principal también usa el atlas
+        CompletableFuture<Void> images = CompletableFuture.runAsync(
+                () -> timed("imágenes", () -> { CardAtlas.preload(); return null; }), pool);
+        CompletableFuture<FXMLLoader> game = CompletableFuture.supplyAsync(
+                () -> timed("vista principal", () -> load(GAME_VIEW)), pool);
+        CompletableFuture<ColorOverlay> color = CompletableFuture.supplyAsync(
+                () -> timed("diálogo de color", () -> {
+                    FXMLLoader loader = load(COLOR_VIEW);
+                    return new ColorOverlay(loader.getRoot(), loader.<ColorSelectionController>getController());
+                }), pool);
+        CompletableFuture<String> css = CompletableFuture.supplyAsync(
+                () -> timed("hoja de estilos", StartupLoader::parseStylesheet), pool);
+
+        return CompletableFuture.allOf(images, game, color, css)
+                .thenApply(done -> new Assets(game.join().getRoot(), game.join().getController(), css.join(),
+                        color.join()))
+                .whenComplete((assets, error) -> pool.shutdown());
+    }
+
+    private static FXMLLoader load(String resource) {
+        FXMLLoader loader = new FXMLLoader(StartupLoader.class.getResource(resource));
+        try {
+            loader.load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cargar " + resource, e);
+        }
+        return loader;
+    }
+
+    /**
+     * Analiza la hoja de estilos una vez para cargar el analizador CSS y
+     * detectar errores antes de mostrar la ventana.
+     */
+    private static String parseStylesheet() {
+        URL url = StartupLoader.class.getResource(STYLESHEET);
+        if (url == null) {
+            throw new IllegalStateException("No se encontró la hoja de estilos: " + STYLESHEET);
+        }
+        try {
+            new CssParser().parse(url);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer " + STYLESHEET, e);
+        }
+        return url.toExternalForm();
+    }
+
+    private static <T> T timed(String phase, Supplier<T> work) {
+        long start = System.nanoTime();
+        T result = work.get();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        LOG.info("Arranque, " + phase + ": " + millis + " ms");
+        return result;
+    }
+}
@@ -10,15 +10,30 @@ class CardTest {
 
     @Test
     void sameColorIsPlayable() {
-        Card redFive   = new Card(CardColor.RED, 5);
-        Card redSkip   = new Card(CardColor.RED, CardType.SKIP);
+        Card redFive   = Card.of(CardColor.RED, 5);
+        Card redSkip   = Card.of(CardColor.RED, CardType.SKIP);
         assertTrue(redSkip.canPlayOn(redFive));
     }
 
     @Test
     void differentColorDifferentNumberNotPlayable() {
-        Card redFive   = new Card(CardColor.RED, 5);
-        Card blueSeven = new Card(CardColor.BLUE, 7);
+        Card redFive   = Card.of(CardColor.RED, 5);
+        Card blueSeven = Card.of(CardColor.BLUE, 7);
         assertFalse(blueSeven.canPlayOn(redFive));
     }
+
+    @Test
+    void cardsAreCanonicalInstances() {
+        assertSame(Card.of(CardColor.GREEN, 4), Card.of(CardColor.GREEN, 4));
+        assertSame(Card.of(CardColor.WILD, CardType.WILD), Card.standardDeck().get(48));
+        assertEquals(56, Card.standardDeck().size());
+    }
+
+    @Test
+    void activeColorComesFromGameStateNotFromCard() {
+        Card wild      = Card.of(CardColor.WILD, CardType.WILD);
+        Card blueSeven = Card.of(CardColor.BLUE, 7);
+        assertTrue(blueSeven.canPlayOn(wild, CardColor.BLUE));
+        assertFalse(blueSeven.canPlayOn(wild, CardColor.RED));
+    }
 }
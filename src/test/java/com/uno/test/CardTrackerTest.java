@@ -0,0 +1,96 @@
+package com.uno.test;
+
+import com.uno.model.Card;
+import com.uno.model.CardTracker;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.Player;
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.GameState;
+import com.uno.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardTrackerTest {
+
+    @Test
+    void unseenCardsMatchRivalHandsAndDrawPile() throws Exception {
+        for (long seed = 0; seed < 20; seed++) {
+            GameRandom random = new GameRandom(seed);
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 3; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+            Game game = new Game(players, new Deck(random.split(), Card.deckFor(3)));
+            CardTracker tracker = ((ComputerPlayer) players.get(0)).getTracker();
+            game.startGame();
+
+            // Con rebarajados incluidos, lo no visto es exactamente lo que el dueño no ve
+            for (int turn = 0; turn < 500 && game.getGameState() != GameState.GAME_OVER; turn++) {
+                int hidden = game.getDeck().size() + game.getPlayer(1).getHandSize() + game.getPlayer(2).getHandSize();
+                assertEquals(hidden, tracker.unseenCount(-1L));
+                for (Card own : game.getPlayer(0).getHand()) {
+                    // Las cartas de color son únicas: si la tiene el dueño, el rival no
+                    if (!own.getType().isWild()) {
+                        assertEquals(0, tracker.expectedCopies(1, own.getCode()), 1e-9);
+                    }
+                }
+                for (CardColor color : new CardColor[] {CardColor.RED, CardColor.BLUE}) {
+                    double p = tracker.probabilityHoldsColor(2, color);
+                    assertTrue(p >= 0 && p <= 1);
+                }
+                game.playAutomaticTurn();
+                game.checkUnoPenalty();
+            }
+        }
+    }
+
+    @Test
+    void unseenCardsAreCountedPerCopyWithTwoDecks() throws Exception {
+        for (long seed = 0; seed < 10; seed++) {
+            GameRandom random = new GameRandom(seed);
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 10; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+            Game game = new Game(players, new Deck(random.split(), Card.deckFor(10)));
+            CardTracker tracker = ((ComputerPlayer) players.get(0)).getTracker();
+            game.startGame();
+
+            for (int turn = 0; turn < 500 && game.getGameState() != GameState.GAME_OVER; turn++) {
+                int hidden = game.getDeck().size();
+                for (int seat = 1; seat < 10; seat++) hidden += game.getPlayer(seat).getHandSize();
+                assertEquals(hidden, tracker.unseenCount(-1L));
+                game.playAutomaticTurn();
+                game.checkUnoPenalty();
+            }
+        }
+    }
+
+    @Test
+    void drawingForNoPlayableCardIsEvidence() throws Exception {
+        for (long seed = 0; seed < 50; seed++) {
+            GameRandom random = new GameRandom(seed);
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 2; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+            Game game = new Game(players, new Deck(random.split(), Card.deckFor(2)));
+            CardTracker tracker = ((ComputerPlayer) players.get(0)).getTracker();
+            game.startGame();
+
+            for (int turn = 0; turn < 500 && game.getGameState() != GameState.GAME_OVER; turn++) {
+                boolean rivalTurn = game.getCurrentSeat() == 1;
+                double before = tracker.probabilityCanPlay(1);
+                int hand = game.getPlayer(1).getHandSize();
+                game.playAutomaticTurn();
+                if (rivalTurn && game.getPlayer(1).getHandSize() == hand + 1) {
+                    // Robó por no poder jugar: solo la carta robada puede servirle
+                    assertTrue(tracker.probabilityCanPlay(1) < before);
+                    return;
+                }
+                game.checkUnoPenalty();
+            }
+        }
+        fail("El rival nunca robó por no poder jugar");
+    }
+}
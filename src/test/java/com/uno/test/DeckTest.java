@@ -1,7 +1,12 @@
 package com.uno.test;
 
+import com.uno.model.Card;
 import com.uno.model.Deck;
+import com.uno.util.GameRandom;
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DeckTest {
@@ -20,4 +25,31 @@ class DeckTest {
         for (int i = 0; i < 51; i++) d.drawCard();
         assertThrows(Exception.class, d::drawCard);   // la siguiente debería fallar
     }
+
+    @Test
+    void drawCardsReshufflesDiscardPileOncePerBatch() throws Exception {
+        Deck d = new Deck(new GameRandom(3));
+        d.dealInitialHand(50);                                  // quedan 6 cartas
+        for (int i = 0; i < 4; i++) d.discard(d.drawCard());    // quedan 2, descarte 4
+
+        assertEquals(4, d.drawCards(4).size());
+        assertEquals(1, d.getReshuffleCount());
+        assertEquals(1, d.getDiscardPileSize());   // la carta superior se conserva
+        assertEquals(1, d.size());
+    }
+
+    @Test
+    void reinsertCardGoesBackIntoDrawPile() throws Exception {
+        Deck d = new Deck();
+        List<Card> hand = d.dealInitialHand(56);
+        d.reinsertCard(hand.get(0));
+        assertSame(hand.get(0), d.drawCard());
+    }
+
+    @Test
+    void sameSeedGivesSameShuffle() throws Exception {
+        Deck a = new Deck(new GameRandom(42));
+        Deck b = new Deck(new GameRandom(42));
+        assertEquals(a.dealInitialHand(56), b.dealInitialHand(56));
+    }
 }
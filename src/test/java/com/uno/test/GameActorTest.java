@@ -0,0 +1,63 @@
+package com.uno.test;
+
+import com.uno.model.Card;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.GameCommand;
+import com.uno.model.GameSnapshot;
+import com.uno.model.Player;
+import com.uno.model.enums.GameState;
+import com.uno.threads.GameActor;
+import com.uno.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameActorTest {
+
+    @Test
+    void manyGamesOnASharedPoolStayConsistentUnderConcurrentCommands() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        List<GameActor> actors = new ArrayList<>();
+        List<CompletableFuture<?>> floods = new ArrayList<>();
+        for (int g = 0; g < 4; g++) {
+            GameRandom random = new GameRandom(g);
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 3; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+            GameActor actor = new GameActor(new Game(players, new Deck(random.split(), Card.deckFor(3))), pool);
+            actor.submit(new GameCommand.Start()).get(5, TimeUnit.SECONDS);
+            actors.add(actor);
+
+            // Turnos y vencimientos de UNO llegan a la vez desde dos hilos distintos
+            List<Supplier<GameCommand>> commands = List.of(GameCommand.AutomaticTurn::new,
+                    () -> new GameCommand.UnoTimeout(actor.snapshot().unoWindow()));
+            for (Supplier<GameCommand> command : commands) {
+                floods.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 5_000 && actor.snapshot().state() != GameState.GAME_OVER; i++) {
+                        actor.submit(command.get()).join();
+                    }
+                }, writers));
+            }
+        }
+        CompletableFuture.allOf(floods.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+
+        for (GameActor actor : actors) {
+            GameSnapshot end = actor.snapshot();
+            assertEquals(GameState.GAME_OVER, end.state());
+            assertEquals(0, end.handSize(end.winnerSeat()));
+            assertTrue(end.version() > 1);
+        }
+        pool.shutdown();
+        writers.shutdown();
+    }
+}
@@ -0,0 +1,27 @@
+package com.uno.test;
+
+import com.uno.util.logging.GameLogger;
+import com.uno.util.logging.LogLevel;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoggerTest {
+
+    @Test
+    void disabledLevelNeverBuildsTheMessage() {
+        GameLogger log = GameLogger.getLogger(GameLoggerTest.class);
+        LogLevel previous = GameLogger.getLevel();
+        GameLogger.setLevel(LogLevel.INFO);
+        try {
+            boolean[] built = {false};
+            log.debug(() -> {
+                built[0] = true;
+                return "no debería construirse";
+            });
+            assertFalse(built[0]);
+            assertFalse(log.isDebugEnabled());
+        } finally {
+            GameLogger.setLevel(previous);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.uno.test;
+
+import com.uno.model.Card;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.Player;
+import com.uno.model.enums.GameState;
+import com.uno.persistence.GameSaveFile;
+import com.uno.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSaveFileTest {
+
+    private static Game midGame(long seed, int seats, int turns) throws Exception {
+        GameRandom random = new GameRandom(seed);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < seats; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+        Game game = new Game(players, new Deck(random.split(), Card.deckFor(seats)));
+        game.startGame();
+        for (int i = 0; i < turns && game.getGameState() != GameState.GAME_OVER; i++) {
+            game.playAutomaticTurn();
+        }
+        return game;
+    }
+
+    @Test
+    void savedGameLoadsWithTheSameState() throws Exception {
+        Game game = midGame(5, 3, 12);
+        Path file = Files.createTempFile("uno", ".unos");
+        GameSaveFile.save(game, file);
+        Game loaded = GameSaveFile.load(file, new GameRandom(1));
+
+        assertEquals(game.getGameState(), loaded.getGameState());
+        assertEquals(game.getCurrentSeat(), loaded.getCurrentSeat());
+        assertEquals(game.getDirection(), loaded.getDirection());
+        assertEquals(game.getTopCard(), loaded.getTopCard());
+        assertEquals(game.getActiveColor(), loaded.getActiveColor());
+        assertEquals(game.getUnoPendingSeat(), loaded.getUnoPendingSeat());
+        assertArrayEquals(game.getDeck().getDrawPile(), loaded.getDeck().getDrawPile());
+        assertArrayEquals(game.getDeck().getDiscardPile(), loaded.getDeck().getDiscardPile());
+        for (int seat = 0; seat < game.getSeatCount(); seat++) {
+            assertEquals(game.getPlayer(seat).getName(), loaded.getPlayer(seat).getName());
+            assertEquals(game.getPlayer(seat).getHand(), loaded.getPlayer(seat).getHand());
+            assertEquals(game.getPlayer(seat).hasCalledUno(), loaded.getPlayer(seat).hasCalledUno());
+        }
+
+        // La partida cargada se puede terminar
+        for (int i = 0; i < 10_000 && loaded.getGameState() != GameState.GAME_OVER; i++) {
+            loaded.playAutomaticTurn();
+            loaded.checkUnoPenalty();
+        }
+        assertEquals(0, loaded.getWinner().getHandSize());
+        Files.delete(file);
+    }
+
+    @Test
+    void damagedSaveIsRejected() throws Exception {
+        ByteBuffer encoded = GameSaveFile.encode(midGame(9, 2, 4));
+        encoded.put(20, (byte) (encoded.get(20) ^ 0x10));
+        assertThrows(IOException.class, () -> GameSaveFile.decode(encoded, new GameRandom(1)));
+    }
+}
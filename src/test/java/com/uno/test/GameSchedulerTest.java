@@ -0,0 +1,45 @@
+package com.uno.test;
+
+import com.uno.threads.GameScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSchedulerTest {
+
+    @Test
+    void scheduledActionRunsOnCallbackExecutor() throws InterruptedException {
+        AtomicInteger posted = new AtomicInteger();
+        GameScheduler scheduler = new GameScheduler(action -> {
+            posted.incrementAndGet();
+            action.run();
+        });
+        CountDownLatch done = new CountDownLatch(1);
+        scheduler.schedule(10, done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(1, posted.get());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void cancelAllDropsPendingActions() throws InterruptedException {
+        GameScheduler scheduler = new GameScheduler(Runnable::run);
+        AtomicInteger runs = new AtomicInteger();
+        GameScheduler.Handle handle = scheduler.schedule(50, runs::incrementAndGet);
+        scheduler.schedule(50, runs::incrementAndGet);
+        assertEquals(2, scheduler.pendingCount());
+
+        scheduler.cancelAll();
+        Thread.sleep(150);
+
+        assertTrue(handle.isCancelled());
+        assertEquals(0, runs.get());
+        assertEquals(0, scheduler.pendingCount());
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,116 @@
+package com.uno.test;
+
+import com.uno.model.Card;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.GameSnapshot;
+import com.uno.model.Moves;
+import com.uno.model.Player;
+import com.uno.model.enums.GameState;
+import com.uno.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    private static GameSnapshot startedSnapshot(long seed, int seats) throws Exception {
+        GameRandom random = new GameRandom(seed);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < seats; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+        Game game = new Game(players, new Deck(random.split(), Card.deckFor(seats)));
+        game.startGame();
+        return GameSnapshot.of(game, 0);
+    }
+
+    @Test
+    void applyLeavesTheOriginalUntouchedAndSharesUnchangedHands() throws Exception {
+        GameSnapshot before = startedSnapshot(7, 4);
+        int seat = before.currentSeat();
+        int handSize = before.handSize(seat);
+        int deckSize = before.deckSize();
+        Card top = before.topCard();
+
+        long moves = before.legalMoves();
+        GameSnapshot after = before.apply(Long.numberOfTrailingZeros(moves));
+
+        assertEquals(handSize, before.handSize(seat));
+        assertEquals(deckSize, before.deckSize());
+        assertSame(top, before.topCard());
+        assertEquals(before.version() + 1, after.version());
+        // Un comodín normal o una carta numérica solo cambian la mano de quien juega
+        int shared = 0;
+        for (int s = 0; s < before.seatCount(); s++) {
+            if (before.hand(s) == after.hand(s)) shared++;
+        }
+        assertTrue(shared >= before.seatCount() - 2);
+    }
+
+    @Test
+    void illegalMoveIsRejected() throws Exception {
+        GameSnapshot snapshot = startedSnapshot(3, 2);
+        long illegal = ~snapshot.legalMoves() & ((1L << Moves.MOVE_COUNT) - 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshot.apply(Long.numberOfTrailingZeros(illegal)));
+    }
+
+    @Test
+    void randomPlayoutEndsAndConservesCards() throws Exception {
+        GameRandom random = new GameRandom(11);
+        for (int seats = 2; seats <= 6; seats++) {
+            GameSnapshot snapshot = startedSnapshot(seats, seats);
+            int total = totalCards(snapshot);
+            for (int step = 0; step < 5_000 && snapshot.state() != GameState.GAME_OVER; step++) {
+                long moves = snapshot.legalMoves();
+                int n = random.nextInt(Long.bitCount(moves));
+                for (int i = 0; i < n; i++) moves &= moves - 1;
+                snapshot = snapshot.apply(Long.numberOfTrailingZeros(moves));
+                assertEquals(total, totalCards(snapshot));
+            }
+            assertEquals(GameState.GAME_OVER, snapshot.state());
+            assertEquals(0L, snapshot.legalMoves());
+        }
+    }
+
+    @Test
+    void incrementalSnapshotMatchesAFreshOneAndSharesWhatDidNotChange() throws Exception {
+        GameRandom random = new GameRandom(21);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+        Game game = new Game(players, new Deck(random.split(), Card.deckFor(4)));
+        game.startGame();
+        GameSnapshot previous = GameSnapshot.of(game, 0);
+        int shared = 0;
+        for (int turn = 1; turn < 2_000 && game.getGameState() != GameState.GAME_OVER; turn++) {
+            game.playAutomaticTurn();
+            game.checkUnoPenalty();
+            GameSnapshot incremental = GameSnapshot.of(game, turn, previous);
+            GameSnapshot fresh = GameSnapshot.of(game, turn);
+            assertEquals(fresh.deckSize(), incremental.deckSize());
+            assertEquals(fresh.discardSize(), incremental.discardSize());
+            assertSame(fresh.topCard(), incremental.topCard());
+            for (int s = 0; s < fresh.seatCount(); s++) {
+                assertEquals(fresh.hand(s).asList(), incremental.hand(s).asList());
+                if (incremental.hand(s) == previous.hand(s)) shared++;
+            }
+            // Robar desde ambas fotos saca la misma carta, aunque haya que rebarajar
+            if ((fresh.legalMoves() >>> Moves.DRAW & 1L) != 0) {
+                int seat = fresh.currentSeat();
+                assertEquals(fresh.apply(Moves.DRAW).hand(seat).asList(),
+                        incremental.apply(Moves.DRAW).hand(seat).asList());
+            }
+            previous = incremental;
+        }
+        assertTrue(shared > 0);
+    }
+
+    private static int totalCards(GameSnapshot snapshot) {
+        int total = snapshot.deckSize() + snapshot.discardSize();
+        for (int s = 0; s < snapshot.seatCount(); s++) total += snapshot.handSize(s);
+        return total;
+    }
+}
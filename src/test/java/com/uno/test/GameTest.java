@@ -2,7 +2,12 @@ package com.uno.test;
 
 import com.uno.model.*;
 import com.uno.model.enums.*;
+import com.uno.util.GameRandom;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameTest {
@@ -18,11 +23,11 @@ class GameTest {
         p2.addCards(deck.dealInitialHand(0));
 
         // Simula que p2 juega +2 sobre una carta top roja
-        Card top = new Card(CardColor.RED, 3);
-        Card plusTwo = new Card(CardColor.RED, CardType.DRAW_TWO);
+        Card top = Card.of(CardColor.RED, 3);
+        Card plusTwo = Card.of(CardColor.RED, CardType.DRAW_TWO);
 
         p2.addCard(plusTwo);
-        p2.playCard(0, top);              // debería ser legal
+        p2.playCard(0, top, CardColor.RED); // debería ser legal
 
         int before = p1.getHand().size();
         p1.addCard(deck.drawCard());
@@ -30,4 +35,103 @@ class GameTest {
 
         assertEquals(before + 2, p1.getHand().size());
     }
+
+    @Test
+    void automaticGameRunsHeadlessUntilSomeoneWins() throws Exception {
+        Game game = new Game(new ComputerPlayer(), new ComputerPlayer(), new Deck());
+        game.startGame();
+
+        for (int turn = 0; turn < 10_000 && game.getGameState() != GameState.GAME_OVER; turn++) {
+            game.playAutomaticTurn();
+            game.checkUnoPenalty();
+        }
+
+        assertEquals(GameState.GAME_OVER, game.getGameState());
+        assertTrue(game.getWinner().hasWon());
+    }
+
+    @Test
+    void turnRingSkipsAndReversesWithIndexArithmetic() {
+        TurnRing ring = new TurnRing(List.of(new ComputerPlayer(), new ComputerPlayer(),
+                new ComputerPlayer(), new ComputerPlayer()));
+
+        ring.advance(2);                    // Skip desde el asiento 0
+        assertEquals(2, ring.current());
+        ring.reverse();
+        ring.advance(1);
+        assertEquals(1, ring.current());
+        assertEquals(3, ring.seatAfter(0, 1));
+    }
+
+    @Test
+    void multiSeatGameRunsHeadlessUntilSomeoneWins() throws Exception {
+        GameRandom random = new GameRandom(5);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 6; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+        Game game = new Game(players, new Deck(random.split(), Card.deckFor(players.size())));
+        game.startGame();
+
+        for (int turn = 0; turn < 10_000 && game.getGameState() != GameState.GAME_OVER; turn++) {
+            game.playAutomaticTurn();
+            game.checkUnoPenalty();
+        }
+
+        assertEquals(GameState.GAME_OVER, game.getGameState());
+        assertTrue(game.getWinner().hasWon());
+    }
+
+    @Test
+    void drawTwoDealsWhatIsLeftAndPassesTheTurn() throws Exception {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++) players.add(new ComputerPlayer("Bot " + i, new GameRandom(i)));
+        players.get(0).restoreHand(List.of(Card.of(CardColor.RED, CardType.DRAW_TWO), Card.of(CardColor.BLUE, 9)), false);
+        players.get(1).restoreHand(List.of(Card.of(CardColor.BLUE, 1)), false);
+        players.get(2).restoreHand(List.of(Card.of(CardColor.GREEN, 2), Card.of(CardColor.GREEN, 3)), false);
+        // Pila de robo vacía: al rebarajar solo vuelve el 3 rojo
+        Deck deck = new Deck(new GameRandom(1), Card.deckFor(3), new Card[0],
+                new Card[] {Card.of(CardColor.RED, 3)});
+        Game game = Game.restore(players, deck, GameState.PLAYER_TURN, 0, 1, CardColor.RED, -1, -1);
+
+        game.playAutomaticTurn();
+
+        assertEquals(Card.of(CardColor.RED, CardType.DRAW_TWO), game.getTopCard());
+        assertEquals(2, game.getPlayer(1).getHandSize());
+        assertEquals(2, game.getCurrentSeat());
+        assertEquals(GameState.COMPUTER_TURN, game.getGameState());
+        assertEquals(0, deck.size());
+    }
+
+    @Test
+    void unoTimeoutOfAClosedWindowIsIgnored() throws Exception {
+        // Las computadoras casi siempre declaran UNO: se buscan dos ventanas en varias partidas
+        for (long seed = 0; seed < 200; seed++) {
+            GameRandom random = new GameRandom(seed);
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 4; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+            Game game = new Game(players, new Deck(random.split(), Card.deckFor(players.size())));
+            game.startGame();
+
+            // Cierra la primera ventana y espera a que se abra otra
+            int first = -1;
+            for (int turn = 0; turn < 10_000 && game.getGameState() != GameState.GAME_OVER; turn++) {
+                game.playAutomaticTurn();
+                if (game.getUnoPendingSeat() < 0) {
+                    continue;
+                }
+                if (first < 0) {
+                    first = game.getUnoWindow();
+                    assertTrue(new GameCommand.UnoTimeout(first).applyTo(game));
+                    assertEquals(-1, game.getUnoPendingSeat());
+                    continue;
+                }
+                int pending = game.getUnoPendingSeat();
+                assertFalse(new GameCommand.UnoTimeout(first).applyTo(game));
+                assertEquals(pending, game.getUnoPendingSeat());
+                assertTrue(new GameCommand.UnoTimeout(game.getUnoWindow()).applyTo(game));
+                assertEquals(-1, game.getUnoPendingSeat());
+                return;
+            }
+        }
+        fail("Ninguna partida abrió dos ventanas de UNO");
+    }
 }
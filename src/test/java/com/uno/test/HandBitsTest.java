@@ -0,0 +1,72 @@
+package com.uno.test;
+
+import com.uno.model.Card;
+import com.uno.model.HandBits;
+import com.uno.model.enums.CardColor;
+import com.uno.model.enums.CardType;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandBitsTest {
+
+    @Test
+    void wildsAreCountedAndColoredCardsAreBits() {
+        HandBits hand = new HandBits();
+        hand.add(Card.of(CardColor.WILD, CardType.WILD).getCode());
+        hand.add(Card.of(CardColor.WILD, CardType.WILD).getCode());
+        hand.add(Card.of(CardColor.RED, 3).getCode());
+
+        assertEquals(3, hand.size());
+        assertEquals(2, hand.count(Card.of(CardColor.WILD, CardType.WILD).getCode()));
+        assertEquals(CardColor.RED, hand.dominantColor());
+
+        hand.remove(Card.of(CardColor.RED, 3).getCode());
+        assertFalse(hand.contains(Card.of(CardColor.RED, 3).getCode()));
+        assertNull(hand.dominantColor());
+    }
+
+    @Test
+    void coloredCardsFromTwoDecksAreCountedTwice() {
+        int redThree = Card.of(CardColor.RED, 3).getCode();
+        HandBits hand = new HandBits();
+        hand.add(redThree);
+        hand.add(redThree);
+
+        assertEquals(2, hand.size());
+        assertEquals(2, hand.count(redThree));
+        assertEquals(2, hand.countColor(CardColor.RED));
+
+        // Al quitar una copia la otra sigue en la mano
+        hand.remove(redThree);
+        assertEquals(1, hand.count(redThree));
+        assertEquals(0, hand.repeatedMask());
+        hand.remove(redThree);
+        assertFalse(hand.contains(redThree));
+    }
+
+    @Test
+    void playableMaskMatchesUnoRulesForEveryCombination() {
+        for (Card top : Card.deckFor(3)) {
+            for (CardColor active : CardColor.values()) {
+                for (Card card : Card.deckFor(3)) {
+                    HandBits hand = new HandBits();
+                    hand.add(card.getCode());
+                    boolean byMask = hand.playableMask(top.getCode(), active) != 0;
+                    assertEquals(followsRules(card, top, active), byMask, card + " sobre " + top);
+                    assertEquals(byMask, card.canPlayOn(top, active), card + " sobre " + top);
+                }
+            }
+        }
+    }
+
+    /** Reglas escritas de forma directa, como referencia para la tabla precalculada. */
+    private static boolean followsRules(Card card, Card top, CardColor active) {
+        if (card.getType().isWild() || card.getColor() == active) {
+            return true;
+        }
+        if (card.getType() == CardType.NUMBER) {
+            return top.getType() == CardType.NUMBER && card.getNumber() == top.getNumber();
+        }
+        return card.getType() == top.getType();
+    }
+}
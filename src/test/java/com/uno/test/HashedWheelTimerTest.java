@@ -0,0 +1,52 @@
+package com.uno.test;
+
+import com.uno.threads.HashedWheelTimer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+
+    @Test
+    void timeoutsBeyondOneRoundFireInDeadlineOrder() throws InterruptedException {
+        // 8 ranuras de 5 ms: una vuelta son 40 ms, así que 90 ms necesita dos vueltas
+        HashedWheelTimer timer = new HashedWheelTimer(5, 8);
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        for (int delay : new int[] {90, 10, 45}) {
+            timer.newTimeout(delay, TimeUnit.MILLISECONDS, Runnable::run, () -> {
+                fired.add(delay);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(10, 45, 90), fired);
+        assertEquals(0, timer.pendingTimeouts());
+        timer.stop();
+    }
+
+    @Test
+    void cancelledTimeoutNeverReachesItsExecutor() throws InterruptedException {
+        HashedWheelTimer timer = new HashedWheelTimer(5, 8);
+        AtomicInteger delivered = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+        HashedWheelTimer.Timeout cancelled = timer.newTimeout(20, TimeUnit.MILLISECONDS,
+                task -> delivered.incrementAndGet(), () -> { });
+        timer.newTimeout(60, TimeUnit.MILLISECONDS, Runnable::run, later::countDown);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertTrue(cancelled.isCancelled());
+        assertEquals(0, delivered.get());
+        assertEquals(0, timer.pendingTimeouts());
+        timer.stop();
+    }
+}
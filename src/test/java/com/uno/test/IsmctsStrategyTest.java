@@ -0,0 +1,35 @@
+package com.uno.test;
+
+import com.uno.model.*;
+import com.uno.model.ai.IsmctsStrategy;
+import com.uno.model.enums.GameState;
+import com.uno.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsmctsStrategyTest {
+
+    @Test
+    void searchOnlyMakesLegalMovesUntilTheGameEnds() throws Exception {
+        GameRandom random = new GameRandom(11);
+        IsmctsStrategy strategy = new IsmctsStrategy(1_000, 2, 200, random.split());
+        ComputerPlayer searcher = new ComputerPlayer("ISMCTS", random.split());
+        searcher.setStrategy(strategy);
+        List<Player> players = List.of(new ComputerPlayer("Prioridades", random.split()), searcher,
+                new ComputerPlayer("Prioridades 2", random.split()));
+        Game game = new Game(players, new Deck(random.split(), Card.deckFor(players.size())));
+        game.startGame();
+
+        // Una jugada ilegal lanzaría InvalidCardPlayException
+        for (int turn = 0; turn < 10_000 && game.getGameState() != GameState.GAME_OVER; turn++) {
+            game.playAutomaticTurn();
+            game.checkUnoPenalty();
+        }
+        strategy.shutdown();
+
+        assertEquals(GameState.GAME_OVER, game.getGameState());
+    }
+}
@@ -0,0 +1,129 @@
+package com.uno.test;
+
+import com.uno.exceptions.EmptyDeckException;
+import com.uno.model.Card;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.GameListener;
+import com.uno.model.Player;
+import com.uno.model.enums.CardType;
+import com.uno.model.enums.GameState;
+import com.uno.persistence.GameJournal;
+import com.uno.persistence.JournalReplayer;
+import com.uno.persistence.ReplayedGame;
+import com.uno.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalReplayerTest {
+
+    private static Game playBotGame(long seed, int seats, GameJournal journal) {
+        GameRandom random = new GameRandom(seed);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < seats; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+        Game game = new Game(players, new Deck(random.split(), Card.deckFor(seats)));
+        journal.attach(game);
+        try {
+            game.startGame();
+            for (int turn = 0; turn < 10_000 && game.getGameState() != GameState.GAME_OVER; turn++) {
+                game.playAutomaticTurn();
+                game.checkUnoPenalty();
+            }
+        } catch (EmptyDeckException e) {
+            // Partida sin cartas para robar; el diario queda igual de válido
+        }
+        return game;
+    }
+
+    @Test
+    void replayRebuildsEveryGameOfTheJournal() throws Exception {
+        Path file = Files.createTempFile("uno", ".unoj");
+        List<Game> games = new ArrayList<>();
+        try (GameJournal journal = GameJournal.open(file)) {
+            for (int g = 0; g < 20; g++) games.add(playBotGame(g, 2 + g % 4, journal));
+            // Uno o dos bytes por evento, más la cabecera
+            assertTrue(Files.size(file) <= 5 + 2 * journal.recordCount());
+        }
+
+        List<ReplayedGame> replayed = new ArrayList<>();
+        assertEquals(20, JournalReplayer.replayAll(file, replayed::add));
+        for (int g = 0; g < games.size(); g++) {
+            Game game = games.get(g);
+            ReplayedGame copy = replayed.get(g);
+            assertEquals(game.getTopCard(), copy.getTopCard());
+            assertEquals(game.getActiveColor(), copy.getActiveColor());
+            assertEquals(game.getCurrentSeat(), copy.getCurrentSeat());
+            assertEquals(game.getDirection(), copy.getDirection());
+            for (int seat = 0; seat < game.getSeatCount(); seat++) {
+                assertEquals(game.getPlayer(seat).getHand(), copy.getHand(seat));
+            }
+        }
+        Files.delete(file);
+    }
+
+    @Test
+    void replayStopsAtAnyRecord() throws Exception {
+        Path file = Files.createTempFile("uno", ".unoj");
+        try (GameJournal journal = GameJournal.open(file)) {
+            playBotGame(1, 3, journal);
+            playBotGame(2, 3, journal);
+        }
+
+        ReplayedGame dealt = JournalReplayer.replay(file, 1, 3 * 5 + 1);
+        for (int seat = 0; seat < 3; seat++) assertEquals(5, dealt.getHand(seat).size());
+        assertNotNull(dealt.getTopCard());
+        assertEquals(GameState.NOT_STARTED, dealt.getGameState());
+        Files.delete(file);
+    }
+
+    @Test
+    void winningReverseKeepsTheDirection() throws Exception {
+        // Busca una partida que termine con una Reversa: el motor no aplica su efecto
+        for (long seed = 0; seed < 500; seed++) {
+            Path file = Files.createTempFile("uno", ".unoj");
+            Game game;
+            Card[] last = new Card[1];
+            try (GameJournal journal = GameJournal.open(file)) {
+                GameRandom random = new GameRandom(seed);
+                List<Player> players = new ArrayList<>();
+                for (int i = 0; i < 3; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+                game = new Game(players, new Deck(random.split(), Card.deckFor(3)));
+                journal.attach(game);
+                game.addListener(new GameListener() {
+                    @Override
+                    public void onCardPlayed(Player player, Card card) {
+                        last[0] = card;
+                    }
+                });
+                try {
+                    game.startGame();
+                    for (int turn = 0; turn < 10_000 && game.getGameState() != GameState.GAME_OVER; turn++) {
+                        game.playAutomaticTurn();
+                        game.checkUnoPenalty();
+                    }
+                } catch (EmptyDeckException e) {
+                    // Sin ganador: no sirve para esta prueba
+                }
+            }
+            if (game.getGameState() != GameState.GAME_OVER || last[0].getType() != CardType.REVERSE) {
+                Files.delete(file);
+                continue;
+            }
+
+            List<ReplayedGame> replayed = new ArrayList<>();
+            JournalReplayer.replayAll(file, replayed::add);
+            assertEquals(game.getDirection(), replayed.get(0).getDirection());
+            assertEquals(game.getCurrentSeat(), replayed.get(0).getCurrentSeat());
+            Files.delete(file);
+            return;
+        }
+        fail("Ninguna partida terminó con una Reversa");
+    }
+}
@@ -0,0 +1,26 @@
+package com.uno.test;
+
+import com.uno.simulation.SimulationResult;
+import com.uno.simulation.SimulationRunner;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    @Test
+    void sameSeedGivesSameResultRegardlessOfThreads() {
+        SimulationResult single = new SimulationRunner(7L, 1).run(600);
+        SimulationResult parallel = new SimulationRunner(7L, 4).run(600);
+
+        assertTrue(single.sameOutcome(parallel));
+        assertEquals(600, single.getWins(0) + single.getWins(1) + single.getUnfinishedGames());
+    }
+
+    @Test
+    void tenSeatTablesUseTwoDecksAndMostGamesFinish() {
+        SimulationResult result = new SimulationRunner(3L, 4, 10).run(200);
+
+        // Con un solo mazo el reparto se lleva 50 de 60 cartas y casi ninguna partida termina
+        assertTrue(result.getUnfinishedGames() < result.getGames() / 10, result.toString());
+    }
+}
@@ -0,0 +1,115 @@
+package com.uno.test;
+
+import com.uno.model.Card;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.Player;
+import com.uno.model.enums.GameState;
+import com.uno.persistence.FsyncPolicy;
+import com.uno.persistence.GameSaveFile;
+import com.uno.persistence.WriteAheadLog;
+import com.uno.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAheadLogTest {
+
+    private static Game newGame(long seed) {
+        GameRandom random = new GameRandom(seed);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+        return new Game(players, new Deck(random.split(), Card.deckFor(3)));
+    }
+
+    private static void play(Game game, WriteAheadLog.TableLog table, int turns) throws Exception {
+        game.startGame();
+        table.commit().join();
+        for (int i = 0; i < turns && game.getGameState() != GameState.GAME_OVER; i++) {
+            game.playAutomaticTurn();
+            game.checkUnoPenalty();
+            table.commit().join();
+        }
+    }
+
+    @Test
+    void openGamesAreRecoveredAtTheirLastMove() throws Exception {
+        Path dir = Files.createTempDirectory("uno-wal");
+        List<Game> games = new ArrayList<>();
+        // Pocos puntos de control y segmentos pequeños: se reaplican jugadas y se rota
+        try (WriteAheadLog wal = WriteAheadLog.open(dir, FsyncPolicy.batched(8), 1_000, 4_096)) {
+            for (int id = 0; id < 4; id++) {
+                Game game = newGame(id);
+                // Ninguna de estas partidas termina antes de 27 turnos
+                play(game, wal.attach(id, game), 20 + id * 2);
+                assertNotEquals(GameState.GAME_OVER, game.getGameState());
+                games.add(game);
+            }
+            Game finished = newGame(99);
+            play(finished, wal.attach(4, finished), 10_000);
+            assertEquals(GameState.GAME_OVER, finished.getGameState());
+            assertTrue(wal.stats().syncs() > 0);
+        }
+
+        try (WriteAheadLog wal = WriteAheadLog.open(dir, FsyncPolicy.perMove())) {
+            assertEquals(4, wal.recoveredGames().size());
+            for (int id = 0; id < 4; id++) {
+                Game recovered = wal.recoveredGames().get(id);
+                assertEquals(GameSaveFile.encode(games.get(id)), GameSaveFile.encode(recovered));
+            }
+        }
+    }
+
+    @Test
+    void recoveredGameWithoutATableSurvivesRotation() throws Exception {
+        Path dir = Files.createTempDirectory("uno-wal");
+        Game dormant = newGame(0);
+        try (WriteAheadLog wal = WriteAheadLog.open(dir, FsyncPolicy.perMove())) {
+            play(dormant, wal.attach(0, dormant), 20);
+        }
+        assertNotEquals(GameState.GAME_OVER, dormant.getGameState());
+
+        // La partida 0 se recupera pero nadie la retoma; la 1 rota segmentos pequeños
+        try (WriteAheadLog wal = WriteAheadLog.open(dir, FsyncPolicy.perMove(), 1, 1_024)) {
+            Game game = newGame(1);
+            play(game, wal.attach(1, game), 30);
+            assertNotEquals(GameState.GAME_OVER, game.getGameState());
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().equals("wal-0000000000000001.log")));
+        }
+
+        try (WriteAheadLog wal = WriteAheadLog.open(dir, FsyncPolicy.perMove())) {
+            assertEquals(2, wal.recoveredGames().size());
+            assertEquals(GameSaveFile.encode(dormant), GameSaveFile.encode(wal.recoveredGames().get(0)));
+        }
+    }
+
+    @Test
+    void tornTailIsIgnored() throws Exception {
+        Path dir = Files.createTempDirectory("uno-wal");
+        Game game = newGame(7);
+        try (WriteAheadLog wal = WriteAheadLog.open(dir, FsyncPolicy.every(5))) {
+            play(game, wal.attach(1, game), 5);
+        }
+        assertNotEquals(GameState.GAME_OVER, game.getGameState());
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.max(Path::compareTo).orElseThrow();
+        }
+        // Una entrada a medio escribir: longitud 200 pero solo unos bytes
+        Files.write(segment, new byte[] {0, 0, 0, (byte) 200, 2, 0, 0, 0, 1, 5}, StandardOpenOption.APPEND);
+
+        try (WriteAheadLog wal = WriteAheadLog.open(dir, FsyncPolicy.perMove())) {
+            assertEquals(GameSaveFile.encode(game), GameSaveFile.encode(wal.recoveredGames().get(1)));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.uno.test;
+
+import com.uno.model.Card;
+import com.uno.model.CardCodes;
+import com.uno.model.ComputerPlayer;
+import com.uno.model.Deck;
+import com.uno.model.Game;
+import com.uno.model.Player;
+import com.uno.model.enums.GameState;
+import com.uno.persistence.GameSaveFile;
+import com.uno.util.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+
+    private static Game newGame(long seed) {
+        GameRandom random = new GameRandom(seed);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++) players.add(new ComputerPlayer("Bot " + i, random.split()));
+        return new Game(players, new Deck(random.split(), Card.deckFor(3)));
+    }
+
+    @Test
+    void incrementalHashMatchesAFreshComputation() throws Exception {
+        Game game = newGame(11);
+        game.startGame();
+        for (int i = 0; i < 30 && game.getGameState() != GameState.GAME_OVER; i++) {
+            game.playAutomaticTurn();
+            game.checkUnoPenalty();
+            // La partida cargada calcula los hashes desde cero
+            Game loaded = GameSaveFile.decode(GameSaveFile.encode(game), new GameRandom(1));
+            assertEquals(loaded.getZobristHash(), game.getZobristHash());
+            for (int seat = 0; seat < game.getSeatCount(); seat++) {
+                assertEquals(loaded.getInformationHash(seat), game.getInformationHash(seat));
+            }
+        }
+    }
+
+    @Test
+    void hashChangesWithTheVisibleState() throws Exception {
+        Game game = newGame(3);
+        game.startGame();
+        long before = game.getZobristHash();
+        long seatZero = game.getInformationHash(0);
+        game.getPlayer(1).addCard(Card.fromCode(CardCodes.WILD));
+        assertNotEquals(before, game.getZobristHash());
+        // Otro jugador ve solo que su mano creció
+        assertNotEquals(seatZero, game.getInformationHash(0));
+    }
+}